@@ -277,6 +277,26 @@ public class Connection {
         return result;
     }
 
+    /**
+     * Reads and closes the remaining response, so that the underlying connection is kept alive and reused by the
+     * next request to the same host instead of opening a new TLS connection.
+     */
+    private void discardResponse(HttpsURLConnection connection) {
+        try {
+            InputStream input = connection.getResponseCode() < 400 ? connection.getInputStream()
+                    : connection.getErrorStream();
+            if (input != null) {
+                byte[] buffer = new byte[1024];
+                while (input.read(buffer) >= 0) {
+                    // discard
+                }
+                input.close();
+            }
+        } catch (IOException e) {
+            logger.trace("Discarding response failed", e);
+        }
+    }
+
     public String makeRequestAndReturnString(String url) throws IOException, URISyntaxException {
         return makeRequestAndReturnString("GET", url, null, false, null);
     }
@@ -314,16 +334,18 @@ public class Connection {
                 // add cookies
                 URI uri = connection.getURL().toURI();
 
+                // newest cookie first, as sent by previous versions
                 StringBuilder cookieHeaderBuilder = new StringBuilder();
-                for (HttpCookie cookie : cookieManager.getCookieStore().get(uri)) {
+                List<HttpCookie> requestCookies = cookieManager.getCookieStore().get(uri);
+                for (int cookieIndex = requestCookies.size() - 1; cookieIndex >= 0; cookieIndex--) {
+                    HttpCookie cookie = requestCookies.get(cookieIndex);
                     if (cookieHeaderBuilder.length() > 0) {
-                        cookieHeaderBuilder.insert(0, "; ");
+                        cookieHeaderBuilder.append("; ");
                     }
-                    cookieHeaderBuilder.insert(0, cookie);
+                    cookieHeaderBuilder.append(cookie);
                     if (cookie.getName().equals("csrf")) {
                         connection.setRequestProperty("csrf", cookie.getValue());
                     }
-
                 }
                 if (cookieHeaderBuilder.length() > 0) {
                     connection.setRequestProperty("Cookie", cookieHeaderBuilder.toString());
@@ -392,6 +414,7 @@ public class Connection {
                     logger.debug("Redirected to {}", location);
                     currentUrl = location;
                     if (autoredirect) {
+                        discardResponse(connection);
                         continue;
                     }
                     return connection;
@@ -401,6 +424,7 @@ public class Connection {
                 throw e;
             }
             if (code != 200) {
+                discardResponse(connection);
                 throw new HttpException(code, verb + " url '" + url + "' failed: " + connection.getResponseMessage());
             }
         }
@@ -18,12 +18,19 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.storage.Storage;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -58,7 +65,16 @@ import com.google.gson.JsonSyntaxException;
 @NonNullByDefault
 public class AccountHandler extends BaseBridgeHandler {
 
+    // maximum number of devices whose player state is requested at the same time
+    private static final int MAX_PARALLEL_DEVICE_REFRESH = 4;
+    // the player state of devices which are neither playing nor paused is only requested every n-th refresh
+    private static final int INACTIVE_DEVICE_REFRESH_CYCLES = 4;
+    private static final long DEVICE_REFRESH_TIMEOUT_SECONDS = 60;
+
     private final Logger logger = LoggerFactory.getLogger(AccountHandler.class);
+    private final ExecutorService devicePool = ThreadPoolManager.getPool("amazonechocontrol");
+    private final Semaphore deviceRefreshPermits = new Semaphore(MAX_PARALLEL_DEVICE_REFRESH);
+    private final AtomicInteger refreshCycle = new AtomicInteger();
     private Storage<String> stateStorage;
     private @Nullable Connection connection;
     private final Set<EchoHandler> echoHandlers = new HashSet<>();
@@ -122,7 +138,8 @@ public class AccountHandler extends BaseBridgeHandler {
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_PENDING, "Wait for login");
 
         refreshLogin = scheduler.scheduleWithFixedDelay(this::checkLogin, 0, 60, TimeUnit.SECONDS);
-        refreshJob = scheduler.scheduleWithFixedDelay(this::refreshData, 4, pollingIntervalInSeconds, TimeUnit.SECONDS);
+        refreshJob = scheduler.scheduleWithFixedDelay(() -> refreshData(false), 4, pollingIntervalInSeconds,
+                TimeUnit.SECONDS);
 
         logger.debug("amazon account bridge handler started.");
     }
@@ -131,7 +148,7 @@ public class AccountHandler extends BaseBridgeHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
         logger.trace("Command '{}' received for channel '{}'", command, channelUID);
         if (command instanceof RefreshType) {
-            refreshData();
+            refreshData(true);
         }
     }
 
@@ -366,9 +383,16 @@ public class AccountHandler extends BaseBridgeHandler {
         handleValidLogin();
     }
 
-    private void refreshData() {
+    /**
+     * Refreshes the account data and the state of all echo devices
+     *
+     * @param force true to refresh the player state of all devices, false to skip inactive devices in most cycles,
+     *            unless their activity changed
+     */
+    private void refreshData(boolean force) {
         try {
             logger.debug("refreshing data {}", getThing().getUID().getAsString());
+            long startTime = System.nanoTime();
 
             // check if logged in
             Connection currentConnection = null;
@@ -395,19 +419,37 @@ public class AccountHandler extends BaseBridgeHandler {
             }
 
             // forward device information to echo handler
-            for (EchoHandler child : echoHandlers) {
+            boolean refreshInactive = force
+                    || refreshCycle.getAndIncrement() % INACTIVE_DEVICE_REFRESH_CYCLES == 0;
+            List<EchoHandler> children;
+            synchronized (echoHandlers) {
+                children = new ArrayList<>(echoHandlers);
+            }
+            List<CompletableFuture<Void>> updates = new ArrayList<>();
+            int skipped = 0;
+            for (EchoHandler child : children) {
                 Device device = findDeviceJson(child);
                 BluetoothState state = null;
                 if (states != null) {
                     state = states.findStateByDevice(device);
                 }
-                child.updateState(device, state);
+                if (device == null || !device.online) {
+                    // only updates the thing status, no request to the amazon server
+                    child.updateState(device, state);
+                } else if (child.needsRefresh(state) || refreshInactive) {
+                    updates.add(updateStateAsync(child, device, state));
+                } else {
+                    skipped++;
+                }
             }
+            waitForUpdates(updates);
 
             // update account state
             updateStatus(ThingStatus.ONLINE);
 
-            logger.debug("refresh data {} finished", getThing().getUID().getAsString());
+            logger.debug("refresh data {} finished in {} ms, {} devices refreshed, {} inactive devices skipped",
+                    getThing().getUID().getAsString(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+                    updates.size(), skipped);
         } catch (HttpException | JsonSyntaxException | ConnectionException e) {
             logger.debug("refresh data fails {}", e);
         } catch (Exception e) { // this handler can be removed later, if we know that nothing else can fail.
@@ -415,6 +457,50 @@ public class AccountHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Requests the player state of the device on the device pool, with at most {@link #MAX_PARALLEL_DEVICE_REFRESH}
+     * devices requested at the same time
+     */
+    private CompletableFuture<Void> updateStateAsync(EchoHandler child, Device device,
+            @Nullable BluetoothState state) {
+        try {
+            deviceRefreshPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CompletableFuture<Void> interrupted = new CompletableFuture<>();
+            interrupted.completeExceptionally(e);
+            return interrupted;
+        }
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    child.updateState(device, state);
+                } finally {
+                    deviceRefreshPermits.release();
+                }
+            }, devicePool);
+        } catch (RuntimeException e) {
+            deviceRefreshPermits.release();
+            throw e;
+        }
+    }
+
+    private void waitForUpdates(List<CompletableFuture<Void>> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(updates.toArray(new CompletableFuture<?>[updates.size()]))
+                    .get(DEVICE_REFRESH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.info("refresh device fails: {}", e.getCause());
+        } catch (TimeoutException e) {
+            logger.info("refresh devices did not finish within {} seconds", DEVICE_REFRESH_TIMEOUT_SECONDS);
+        }
+    }
+
     public @Nullable Device findDeviceJson(EchoHandler echoHandler) {
         String serialNumber = echoHandler.findSerialNumber();
         return findDeviceJson(serialNumber);
@@ -71,8 +71,10 @@ public class EchoHandler extends BaseThingHandler {
     private @Nullable String lastKnownBluetoothMAC;
     private @Nullable String lastKnownAmazonMusicId;
     private String musicProviderId = "TUNEIN";
-    private boolean isPlaying = false;
-    private boolean isPaused = false;
+    private volatile boolean isPlaying = false;
+    private volatile boolean isPaused = false;
+    private volatile boolean activityChanged = false;
+    private @Nullable String lastSeenBluetoothMAC;
     private int lastKnownVolume = 25;
     private @Nullable BluetoothState bluetoothState;
     private boolean disableUpdate = false;
@@ -154,6 +156,42 @@ public class EchoHandler extends BaseThingHandler {
         return this.device;
     }
 
+    /**
+     * Returns true if the device was playing or paused at its last update
+     */
+    public boolean isActive() {
+        return isPlaying || isPaused;
+    }
+
+    /**
+     * Returns true if the player state must be refreshed in the current cycle, because the device is active, its
+     * activity changed at the last update or its connected bluetooth device changed since the last cycle
+     *
+     * @param bluetoothState the bluetooth state of the current cycle
+     */
+    public synchronized boolean needsRefresh(@Nullable BluetoothState bluetoothState) {
+        String bluetoothMAC = findConnectedBluetoothMAC(bluetoothState);
+        boolean bluetoothChanged = bluetoothState != null && !StringUtils.equals(bluetoothMAC, lastSeenBluetoothMAC);
+        if (bluetoothState != null) {
+            lastSeenBluetoothMAC = bluetoothMAC;
+        }
+        return isActive() || activityChanged || bluetoothChanged;
+    }
+
+    private static @Nullable String findConnectedBluetoothMAC(@Nullable BluetoothState bluetoothState) {
+        if (bluetoothState != null) {
+            PairedDevice[] pairedDeviceList = bluetoothState.pairedDeviceList;
+            if (pairedDeviceList != null) {
+                for (PairedDevice paired : pairedDeviceList) {
+                    if (paired != null && paired.connected && paired.address != null) {
+                        return paired.address;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
     public String findSerialNumber() {
         String id = (String) getConfig().get(DEVICE_PROPERTY_SERIAL_NUMBER);
         if (id == null) {
@@ -602,11 +640,14 @@ public class EchoHandler extends BaseThingHandler {
             logger.info("getMediaState fails: {}", e);
         }
         // check playing
+        boolean wasActive = isActive();
         isPlaying = (playerInfo != null && StringUtils.equals(playerInfo.state, "PLAYING"))
                 || (mediaState != null && StringUtils.equals(mediaState.currentState, "PLAYING"));
 
         isPaused = (playerInfo != null && StringUtils.equals(playerInfo.state, "PAUSED"))
                 || (mediaState != null && StringUtils.equals(mediaState.currentState, "PAUSED"));
+        // refresh the device in the next cycle again, so that a change is followed even if it became inactive
+        activityChanged = wasActive != isActive();
         // handle music provider id
 
         if (provider != null && isPlaying) {
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.avmfritz.internal.ahamodel;
+
+import static org.junit.Assert.*;
+import static org.openhab.binding.avmfritz.internal.BindingConstants.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests for {@link DevicelistDecoder}.
+ *
+ * @author agent - Initial contribution
+ */
+public class DevicelistDecoderTest {
+
+    private final Logger logger = LoggerFactory.getLogger(DevicelistDecoderTest.class);
+
+    private static final String DECT_200 = "<device identifier=\"08761 0000434\" id=\"17\" functionbitmask=\"2944\""
+            + " fwversion=\"03.83\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 200\">"
+            + "<present>1</present><name>FRITZ!DECT 200 #1</name>"
+            + "<switch><state>%d</state><mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch>"
+            + "<powermeter><voltage>230051</voltage><power>%d</power><energy>2087</energy></powermeter>"
+            + "<temperature><celsius>255</celsius><offset>0</offset></temperature></device>";
+    private static final String DECT_300 = "<device identifier=\"08761 0000437\" id=\"20\" functionbitmask=\"320\""
+            + " fwversion=\"03.50\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 300\">"
+            + "<present>0</present><name>FRITZ!DECT 300 #1</name>"
+            + "<temperature><celsius>220</celsius><offset>-10</offset></temperature>"
+            + "<hkr><tist>44</tist><tsoll>42</tsoll><absenk>28</absenk><komfort>42</komfort><lock>1</lock>"
+            + "<devicelock>1</devicelock><errorcode>0</errorcode><batterylow>0</batterylow><battery>100</battery>"
+            + "<nextchange><endperiod>1484341200</endperiod><tchange>28</tchange></nextchange></hkr></device>";
+    private static final String GROUP = "<group identifier=\"F0:A3:7F-900\" id=\"20001\" functionbitmask=\"640\""
+            + " fwversion=\"1.0\" manufacturer=\"AVM\" productname=\"\">"
+            + "<present>1</present><name>Schlafzimmer</name>"
+            + "<switch><state>1</state><mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch>"
+            + "<powermeter><voltage>230051</voltage><power>0</power><energy>2087</energy></powermeter>"
+            + "<groupinfo><masterdeviceid>1000</masterdeviceid><members>20000</members></groupinfo></group>";
+
+    private DevicelistDecoder decoder;
+
+    @Before
+    public void setUp() {
+        decoder = new DevicelistDecoder();
+    }
+
+    private String devicelist(int state, int power) {
+        return "<devicelist version=\"1\">" + GROUP + String.format(DECT_200, state, power) + DECT_300
+                + "</devicelist>";
+    }
+
+    @Test
+    public void validateDecodedModels() throws XMLStreamException {
+        Map<String, AVMFritzBaseModel> devices = decoder.decode(devicelist(1, 0));
+        assertEquals(3, devices.size());
+
+        AVMFritzBaseModel dect200 = devices.get("087610000434");
+        assertTrue(dect200 instanceof DeviceModel);
+        assertEquals("FRITZ!DECT 200", dect200.getProductName());
+        assertEquals("17", dect200.getDeviceId());
+        assertEquals("03.83", dect200.getFirmwareVersion());
+        assertEquals("AVM", dect200.getManufacturer());
+        assertEquals(1, dect200.getPresent());
+        assertEquals("FRITZ!DECT 200 #1", dect200.getName());
+        assertTrue(dect200.isSwitchableOutlet());
+        assertTrue(dect200.isTempSensor());
+        assertTrue(dect200.isPowermeter());
+        assertFalse(dect200.isHeatingThermostat());
+        assertEquals(SwitchModel.ON, dect200.getSwitch().getState());
+        assertEquals(MODE_MANUAL, dect200.getSwitch().getMode());
+        assertEquals(BigDecimal.ZERO, dect200.getSwitch().getLock());
+        assertEquals(new BigDecimal("230.051"), dect200.getPowermeter().getVoltage());
+        assertEquals(new BigDecimal("2087"), dect200.getPowermeter().getEnergy());
+        assertEquals(new BigDecimal("25.5"), ((DeviceModel) dect200).getTemperature().getCelsius());
+        assertNull(dect200.getHkr());
+
+        AVMFritzBaseModel dect300 = devices.get("087610000437");
+        assertTrue(dect300 instanceof DeviceModel);
+        assertEquals(0, dect300.getPresent());
+        assertTrue(dect300.isHeatingThermostat());
+        assertNull(dect300.getSwitch());
+        assertEquals(new BigDecimal("44"), dect300.getHkr().getTist());
+        assertEquals(new BigDecimal("42"), dect300.getHkr().getTsoll());
+        assertEquals("0", dect300.getHkr().getErrorcode());
+        assertEquals(new BigDecimal("100"), dect300.getHkr().getBattery());
+        assertEquals(1484341200, dect300.getHkr().getNextchange().getEndperiod());
+        assertEquals(new BigDecimal("28"), dect300.getHkr().getNextchange().getTchange());
+        assertEquals(new BigDecimal("-1.0"), ((DeviceModel) dect300).getTemperature().getOffset());
+
+        AVMFritzBaseModel group = devices.get("F0:A3:7F-900");
+        assertTrue(group instanceof GroupModel);
+        assertEquals("", group.getProductName());
+        assertEquals("Schlafzimmer", group.getName());
+        assertEquals("1000", ((GroupModel) group).getGroupinfo().getMasterdeviceid());
+        assertEquals("20000", ((GroupModel) group).getGroupinfo().getMembers());
+    }
+
+    @Test
+    public void unchangedDevicesAreReused() throws XMLStreamException {
+        Map<String, AVMFritzBaseModel> first = decoder.decode(devicelist(1, 0));
+        Map<String, AVMFritzBaseModel> second = decoder.decode(devicelist(1, 0));
+        for (Map.Entry<String, AVMFritzBaseModel> entry : first.entrySet()) {
+            assertSame(entry.getValue(), second.get(entry.getKey()));
+        }
+
+        Map<String, AVMFritzBaseModel> third = decoder.decode(devicelist(0, 0));
+        assertNotSame(second.get("087610000434"), third.get("087610000434"));
+        assertEquals(SwitchModel.OFF, third.get("087610000434").getSwitch().getState());
+        assertSame(second.get("087610000437"), third.get("087610000437"));
+        assertSame(second.get("F0:A3:7F-900"), third.get("F0:A3:7F-900"));
+    }
+
+    @Test
+    public void invalidatedDevicesAreDecodedAgain() throws XMLStreamException {
+        Map<String, AVMFritzBaseModel> first = decoder.decode(devicelist(1, 0));
+        decoder.invalidate("087610000434");
+        Map<String, AVMFritzBaseModel> second = decoder.decode(devicelist(1, 0));
+        assertNotSame(first.get("087610000434"), second.get("087610000434"));
+        assertSame(first.get("087610000437"), second.get("087610000437"));
+
+        decoder.invalidateAll();
+        Map<String, AVMFritzBaseModel> third = decoder.decode(devicelist(1, 0));
+        assertNotSame(second.get("087610000437"), third.get("087610000437"));
+    }
+
+    @Test
+    public void removedDevicesAreForgotten() throws XMLStreamException {
+        Map<String, AVMFritzBaseModel> first = decoder.decode(devicelist(1, 0));
+        decoder.decode("<devicelist version=\"1\">" + DECT_300 + "</devicelist>");
+        Map<String, AVMFritzBaseModel> third = decoder.decode(devicelist(1, 0));
+        assertNotSame(first.get("087610000434"), third.get("087610000434"));
+        assertSame(first.get("087610000437"), third.get("087610000437"));
+    }
+
+    @Test
+    public void decodeLargeDevicelist() throws XMLStreamException {
+        int count = 500;
+        StringBuilder builder = new StringBuilder("<devicelist version=\"1\">");
+        for (int i = 0; i < count; i++) {
+            builder.append(String.format(DECT_200, i % 2, i).replace("08761 0000434", "08761 " + (1000000 + i)));
+        }
+        String xml = builder.append("</devicelist>").toString();
+
+        long start = System.nanoTime();
+        Map<String, AVMFritzBaseModel> first = decoder.decode(xml);
+        long firstDuration = System.nanoTime() - start;
+        assertEquals(count, first.size());
+
+        start = System.nanoTime();
+        Map<String, AVMFritzBaseModel> second = decoder.decode(xml);
+        long secondDuration = System.nanoTime() - start;
+        assertEquals(count, second.size());
+        for (Map.Entry<String, AVMFritzBaseModel> entry : first.entrySet()) {
+            assertSame(entry.getValue(), second.get(entry.getKey()));
+        }
+        assertEquals(new BigDecimal("0.499"), second.get("087611000499").getPowermeter().getPower());
+
+        logger.info("Decoded {} devices in {} ms, unchanged list in {} ms", count, firstDuration / 1000000,
+                secondDuration / 1000000);
+    }
+}
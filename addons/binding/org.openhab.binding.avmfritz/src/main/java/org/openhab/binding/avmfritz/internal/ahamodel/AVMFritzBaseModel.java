@@ -8,6 +8,8 @@
  */
 package org.openhab.binding.avmfritz.internal.ahamodel;
 
+import java.math.BigDecimal;
+
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
@@ -150,6 +152,186 @@ public abstract class AVMFritzBaseModel {
         return name;
     }
 
+    /**
+     * Sets the value of an attribute of the device element, used by {@link DevicelistDecoder}.
+     *
+     * @param attribute Name of the attribute
+     * @param value Value of the attribute
+     */
+    void decodeAttribute(String attribute, String value) {
+        switch (attribute) {
+            case "identifier":
+                ident = value;
+                break;
+            case "id":
+                deviceId = value;
+                break;
+            case "functionbitmask":
+                Integer decodedBitmask = parseInteger(value);
+                bitmask = decodedBitmask != null ? decodedBitmask : 0;
+                break;
+            case "fwversion":
+                firmwareVersion = value;
+                break;
+            case "manufacturer":
+                deviceManufacturer = value;
+                break;
+            case "productname":
+                productName = value;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Sets the value of a child element of the device element, used by {@link DevicelistDecoder}.
+     *
+     * @param path Path of the element relative to the device element, e.g. "switch/state"
+     * @param value Text of the element
+     */
+    void decodeElement(String path, String value) {
+        switch (path) {
+            case "present":
+                present = parseInteger(value);
+                break;
+            case "name":
+                name = value;
+                break;
+            case "switch":
+                decodedSwitch();
+                break;
+            case "switch/state":
+                decodedSwitch().setState(parseDecimal(value));
+                break;
+            case "switch/mode":
+                decodedSwitch().setMode(value);
+                break;
+            case "switch/lock":
+                decodedSwitch().setLock(parseDecimal(value));
+                break;
+            case "switch/devicelock":
+                decodedSwitch().setDevicelock(parseDecimal(value));
+                break;
+            case "powermeter":
+                decodedPowermeter();
+                break;
+            case "powermeter/voltage":
+                decodedPowermeter().setVoltage(parseDecimal(value));
+                break;
+            case "powermeter/power":
+                decodedPowermeter().setPower(parseDecimal(value));
+                break;
+            case "powermeter/energy":
+                decodedPowermeter().setEnergy(parseDecimal(value));
+                break;
+            case "hkr":
+                decodedHkr();
+                break;
+            case "hkr/tist":
+                decodedHkr().setTist(parseDecimal(value));
+                break;
+            case "hkr/tsoll":
+                decodedHkr().setTsoll(parseDecimal(value));
+                break;
+            case "hkr/absenk":
+                decodedHkr().setAbsenk(parseDecimal(value));
+                break;
+            case "hkr/komfort":
+                decodedHkr().setKomfort(parseDecimal(value));
+                break;
+            case "hkr/lock":
+                decodedHkr().setLock(parseDecimal(value));
+                break;
+            case "hkr/devicelock":
+                decodedHkr().setDevicelock(parseDecimal(value));
+                break;
+            case "hkr/errorcode":
+                decodedHkr().setErrorcode(value);
+                break;
+            case "hkr/batterylow":
+                decodedHkr().setBatterylow(parseDecimal(value));
+                break;
+            case "hkr/windowopenactiv":
+                decodedHkr().setWindowopenactiv(parseDecimal(value));
+                break;
+            case "hkr/battery":
+                decodedHkr().setBattery(parseDecimal(value));
+                break;
+            case "hkr/nextchange":
+                decodedNextchange();
+                break;
+            case "hkr/nextchange/endperiod":
+                Integer endperiod = parseInteger(value);
+                decodedNextchange().setEndperiod(endperiod != null ? endperiod : 0);
+                break;
+            case "hkr/nextchange/tchange":
+                decodedNextchange().setTchange(parseDecimal(value));
+                break;
+            case "hkr/summeractive":
+                decodedHkr().setSummeractive(parseDecimal(value));
+                break;
+            case "hkr/holidayactive":
+                decodedHkr().setHolidayactive(parseDecimal(value));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private SwitchModel decodedSwitch() {
+        if (switchModel == null) {
+            switchModel = new SwitchModel();
+        }
+        return switchModel;
+    }
+
+    private PowerMeterModel decodedPowermeter() {
+        if (powermeterModel == null) {
+            powermeterModel = new PowerMeterModel();
+        }
+        return powermeterModel;
+    }
+
+    private HeatingModel decodedHkr() {
+        if (heatingModel == null) {
+            heatingModel = new HeatingModel();
+        }
+        return heatingModel;
+    }
+
+    private HeatingModel.Nextchange decodedNextchange() {
+        HeatingModel hkr = decodedHkr();
+        if (hkr.getNextchange() == null) {
+            hkr.setNextchange(new HeatingModel.Nextchange());
+        }
+        return hkr.getNextchange();
+    }
+
+    /**
+     * Parses a decimal element value, like JAXB an empty or invalid value is decoded as null.
+     */
+    static BigDecimal parseDecimal(String value) {
+        try {
+            String trimmed = value.trim();
+            return trimmed.isEmpty() ? null : new BigDecimal(trimmed);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses an integer element value, like JAXB an empty or invalid value is decoded as null.
+     */
+    static Integer parseInteger(String value) {
+        try {
+            String trimmed = value.trim();
+            return trimmed.isEmpty() ? null : Integer.valueOf(trimmed);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).append("ain", getIdentifier()).append("bitmask", bitmask)
@@ -31,6 +31,31 @@ public class DeviceModel extends AVMFritzBaseModel {
         this.temperature = temperature;
     }
 
+    @Override
+    void decodeElement(String path, String value) {
+        switch (path) {
+            case "temperature":
+                decodedTemperature();
+                break;
+            case "temperature/celsius":
+                decodedTemperature().setCelsius(parseDecimal(value));
+                break;
+            case "temperature/offset":
+                decodedTemperature().setOffset(parseDecimal(value));
+                break;
+            default:
+                super.decodeElement(path, value);
+                break;
+        }
+    }
+
+    private TemperatureModel decodedTemperature() {
+        if (temperature == null) {
+            temperature = new TemperatureModel();
+        }
+        return temperature;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).append(super.toString()).append(getTemperature()).toString();
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.avmfritz.internal.ahamodel;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming decoder for the response to a <b>getdevicelistinfos</b> command, see {@link DevicelistModel}.
+ *
+ * The attributes and element values of every device are collected into a reused buffer and compared to the values of
+ * the previous response. A device model is only created if a value of the device has changed, otherwise the model of
+ * the previous response is returned again, so that unchanged devices can be detected by identity.
+ *
+ * @author agent - Initial contribution
+ */
+public class DevicelistDecoder {
+
+    private static final String DEVICE = "device";
+    private static final String GROUP = "group";
+    private static final String ATTRIBUTE_PREFIX = "@";
+    private static final String IDENTIFIER = ATTRIBUTE_PREFIX + "identifier";
+
+    private final XMLInputFactory factory;
+
+    /**
+     * Values and models of the devices decoded from the previous response, by AIN
+     */
+    private final Map<String, DeviceRecord> records = new HashMap<>();
+
+    /**
+     * Values of the device which is decoded, the device type followed by pairs of attribute name or element path and
+     * the value
+     */
+    private final List<String> values = new ArrayList<>();
+    private final StringBuilder path = new StringBuilder();
+    private final StringBuilder text = new StringBuilder();
+    private int[] pathLengths = new int[8];
+
+    public DevicelistDecoder() {
+        factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    /**
+     * Decodes a device list.
+     *
+     * @param xml Response to the <b>getdevicelistinfos</b> command
+     * @return Device models by AIN, in the order of the response. Models of devices which did not change since the
+     *         previous call are the same instances as returned by the previous call.
+     * @throws XMLStreamException if the response is not a valid XML document
+     */
+    public synchronized Map<String, AVMFritzBaseModel> decode(String xml) throws XMLStreamException {
+        Map<String, AVMFritzBaseModel> devices = new LinkedHashMap<>();
+        XMLStreamReader reader = factory.createXMLStreamReader(new StringReader(xml));
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (DEVICE.equals(name) || GROUP.equals(name)) {
+                        AVMFritzBaseModel device = decodeDevice(reader, name);
+                        String ain = device.getIdentifier();
+                        if (ain != null) {
+                            devices.put(ain, device);
+                        }
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        records.keySet().retainAll(devices.keySet());
+        return devices;
+    }
+
+    /**
+     * Forgets the values of a device, so that a new model is created for it by the next call of {@link #decode}.
+     *
+     * @param ain AIN of the device
+     */
+    public synchronized void invalidate(String ain) {
+        records.remove(ain);
+    }
+
+    /**
+     * Forgets the values of all devices.
+     */
+    public synchronized void invalidateAll() {
+        records.clear();
+    }
+
+    private AVMFritzBaseModel decodeDevice(XMLStreamReader reader, String type) throws XMLStreamException {
+        values.clear();
+        values.add(type);
+        String ain = null;
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String attribute = ATTRIBUTE_PREFIX + reader.getAttributeLocalName(i);
+            String value = reader.getAttributeValue(i);
+            if (IDENTIFIER.equals(attribute)) {
+                ain = value.replace(" ", "");
+            }
+            values.add(attribute);
+            values.add(value);
+        }
+
+        int depth = 0;
+        boolean leaf = false;
+        path.setLength(0);
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    if (depth == pathLengths.length) {
+                        pathLengths = Arrays.copyOf(pathLengths, depth * 2);
+                    }
+                    pathLengths[depth++] = path.length();
+                    if (path.length() > 0) {
+                        path.append('/');
+                    }
+                    path.append(reader.getLocalName());
+                    text.setLength(0);
+                    leaf = true;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (leaf) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (depth == 0) {
+                        return toModel(ain);
+                    }
+                    if (leaf) {
+                        values.add(path.toString());
+                        values.add(text.toString());
+                        leaf = false;
+                    }
+                    path.setLength(pathLengths[--depth]);
+                    break;
+                default:
+                    break;
+            }
+        }
+        throw new XMLStreamException("Unexpected end of device list");
+    }
+
+    private AVMFritzBaseModel toModel(String ain) {
+        DeviceRecord record = ain != null ? records.get(ain) : null;
+        if (record != null && record.matches(values)) {
+            return record.model;
+        }
+        AVMFritzBaseModel model = DEVICE.equals(values.get(0)) ? new DeviceModel() : new GroupModel();
+        for (int i = 1; i < values.size(); i += 2) {
+            String key = values.get(i);
+            if (key.startsWith(ATTRIBUTE_PREFIX)) {
+                model.decodeAttribute(key.substring(ATTRIBUTE_PREFIX.length()), values.get(i + 1));
+            } else {
+                model.decodeElement(key, values.get(i + 1));
+            }
+        }
+        if (ain != null) {
+            records.put(ain, new DeviceRecord(values.toArray(new String[values.size()]), model));
+        }
+        return model;
+    }
+
+    private static class DeviceRecord {
+        private final String[] values;
+        private final AVMFritzBaseModel model;
+
+        DeviceRecord(String[] values, AVMFritzBaseModel model) {
+            this.values = values;
+            this.model = model;
+        }
+
+        boolean matches(List<String> otherValues) {
+            if (values.length != otherValues.size()) {
+                return false;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (!values[i].equals(otherValues.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
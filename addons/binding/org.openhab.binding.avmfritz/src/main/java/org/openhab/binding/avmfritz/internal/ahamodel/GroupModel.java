@@ -30,6 +30,31 @@ public class GroupModel extends AVMFritzBaseModel {
         this.groupinfo = groupinfo;
     }
 
+    @Override
+    void decodeElement(String path, String value) {
+        switch (path) {
+            case "groupinfo":
+                decodedGroupinfo();
+                break;
+            case "groupinfo/masterdeviceid":
+                decodedGroupinfo().setMasterdeviceid(value);
+                break;
+            case "groupinfo/members":
+                decodedGroupinfo().setMembers(value);
+                break;
+            default:
+                super.decodeElement(path, value);
+                break;
+        }
+    }
+
+    private Groupinfo decodedGroupinfo() {
+        if (groupinfo == null) {
+            groupinfo = new Groupinfo();
+        }
+        return groupinfo;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).append(super.toString()).append(getGroupinfo()).toString();
@@ -16,9 +16,9 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -42,6 +42,7 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
@@ -49,6 +50,7 @@ import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.avmfritz.internal.BindingConstants;
 import org.openhab.binding.avmfritz.internal.ahamodel.AVMFritzBaseModel;
 import org.openhab.binding.avmfritz.internal.ahamodel.DeviceModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.DevicelistDecoder;
 import org.openhab.binding.avmfritz.internal.ahamodel.GroupModel;
 import org.openhab.binding.avmfritz.internal.ahamodel.HeatingModel;
 import org.openhab.binding.avmfritz.internal.ahamodel.SwitchModel;
@@ -93,6 +95,18 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
      * shared instance of HTTP client for asynchronous calls
      */
     private HttpClient httpClient;
+    /**
+     * Decoder for the device list, keeps the models of unchanged devices between polls
+     */
+    private final DevicelistDecoder devicelistDecoder = new DevicelistDecoder();
+    /**
+     * Device models which have been applied to the things, by AIN
+     */
+    private final Map<String, AVMFritzBaseModel> appliedDevices = new ConcurrentHashMap<>();
+    /**
+     * Last states sent for the channels of the things
+     */
+    private final Map<ChannelUID, State> channelStates = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -169,30 +183,44 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
      * @param description Bridge status description
      */
     public void setStatusInfo(ThingStatus status, ThingStatusDetail statusDetail, @Nullable String description) {
+        if (status != ThingStatus.ONLINE && getThing().getStatus() == ThingStatus.ONLINE) {
+            // things are updated completely when the connection is back
+            invalidateAll();
+        }
         updateStatus(status, statusDetail, description);
     }
 
+    /**
+     * Provides the decoder for the device list of this bridge.
+     *
+     * @return The device list decoder
+     */
+    public DevicelistDecoder getDevicelistDecoder() {
+        return devicelistDecoder;
+    }
+
     /**
      * Called from {@link FritzAhaUpdateXmlCallback} to provide new values for
      * things.
      *
-     * @param model Device model with updated data.
+     * @param devices Device models by AIN, unchanged devices are the same instances as in the previous call.
      */
-    public void addDeviceList(ArrayList<AVMFritzBaseModel> devicelist) {
+    public void addDeviceList(Map<String, AVMFritzBaseModel> devices) {
         for (Thing thing : getThing().getThings()) {
             AVMFritzBaseThingHandler handler = (AVMFritzBaseThingHandler) thing.getHandler();
             if (handler != null) {
-                Optional<AVMFritzBaseModel> optionalDevice = devicelist.stream()
-                        .filter(it -> it.getIdentifier().equals(handler.getIdentifier())).findFirst();
-                if (optionalDevice.isPresent()) {
-                    AVMFritzBaseModel device = optionalDevice.get();
-                    logger.debug("update thing {} with device model: {}", thing.getUID(), device);
+                String ain = handler.getIdentifier();
+                AVMFritzBaseModel device = ain != null ? devices.get(ain) : null;
+                if (ain != null && device != null) {
                     handler.setState(device);
-                    if (device.getPresent() == 1) {
-                        handler.setStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, null);
-                        updateThingFromDevice(thing, device);
-                    } else {
-                        handler.setStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.NONE, "Device not present");
+                    if (isDeviceChanged(ain, device)) {
+                        logger.debug("update thing {} with device model: {}", thing.getUID(), device);
+                        if (device.getPresent() == 1) {
+                            handler.setStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, null);
+                            updateThingFromDevice(thing, device);
+                        } else {
+                            handler.setStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.NONE, "Device not present");
+                        }
                     }
                 } else {
                     handler.setStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.GONE,
@@ -204,6 +232,53 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Checks if a device model has not been applied to its thing yet.
+     *
+     * @param ain AIN of the device
+     * @param device Device model
+     * @return true if the thing has to be updated from the model
+     */
+    protected boolean isDeviceChanged(String ain, AVMFritzBaseModel device) {
+        return appliedDevices.put(ain, device) != device;
+    }
+
+    /**
+     * Forgets the values applied to a thing, so that all its channels are updated by the next poll. Called if the
+     * local state of the thing may differ from the state of the device, e.g. after a command.
+     *
+     * @param thing Thing to be updated by the next poll
+     */
+    public void invalidateThing(Thing thing) {
+        Object ain = thing.getConfiguration().get(CONFIG_AIN);
+        if (ain != null) {
+            appliedDevices.remove(ain.toString());
+            devicelistDecoder.invalidate(ain.toString());
+        }
+        for (Channel channel : thing.getChannels()) {
+            channelStates.remove(channel.getUID());
+        }
+    }
+
+    /**
+     * Forgets the values applied to all things.
+     */
+    protected void invalidateAll() {
+        devicelistDecoder.invalidateAll();
+        appliedDevices.clear();
+        channelStates.clear();
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        invalidateThing(childThing);
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        invalidateThing(childThing);
+    }
+
     /**
      * Updates thing from device model.
      *
@@ -300,7 +375,9 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
     private void updateThingChannelState(Thing thing, String channelId, State state) {
         Channel channel = thing.getChannel(channelId);
         if (channel != null) {
-            updateState(channel.getUID(), state);
+            if (!state.equals(channelStates.put(channel.getUID(), state))) {
+                updateState(channel.getUID(), state);
+            }
         } else {
             logger.debug("Channel '{}' in thing '{}' does not exist, recreating thing.", channelId, thing.getUID());
             AVMFritzBaseThingHandler handler = (AVMFritzBaseThingHandler) thing.getHandler();
@@ -392,6 +469,7 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
         logger.debug("Handle command '{}' for channel {}", command, channelUID);
         if (command instanceof RefreshType) {
+            invalidateAll();
             handleRefreshCommand();
         }
     }
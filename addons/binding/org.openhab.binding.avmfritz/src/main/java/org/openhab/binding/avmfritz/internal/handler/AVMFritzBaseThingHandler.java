@@ -90,11 +90,13 @@ public abstract class AVMFritzBaseThingHandler extends BaseThingHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
         String channelId = channelUID.getIdWithoutGroup();
         logger.debug("Handle command '{}' for channel {}", command, channelId);
-        if (command instanceof RefreshType) {
-            Bridge bridge = getBridge();
-            if (bridge != null) {
-                BridgeHandler bridgeHandler = bridge.getHandler();
-                if (bridgeHandler != null && bridgeHandler instanceof AVMFritzBaseBridgeHandler) {
+        Bridge bridge = getBridge();
+        if (bridge != null) {
+            BridgeHandler bridgeHandler = bridge.getHandler();
+            if (bridgeHandler != null && bridgeHandler instanceof AVMFritzBaseBridgeHandler) {
+                // the device may not follow the command, make sure the next poll updates all channels
+                ((AVMFritzBaseBridgeHandler) bridgeHandler).invalidateThing(getThing());
+                if (command instanceof RefreshType) {
                     ((AVMFritzBaseBridgeHandler) bridgeHandler).handleRefreshCommand();
                 }
             }
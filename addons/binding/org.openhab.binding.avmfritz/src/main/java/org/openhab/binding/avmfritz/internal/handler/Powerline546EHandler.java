@@ -10,8 +10,7 @@ package org.openhab.binding.avmfritz.internal.handler;
 
 import static org.openhab.binding.avmfritz.internal.BindingConstants.*;
 
-import java.util.ArrayList;
-import java.util.Optional;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -64,24 +63,24 @@ public class Powerline546EHandler extends AVMFritzBaseBridgeHandler {
     }
 
     @Override
-    public void addDeviceList(ArrayList<AVMFritzBaseModel> devicelist) {
-        Optional<AVMFritzBaseModel> optionalDevice = devicelist.stream()
-                .filter(it -> it.getIdentifier().equals(getIdentifier())).findFirst();
-        if (optionalDevice.isPresent()) {
-            AVMFritzBaseModel device = optionalDevice.get();
-            devicelist.remove(device);
-            logger.debug("update self {} with device model: {}", getThing().getUID(), device);
+    public void addDeviceList(Map<String, AVMFritzBaseModel> devices) {
+        String ain = getIdentifier();
+        AVMFritzBaseModel device = ain != null ? devices.remove(ain) : null;
+        if (ain != null && device != null) {
             setState(device);
-            if (device.getPresent() == 1) {
-                setStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, null);
-                updateThingFromDevice(getThing(), device);
-            } else {
-                setStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.NONE, "Device not present");
+            if (isDeviceChanged(ain, device)) {
+                logger.debug("update self {} with device model: {}", getThing().getUID(), device);
+                if (device.getPresent() == 1) {
+                    setStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, null);
+                    updateThingFromDevice(getThing(), device);
+                } else {
+                    setStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.NONE, "Device not present");
+                }
             }
         } else {
             setStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.GONE, "Device not present in response");
         }
-        super.addDeviceList(devicelist);
+        super.addDeviceList(devices);
     }
 
     /**
@@ -127,6 +126,7 @@ public class Powerline546EHandler extends AVMFritzBaseBridgeHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
         String channelId = channelUID.getIdWithoutGroup();
         logger.debug("Handle command '{}' for channel {}", command, channelId);
+        invalidateThing(getThing());
         FritzAhaWebInterface fritzBox = getWebInterface();
         if (fritzBox == null) {
             logger.debug("Cannot handle command '{}' because connection is missing", command);
@@ -10,17 +10,15 @@ package org.openhab.binding.avmfritz.internal.hardware.callbacks;
 
 import static org.eclipse.jetty.http.HttpMethod.GET;
 
-import java.io.StringReader;
+import java.util.Map;
 
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
-import org.openhab.binding.avmfritz.internal.ahamodel.DevicelistModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.AVMFritzBaseModel;
 import org.openhab.binding.avmfritz.internal.handler.AVMFritzBaseBridgeHandler;
 import org.openhab.binding.avmfritz.internal.hardware.FritzAhaWebInterface;
-import org.openhab.binding.avmfritz.internal.util.JAXBUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,16 +55,11 @@ public class FritzAhaUpdateXmlCallback extends FritzAhaReauthCallback {
         logger.trace("Received State response {}", response);
         if (isValidRequest()) {
             try {
-                Unmarshaller u = JAXBUtils.JAXBCONTEXT.createUnmarshaller();
-                DevicelistModel model = (DevicelistModel) u.unmarshal(new StringReader(response));
-                if (model != null) {
-                    handler.addDeviceList(model.getDevicelist());
-                } else {
-                    logger.debug("no model in response");
-                }
+                Map<String, AVMFritzBaseModel> devices = handler.getDevicelistDecoder().decode(response);
+                handler.addDeviceList(devices);
                 handler.setStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, null);
-            } catch (JAXBException e) {
-                logger.error("Exception creating Unmarshaller: {}", e.getLocalizedMessage(), e);
+            } catch (XMLStreamException e) {
+                logger.error("Exception decoding device list: {}", e.getLocalizedMessage(), e);
                 handler.setStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
                         e.getLocalizedMessage());
             }
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.fronius.internal;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.eclipse.smarthome.io.net.http.HttpUtil;
+import org.openhab.binding.fronius.internal.api.BaseFroniusResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * The {@link FroniusEndpointCache} fetches each endpoint of a Datamanager once per refresh cycle and shares the
+ * parsed response between all things of the bridge.
+ *
+ * The requests are distributed over a fixed number of lanes. The requests of a lane are sent one after the other,
+ * so that the embedded web server of the Datamanager never has to serve more requests at once than there are lanes.
+ *
+ * @author agent - Initial contribution
+ */
+public class FroniusEndpointCache {
+
+    private static final int API_TIMEOUT = 5000;
+    private final Logger logger = LoggerFactory.getLogger(FroniusEndpointCache.class);
+    private final Gson gson = new Gson();
+    private final Executor executor;
+    private final CompletableFuture<?>[] lanes;
+    private int nextLane;
+    private final Map<String, CompletableFuture<Result<?>>> results = new ConcurrentHashMap<>();
+    private final Map<String, FroniusEndpointStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * @param executor the executor to send the requests with, it must not be used by the callers of
+     *            {@link #get(Class, String)}, which block until the response has been fetched
+     * @param maxParallelRequests the maximum number of requests sent to the Datamanager at once
+     */
+    public FroniusEndpointCache(Executor executor, int maxParallelRequests) {
+        this.executor = executor;
+        this.lanes = new CompletableFuture<?>[maxParallelRequests];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Starts a new refresh cycle, the endpoints are fetched again on their next request
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    /**
+     * Requests an endpoint, it is fetched only once per refresh cycle
+     *
+     * @param type response class type
+     * @param url to request
+     * @return the future response
+     */
+    public synchronized CompletableFuture<Result<?>> fetch(Class<? extends BaseFroniusResponse> type, String url) {
+        CompletableFuture<Result<?>> result = results.get(url);
+        if (result == null) {
+            int lane = nextLane;
+            nextLane = (nextLane + 1) % lanes.length;
+            result = lanes[lane].handle((previous, e) -> null).thenApplyAsync(v -> load(type, url), executor);
+            lanes[lane] = result;
+            results.put(url, result);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the response of an endpoint, waiting until it has been fetched
+     *
+     * @param type response class type
+     * @param url to request
+     * @return the response of the current refresh cycle
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends BaseFroniusResponse> Result<T> get(Class<T> type, String url) {
+        try {
+            return (Result<T>) fetch(type, url).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result<>(null, "interrupted");
+        } catch (ExecutionException e) {
+            logger.debug("Error running fronius request: {}", e.getMessage());
+            return new Result<>(null, null);
+        }
+    }
+
+    /**
+     * @return the statistics by endpoint URL
+     */
+    public Map<String, FroniusEndpointStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    private <T extends BaseFroniusResponse> Result<T> load(Class<T> type, String url) {
+        T result = null;
+        boolean resultOk = false;
+        String errorMsg = null;
+        long start = System.currentTimeMillis();
+
+        try {
+            logger.debug("URL = {}", url);
+            String response = HttpUtil.executeUrl("GET", url, API_TIMEOUT);
+
+            if (response != null) {
+                logger.debug("aqiResponse = {}", response);
+                result = gson.fromJson(response, type);
+            }
+
+            if (result == null) {
+                errorMsg = "no data returned";
+            } else {
+                if (result.getHead().getStatus().getCode() == 0) {
+                    resultOk = true;
+                } else {
+                    errorMsg = result.getHead().getStatus().getReason();
+                }
+            }
+            if (!resultOk) {
+                logger.debug("Error in fronius response: {}", errorMsg);
+            }
+        } catch (JsonSyntaxException e) {
+            errorMsg = "Configuration is incorrect";
+            logger.debug("Error running fronius request: {}", errorMsg);
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Error running fronius request: {}", e.getMessage());
+        } finally {
+            statistics.computeIfAbsent(url, u -> new FroniusEndpointStatistics())
+                    .record(System.currentTimeMillis() - start, !resultOk);
+        }
+
+        return new Result<>(resultOk ? result : null, errorMsg);
+    }
+
+    /**
+     * The response of an endpoint
+     */
+    public static class Result<T extends BaseFroniusResponse> {
+        private final T response;
+        private final String errorMessage;
+
+        Result(T response, String errorMessage) {
+            this.response = response;
+            this.errorMessage = errorMessage;
+        }
+
+        /**
+         * @return the response or null, if the request failed
+         */
+        public T getResponse() {
+            return response;
+        }
+
+        /**
+         * @return the reason of a failed request, if known
+         */
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public boolean isOk() {
+            return response != null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.fronius.internal;
+
+/**
+ * The {@link FroniusEndpointStatistics} counts the requests, failures and latencies of a single endpoint of the
+ * Fronius Solar API.
+ *
+ * @author agent - Initial contribution
+ */
+public class FroniusEndpointStatistics {
+    private long requests;
+    private long failures;
+    private long totalLatency;
+    private long maxLatency;
+    private long lastLatency;
+
+    /**
+     * Records a request
+     *
+     * @param latency time in milliseconds the request took
+     * @param failed true if the request did not return valid data
+     */
+    public synchronized void record(long latency, boolean failed) {
+        requests++;
+        if (failed) {
+            failures++;
+        }
+        totalLatency += latency;
+        maxLatency = Math.max(maxLatency, latency);
+        lastLatency = latency;
+    }
+
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    public synchronized long getAverageLatency() {
+        return requests > 0 ? totalLatency / requests : 0;
+    }
+
+    public synchronized long getMaxLatency() {
+        return maxLatency;
+    }
+
+    public synchronized long getLastLatency() {
+        return lastLatency;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "requests=" + requests + ", failures=" + failures + ", latency=" + lastLatency + "ms (avg "
+                + getAverageLatency() + "ms, max " + maxLatency + "ms)";
+    }
+}
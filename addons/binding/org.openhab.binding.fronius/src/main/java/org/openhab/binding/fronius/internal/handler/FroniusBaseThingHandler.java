@@ -22,6 +22,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.fronius.internal.FroniusBridgeConfiguration;
+import org.openhab.binding.fronius.internal.FroniusEndpointCache;
 import org.openhab.binding.fronius.internal.api.ValueUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -138,12 +139,23 @@ public abstract class FroniusBaseThingHandler extends BaseThingHandler {
      */
     protected abstract Object getValue(String channelId);
 
+    /**
+     * request the endpoints the thing needs for the next update
+     * this function is called from the bridge for all things before they are refreshed
+     *
+     * @param bridgeConfiguration the connected bridge configuration
+     * @param endpointCache the responses of the current refresh cycle
+     */
+    public abstract void requestData(FroniusBridgeConfiguration bridgeConfiguration,
+            FroniusEndpointCache endpointCache);
+
     /**
      * do whatever a thing must do to update the values
      * this function is called from the bridge in a given interval
      *
      * @param bridgeConfiguration the connected bridge configuration
+     * @param endpointCache the responses of the current refresh cycle
      */
-    public abstract void refresh(FroniusBridgeConfiguration bridgeConfiguration);
+    public abstract void refresh(FroniusBridgeConfiguration bridgeConfiguration, FroniusEndpointCache endpointCache);
 
 }
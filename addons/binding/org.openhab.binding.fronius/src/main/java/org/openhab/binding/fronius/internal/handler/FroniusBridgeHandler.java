@@ -11,11 +11,13 @@ package org.openhab.binding.fronius.internal.handler;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.ThingStatus;
@@ -23,6 +25,8 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.fronius.internal.FroniusBridgeConfiguration;
+import org.openhab.binding.fronius.internal.FroniusEndpointCache;
+import org.openhab.binding.fronius.internal.FroniusEndpointStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,7 +41,11 @@ public class FroniusBridgeHandler extends BaseBridgeHandler {
 
     private final Logger logger = LoggerFactory.getLogger(FroniusBridgeHandler.class);
     private static final int DEFAULT_REFRESH_PERIOD = 10;
+    private static final int MAX_PARALLEL_REQUESTS = 2;
     private final Set<FroniusBaseThingHandler> services = new HashSet<>();
+    // the refresh job blocks on the responses, so they must not be fetched on the thing handler scheduler
+    private final FroniusEndpointCache endpointCache = new FroniusEndpointCache(ThreadPoolManager.getPool("fronius"),
+            MAX_PARALLEL_REQUESTS);
     private ScheduledFuture<?> refreshJob;
 
     public FroniusBridgeHandler(Bridge bridge) {
@@ -52,6 +60,13 @@ public class FroniusBridgeHandler extends BaseBridgeHandler {
         this.services.add(service);
     }
 
+    /**
+     * @return the request statistics by endpoint URL
+     */
+    public Map<String, FroniusEndpointStatistics> getEndpointStatistics() {
+        return endpointCache.getStatistics();
+    }
+
     @Override
     public void initialize() {
         final FroniusBridgeConfiguration config = getConfigAs(FroniusBridgeConfiguration.class);
@@ -105,9 +120,15 @@ public class FroniusBridgeHandler extends BaseBridgeHandler {
                             "hostname or ip is not reachable");
                 } else {
                     updateStatus(ThingStatus.ONLINE);
+                    // each endpoint is fetched once per cycle, no matter how many things need it
+                    endpointCache.clear();
+                    for (FroniusBaseThingHandler service : services) {
+                        service.requestData(config, endpointCache);
+                    }
                     for (FroniusBaseThingHandler service : services) {
-                        service.refresh(config);
+                        service.refresh(config, endpointCache);
                     }
+                    logger.debug("Endpoint statistics: {}", endpointCache.getStatistics());
                 }
             };
 
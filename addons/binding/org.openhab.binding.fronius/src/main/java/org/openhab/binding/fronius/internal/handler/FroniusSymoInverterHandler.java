@@ -8,25 +8,18 @@
  */
 package org.openhab.binding.fronius.internal.handler;
 
-import java.io.IOException;
-
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
-import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.openhab.binding.fronius.internal.FroniusBaseDeviceConfiguration;
 import org.openhab.binding.fronius.internal.FroniusBindingConstants;
 import org.openhab.binding.fronius.internal.FroniusBridgeConfiguration;
+import org.openhab.binding.fronius.internal.FroniusEndpointCache;
 import org.openhab.binding.fronius.internal.api.BaseFroniusResponse;
 import org.openhab.binding.fronius.internal.api.InverterRealtimeResponse;
 import org.openhab.binding.fronius.internal.api.PowerFlowRealtimeResponse;
 import org.openhab.binding.fronius.internal.api.ValueUnit;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
 
 /**
  * The {@link FroniusSymoInverterHandler} is responsible for updating the data, which are
@@ -36,16 +29,12 @@ import com.google.gson.JsonSyntaxException;
  */
 public class FroniusSymoInverterHandler extends FroniusBaseThingHandler {
 
-    private static final int API_TIMEOUT = 5000;
-    private final Logger logger = LoggerFactory.getLogger(FroniusSymoInverterHandler.class);
     private InverterRealtimeResponse inverterRealtimeResponse;
     private PowerFlowRealtimeResponse powerFlowResponse;
     private FroniusBaseDeviceConfiguration config;
-    private final Gson gson;
 
     public FroniusSymoInverterHandler(Thing thing) {
         super(thing);
-        gson = new Gson();
     }
 
     @Override
@@ -54,8 +43,15 @@ public class FroniusSymoInverterHandler extends FroniusBaseThingHandler {
     }
 
     @Override
-    public void refresh(FroniusBridgeConfiguration bridgeConfiguration) {
-        updateData(bridgeConfiguration, config);
+    public void requestData(FroniusBridgeConfiguration bridgeConfiguration, FroniusEndpointCache endpointCache) {
+        endpointCache.fetch(InverterRealtimeResponse.class, getRealtimeDataUrl(bridgeConfiguration.hostname,
+                config.deviceId));
+        endpointCache.fetch(PowerFlowRealtimeResponse.class, getPowerFlowRealtimeUrl(bridgeConfiguration.hostname));
+    }
+
+    @Override
+    public void refresh(FroniusBridgeConfiguration bridgeConfiguration, FroniusEndpointCache endpointCache) {
+        updateData(bridgeConfiguration, config, endpointCache);
         updateChannels();
     }
 
@@ -130,82 +126,55 @@ public class FroniusSymoInverterHandler extends FroniusBaseThingHandler {
     /**
      * Get new data
      */
-    private void updateData(FroniusBridgeConfiguration bridgeConfiguration, FroniusBaseDeviceConfiguration config) {
-        inverterRealtimeResponse = getRealtimeData(bridgeConfiguration.hostname, config.deviceId);
-        powerFlowResponse = getPowerFlowRealtime(bridgeConfiguration.hostname);
+    private void updateData(FroniusBridgeConfiguration bridgeConfiguration, FroniusBaseDeviceConfiguration config,
+            FroniusEndpointCache endpointCache) {
+        inverterRealtimeResponse = collectDataFormUrl(endpointCache, InverterRealtimeResponse.class,
+                getRealtimeDataUrl(bridgeConfiguration.hostname, config.deviceId));
+        powerFlowResponse = collectDataFormUrl(endpointCache, PowerFlowRealtimeResponse.class,
+                getPowerFlowRealtimeUrl(bridgeConfiguration.hostname));
     }
 
     /**
      *
+     * @param endpointCache the responses of the current refresh cycle
      * @param type response class type
      * @param url to request
      * @return the object representation of the json response
      */
-    private <T extends BaseFroniusResponse> T collectDataFormUrl(Class<T> type, String url) {
-        T result = null;
-        boolean resultOk = false;
-        String errorMsg = null;
-
-        try {
-            logger.debug("URL = {}", url);
-            String response = HttpUtil.executeUrl("GET", url, API_TIMEOUT);
-
-            if (response != null) {
-                logger.debug("aqiResponse = {}", response);
-                result = gson.fromJson(response, type);
-            }
-
-            if (result == null) {
-                errorMsg = "no data returned";
-            } else {
-                if (result.getHead().getStatus().getCode() == 0) {
-                    resultOk = true;
-                } else {
-                    errorMsg = result.getHead().getStatus().getReason();
-                }
-            }
-            if (!resultOk) {
-                logger.debug("Error in fronius response: {}", errorMsg);
-            }
-        } catch (JsonSyntaxException e) {
-            errorMsg = "Configuration is incorrect";
-            logger.debug("Error running fronius request: {}", errorMsg);
-        } catch (IOException | IllegalStateException e) {
-            logger.debug("Error running fronius request: {}", e.getMessage());
-        }
+    private <T extends BaseFroniusResponse> T collectDataFormUrl(FroniusEndpointCache endpointCache, Class<T> type,
+            String url) {
+        FroniusEndpointCache.Result<T> result = endpointCache.get(type, url);
 
         // Update the thing status
-        if (resultOk) {
+        if (result.isOk()) {
             updateStatus(ThingStatus.ONLINE);
         } else {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR, errorMsg);
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR, result.getErrorMessage());
         }
-        return resultOk ? result : null;
+        return result.getResponse();
     }
 
     /**
-     * Make the PowerFlowRealtimeDataRequest
+     * Get the URL of the PowerFlowRealtimeDataRequest
      *
      * @param ip address of the device
-     * @return {PowerFlowRealtimeResponse} the object representation of the json response
+     * @return the URL of the request
      */
-    private PowerFlowRealtimeResponse getPowerFlowRealtime(String ip) {
-        String location = FroniusBindingConstants.POWERFLOW_REALTIME_DATA.replace("%IP%", StringUtils.trimToEmpty(ip));
-        return collectDataFormUrl(PowerFlowRealtimeResponse.class, location);
+    private String getPowerFlowRealtimeUrl(String ip) {
+        return FroniusBindingConstants.POWERFLOW_REALTIME_DATA.replace("%IP%", StringUtils.trimToEmpty(ip));
     }
 
     /**
-     * Make the InverterRealtimeDataRequest
+     * Get the URL of the InverterRealtimeDataRequest
      *
      * @param ip address of the device
      * @param deviceId of the device
-     * @return {InverterRealtimeResponse} the object representation of the json response
+     * @return the URL of the request
      */
-    private InverterRealtimeResponse getRealtimeData(String ip, int deviceId) {
+    private String getRealtimeDataUrl(String ip, int deviceId) {
         String location = FroniusBindingConstants.INVERTER_REALTIME_DATA_URL.replace("%IP%",
                 StringUtils.trimToEmpty(ip));
-        location = location.replace("%DEVICEID%", Integer.toString(deviceId));
-        return collectDataFormUrl(InverterRealtimeResponse.class, location);
+        return location.replace("%DEVICEID%", Integer.toString(deviceId));
     }
 
 }
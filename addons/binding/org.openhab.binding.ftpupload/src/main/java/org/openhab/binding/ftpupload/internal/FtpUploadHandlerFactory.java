@@ -46,6 +46,7 @@ public class FtpUploadHandlerFactory extends BaseThingHandlerFactory {
 
     private final int DEFAULT_PORT = 2121;
     private final int DEFAULT_IDLE_TIMEOUT = 60;
+    private final int DEFAULT_MAX_FILE_SIZE = 10240;
 
     private FtpServer ftpServer;
 
@@ -90,6 +91,7 @@ public class FtpUploadHandlerFactory extends BaseThingHandlerFactory {
 
         int port = DEFAULT_PORT;
         int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        int maxFileSize = DEFAULT_MAX_FILE_SIZE;
 
         if (properties.get("port") != null) {
             String strPort = properties.get("port").toString();
@@ -113,9 +115,21 @@ public class FtpUploadHandlerFactory extends BaseThingHandlerFactory {
             }
         }
 
+        if (properties.get("maxFileSize") != null) {
+            String strMaxFileSize = properties.get("maxFileSize").toString();
+            if (StringUtils.isNotEmpty(strMaxFileSize)) {
+                try {
+                    maxFileSize = Integer.valueOf(strMaxFileSize);
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid maximum file size '{}', using default size {}", strMaxFileSize, maxFileSize);
+                }
+            }
+        }
+
         try {
-            logger.info("Starting FTP server, port={}, idleTimeout={}", port, idleTimeout);
-            ftpServer.startServer(port, idleTimeout);
+            logger.info("Starting FTP server, port={}, idleTimeout={}, maxFileSize={}", port, idleTimeout,
+                    maxFileSize);
+            ftpServer.startServer(port, idleTimeout, maxFileSize * 1024);
         } catch (FtpException | FtpServerConfigurationException e) {
             logger.warn("FTP server starting failed, reason: {}", e.getMessage());
         }
@@ -9,11 +9,11 @@
 package org.openhab.binding.ftpupload.internal.ftp;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.ftpserver.FtpServerConfigurationException;
 import org.apache.ftpserver.FtpServerFactory;
@@ -43,24 +43,30 @@ public class FtpServer {
 
     private final Logger logger = LoggerFactory.getLogger(FtpServer.class);
 
+    /** maximum number of upload buffers kept for reuse, 4 MB */
+    private static final int MAX_POOLED_BUFFERS = 64;
+
     private int port;
     int idleTimeout;
+    private int maxFileSize;
 
     private org.apache.ftpserver.FtpServer server;
     private List<FtpServerEventListener> listeners;
     private MyFTPLet myFTPLet;
     private FTPUserManager FTPUserManager;
     private String ftpStartUpErrorReason;
+    private final UploadBufferPool bufferPool = new UploadBufferPool(MAX_POOLED_BUFFERS);
 
     public FtpServer() {
-        listeners = new ArrayList<>();
+        listeners = new CopyOnWriteArrayList<>();
         FTPUserManager = new FTPUserManager();
     }
 
-    public void startServer(int port, int idleTimeout) throws FtpException {
+    public void startServer(int port, int idleTimeout, int maxFileSize) throws FtpException {
         stopServer();
         this.port = port;
         this.idleTimeout = idleTimeout;
+        this.maxFileSize = maxFileSize;
         FTPUserManager.setIdleTimeout(idleTimeout);
         initServer();
     }
@@ -119,6 +125,7 @@ public class FtpServer {
 
         logger.debug("CurrentConnectionNumber: {}", ftpStats.getCurrentConnectionNumber());
         logger.debug("CurrentLoginNumber: {}", ftpStats.getCurrentLoginNumber());
+        logger.debug("PooledUploadBuffers: {}", bufferPool.getPooledBuffers());
     }
 
     private void initServer() throws FtpException {
@@ -141,7 +148,7 @@ public class FtpServer {
             @Override
             public FileSystemView createFileSystemView(User user) throws FtpException {
                 logger.debug("createFileSystemView: {}", user.getName());
-                return new SimpleFileSystemView();
+                return new SimpleFileSystemView(bufferPool, maxFileSize);
             }
         });
 
@@ -196,6 +203,10 @@ public class FtpServer {
 
             SimpleFtpFile file = (SimpleFtpFile) session.getFileSystemView().getFile(fileName);
             byte[] data = file.getData();
+            if (data == null) {
+                logger.debug("File {} upload failed", fileName);
+                return FtpletResult.SKIP;
+            }
 
             sendMsgToListeners(session.getUser().getName(), fileName, data);
             return FtpletResult.SKIP;
@@ -23,7 +23,16 @@ import org.slf4j.LoggerFactory;
 public class SimpleFileSystemView implements FileSystemView {
     private Logger logger = LoggerFactory.getLogger(SimpleFileSystemView.class);
 
-    SimpleFtpFile file = new SimpleFtpFile();
+    private final UploadBufferPool bufferPool;
+    private final int maxFileSize;
+
+    SimpleFtpFile file;
+
+    public SimpleFileSystemView(UploadBufferPool bufferPool, int maxFileSize) {
+        this.bufferPool = bufferPool;
+        this.maxFileSize = maxFileSize;
+        file = new SimpleFtpFile(bufferPool, maxFileSize);
+    }
 
     @Override
     public boolean changeWorkingDirectory(String arg0) throws FtpException {
@@ -45,13 +54,13 @@ public class SimpleFileSystemView implements FileSystemView {
     @Override
     public FtpFile getHomeDirectory() throws FtpException {
         logger.trace("getHomeDirectory");
-        return new SimpleFtpFile();
+        return new SimpleFtpFile(bufferPool, maxFileSize);
     }
 
     @Override
     public FtpFile getWorkingDirectory() throws FtpException {
         logger.trace("getWorkingDirectory");
-        return new SimpleFtpFile();
+        return new SimpleFtpFile(bufferPool, maxFileSize);
     }
 
     @Override
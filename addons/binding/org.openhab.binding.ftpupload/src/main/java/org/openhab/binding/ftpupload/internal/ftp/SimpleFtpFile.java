@@ -11,10 +11,9 @@ package org.openhab.binding.ftpupload.internal.ftp;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 
-import javax.xml.bind.DatatypeConverter;
-
 import org.apache.ftpserver.ftplet.FtpFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,10 +27,29 @@ import org.slf4j.LoggerFactory;
 public class SimpleFtpFile implements FtpFile {
     private Logger logger = LoggerFactory.getLogger(SimpleFtpFile.class);
 
+    private final UploadBufferPool bufferPool;
+    private final int maxFileSize;
+
     MyOutputStream file;
 
+    /**
+     * @param bufferPool pool of the buffers uploaded data is received into
+     * @param maxFileSize maximum size of an uploaded file in bytes
+     */
+    public SimpleFtpFile(UploadBufferPool bufferPool, int maxFileSize) {
+        this.bufferPool = bufferPool;
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * Returns the data of the last upload and releases its buffers.
+     *
+     * @return the uploaded data or null if the upload failed
+     */
     public byte[] getData() {
-        return file.getData();
+        MyOutputStream uploaded = file;
+        file = null;
+        return uploaded != null ? uploaded.getData() : null;
     }
 
     @Override
@@ -43,6 +61,9 @@ public class SimpleFtpFile implements FtpFile {
     @Override
     public OutputStream createOutputStream(long arg0) throws IOException {
         logger.trace("createOutputStream: {}", arg0);
+        if (file != null) {
+            file.release();
+        }
         file = new MyOutputStream();
         return file;
     }
@@ -167,23 +188,92 @@ public class SimpleFtpFile implements FtpFile {
         return null;
     }
 
+    /**
+     * Receives the uploaded data into buffers from the {@link UploadBufferPool}, which are copied once into an array
+     * of the exact file size when the upload has ended.
+     */
     private class MyOutputStream extends OutputStream {
-        private StringBuilder data = new StringBuilder();
+        private final List<byte[]> buffers = new ArrayList<>();
+        private final long startTime = System.nanoTime();
+        private byte[] buffer;
+        private int position = UploadBufferPool.BUFFER_SIZE;
+        private int size;
+        private boolean failed;
 
         @Override
         public void write(int b) throws IOException {
-            data.append(String.format("%02X", (byte) b));
+            ensureCapacity(1);
+            buffer[position++] = (byte) b;
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return;
+            }
+            ensureCapacity(len);
+            while (len > 0) {
+                if (position == buffer.length) {
+                    nextBuffer();
+                }
+                int count = Math.min(len, buffer.length - position);
+                System.arraycopy(b, off, buffer, position, count);
+                position += count;
+                off += count;
+                len -= count;
+                size += count;
+            }
+        }
+
+        private void ensureCapacity(int len) throws IOException {
+            if (failed) {
+                throw new IOException("Upload failed");
+            }
+            if (len > maxFileSize - size) {
+                failed = true;
+                release();
+                throw new IOException("File exceeds the maximum size of " + maxFileSize + " bytes");
+            }
+            if (position == UploadBufferPool.BUFFER_SIZE) {
+                nextBuffer();
+            }
+        }
+
+        private void nextBuffer() {
+            buffer = bufferPool.acquire();
+            buffers.add(buffer);
+            position = 0;
         }
 
         public byte[] getData() {
-            try {
-                byte[] d = DatatypeConverter.parseHexBinary(data.toString());
-                logger.debug("File len: {}", d.length);
-                return d;
-            } catch (IllegalArgumentException e) {
-                logger.debug("Exception occured during data conversion: {}", e.getMessage());
+            if (failed) {
+                return null;
+            }
+            byte[] d = new byte[size];
+            int offset = 0;
+            for (byte[] b : buffers) {
+                int count = Math.min(b.length, size - offset);
+                System.arraycopy(b, 0, d, offset, count);
+                offset += count;
+            }
+            release();
+            long duration = System.nanoTime() - startTime;
+            logger.debug("File len: {}, received in {} ms ({} kB/s)", d.length, duration / 1000000,
+                    duration > 0 ? d.length * 1000000L / duration : 0);
+            return d;
+        }
+
+        private void release() {
+            for (byte[] b : buffers) {
+                bufferPool.release(b);
             }
-            return null;
+            buffers.clear();
+            buffer = null;
+            position = UploadBufferPool.BUFFER_SIZE;
         }
     }
 }
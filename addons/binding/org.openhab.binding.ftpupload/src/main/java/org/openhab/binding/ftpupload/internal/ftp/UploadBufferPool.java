@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ftpupload.internal.ftp;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Pool of fixed size buffers to receive uploaded files into. The buffers are shared by all FTP sessions, so that
+ * concurrent uploads reuse the memory of previous uploads instead of allocating it again.
+ *
+ * @author agent - Initial contribution
+ */
+public class UploadBufferPool {
+
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private final int maxPooledBuffers;
+    private final Deque<byte[]> buffers = new ArrayDeque<>();
+
+    /**
+     * @param maxPooledBuffers maximum number of buffers which are kept for reuse
+     */
+    public UploadBufferPool(int maxPooledBuffers) {
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    /**
+     * @return a buffer of {@link #BUFFER_SIZE} bytes
+     */
+    public synchronized byte[] acquire() {
+        byte[] buffer = buffers.pollFirst();
+        return buffer != null ? buffer : new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Returns a buffer to the pool. The buffer must not be used by the caller anymore.
+     */
+    public synchronized void release(byte[] buffer) {
+        if (buffer.length == BUFFER_SIZE && buffers.size() < maxPooledBuffers) {
+            buffers.addFirst(buffer);
+        }
+    }
+
+    public synchronized int getPooledBuffers() {
+        return buffers.size();
+    }
+}
@@ -10,6 +10,9 @@ package org.openhab.binding.ftpupload.internal.handler;
 
 import static org.openhab.binding.ftpupload.internal.FtpUploadBindingConstants.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -42,6 +45,12 @@ public class FtpUploadHandler extends BaseThingHandler implements FtpServerEvent
     private FtpUploadConfig configuration;
     private FtpServer ftpServer;
 
+    /**
+     * Image and trigger channels with their compiled filename patterns, built when the handler is initialized
+     */
+    private volatile List<FilenameMatcher> imageChannels = Collections.emptyList();
+    private volatile List<FilenameMatcher> triggerChannels = Collections.emptyList();
+
     public FtpUploadHandler(Thing thing, FtpServer ftpServer) {
         super(thing);
         this.ftpServer = ftpServer;
@@ -62,6 +71,7 @@ public class FtpUploadHandler extends BaseThingHandler implements FtpServerEvent
         logger.debug("Initializing handler for FTP Upload Binding");
         configuration = getConfigAs(FtpUploadConfig.class);
         logger.debug("Using configuration: {}", configuration.toString());
+        compileFilenamePatterns();
 
         ftpServer.addEventListener(this);
         try {
@@ -98,38 +108,60 @@ public class FtpUploadHandler extends BaseThingHandler implements FtpServerEvent
         return mimeType;
     }
 
-    private void updateChannels(String filename, byte[] data) {
+    private void compileFilenamePatterns() {
+        List<FilenameMatcher> images = new ArrayList<>();
+        List<FilenameMatcher> triggers = new ArrayList<>();
         for (Channel channel : thing.getChannels()) {
             String channelConf = (String) channel.getConfiguration().get(PARAM_FILENAME_PATTERN);
             if (channelConf != null) {
-                if (filenameMatch(filename, channelConf)) {
-                    if ("Image".equals(channel.getAcceptedItemType())) {
-                        updateState(channel.getUID().getId(), new RawType(data, guessMimeTypeFromData(data)));
+                try {
+                    FilenameMatcher matcher = new FilenameMatcher(channel.getUID().getId(),
+                            Pattern.compile(channelConf));
+                    if ("TRIGGER".equals(channel.getKind().toString())) {
+                        triggers.add(matcher);
+                    } else if ("Image".equals(channel.getAcceptedItemType())) {
+                        images.add(matcher);
                     }
+                } catch (PatternSyntaxException e) {
+                    logger.warn("Invalid filename pattern '{}', reason: {}", channelConf, e.getMessage());
                 }
             }
         }
+        imageChannels = images;
+        triggerChannels = triggers;
     }
 
-    private void updateTriggers(String filename) {
-        for (Channel channel : thing.getChannels()) {
-            String channelConf = (String) channel.getConfiguration().get(PARAM_FILENAME_PATTERN);
-            if (channelConf != null) {
-                if (filenameMatch(filename, channelConf)) {
-                    if ("TRIGGER".equals(channel.getKind().toString())) {
-                        triggerChannel(channel.getUID().getId(), EVENT_IMAGE_RECEIVED);
-                    }
+    private void updateChannels(String filename, byte[] data) {
+        RawType image = null;
+        for (FilenameMatcher matcher : imageChannels) {
+            if (matcher.matches(filename)) {
+                if (image == null) {
+                    image = new RawType(data, guessMimeTypeFromData(data));
                 }
+                updateState(matcher.channelId, image);
             }
         }
     }
 
-    private boolean filenameMatch(String filename, String pattern) {
-        try {
-            return Pattern.compile(pattern).matcher(filename).find();
-        } catch (PatternSyntaxException e) {
-            logger.warn("Invalid filename pattern '{}', reason: {}", pattern, e.getMessage());
+    private void updateTriggers(String filename) {
+        for (FilenameMatcher matcher : triggerChannels) {
+            if (matcher.matches(filename)) {
+                triggerChannel(matcher.channelId, EVENT_IMAGE_RECEIVED);
+            }
+        }
+    }
+
+    private static class FilenameMatcher {
+        private final String channelId;
+        private final Pattern pattern;
+
+        FilenameMatcher(String channelId, Pattern pattern) {
+            this.channelId = channelId;
+            this.pattern = pattern;
+        }
+
+        boolean matches(String filename) {
+            return pattern.matcher(filename).find();
         }
-        return false;
     }
 }
@@ -47,6 +47,7 @@ public class Constants {
 
     public static final String API_URL_CAPABILITY = API_URL_BASE + "/capability";
     public static final String API_URL_CAPABILITY_STATES = API_URL_CAPABILITY + "/states";
+    public static final String API_URL_CAPABILITY_ID_STATE = API_URL_CAPABILITY + "/{id}/state";
 
     public static final String API_URL_MESSAGE = API_URL_BASE + "/message";
 
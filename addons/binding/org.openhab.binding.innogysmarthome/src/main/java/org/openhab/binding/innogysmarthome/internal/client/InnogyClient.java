@@ -669,21 +669,17 @@ public class InnogyClient {
 
     /**
      * Returns the {@link Device} with the given deviceId with full configuration details, {@link Capability}s and
-     * states. Calling this may take a little bit longer...
+     * states. Only the states of the capabilities of the device are loaded. The locations are only loaded, if the
+     * location of the device is not one of the given known locations.
      *
      * @param deviceId
+     * @param knownLocations the already loaded {@link Location}s by id
      * @return
      * @throws IOException
      * @throws ApiException
      */
-    public Device getFullDeviceById(String deviceId) throws IOException, ApiException {
-        // LOCATIONS
-        List<Location> locationList = getLocations();
-        Map<String, Location> locationMap = new HashMap<>();
-        for (Location l : locationList) {
-            locationMap.put(l.getId(), l);
-        }
-
+    public Device getFullDeviceById(String deviceId, Map<String, Location> knownLocations)
+            throws IOException, ApiException {
         // CAPABILITIES FOR DEVICE
         List<Capability> capabilityList = getCapabilitiesForDevice(deviceId);
         Map<String, Capability> capabilityMap = new HashMap<>();
@@ -691,13 +687,6 @@ public class InnogyClient {
             capabilityMap.put(c.getId(), c);
         }
 
-        // CAPABILITY STATES
-        List<CapabilityState> capabilityStateList = getCapabilityStates();
-        Map<String, CapabilityState> capabilityStateMap = new HashMap<>();
-        for (CapabilityState cs : capabilityStateList) {
-            capabilityStateMap.put(cs.getId(), cs);
-        }
-
         // DEVICE STATE
         List<Property> deviceStateList = getDeviceStatesByDeviceId(deviceId);
         DeviceState deviceState = new DeviceState();
@@ -727,14 +716,22 @@ public class InnogyClient {
         }
 
         // location
-        d.setLocation(locationMap.get(d.getLocationId()));
+        Location location = knownLocations.get(d.getLocationId());
+        if (location == null && d.getLocationId() != null) {
+            for (Location l : getLocations()) {
+                if (l.getId().equals(d.getLocationId())) {
+                    location = l;
+                }
+            }
+        }
+        d.setLocation(location);
 
         // capabilities and their states
         HashMap<String, Capability> deviceCapabilityMap = new HashMap<>();
         for (CapabilityLink cl : d.getCapabilityLinkList()) {
 
             Capability c = capabilityMap.get(cl.getId());
-            c.setCapabilityState(capabilityStateMap.get(c.getId()));
+            c.setCapabilityState(getCapabilityStateById(c.getId()));
             deviceCapabilityMap.put(c.getId(), c);
 
         }
@@ -875,6 +872,28 @@ public class InnogyClient {
         return capabilityStatesList;
     }
 
+    /**
+     * Loads and returns the {@link CapabilityState} of the {@link Capability} with the given id.
+     *
+     * @param capabilityId the id of the {@link Capability}
+     * @return
+     * @throws IOException
+     * @throws ApiException
+     */
+    public CapabilityState getCapabilityStateById(String capabilityId) throws IOException, ApiException {
+        logger.debug("Loading capability state for capability {}...", capabilityId);
+
+        HttpResponse response = executeGet(API_URL_CAPABILITY_ID_STATE.replace("{id}", capabilityId));
+
+        handleResponseErrors(response);
+
+        Property[] propertyArray = response.parseAs(Property[].class);
+        CapabilityState capabilityState = new CapabilityState();
+        capabilityState.setId(capabilityId);
+        capabilityState.setStateList(new ArrayList<>(Arrays.asList(propertyArray)));
+        return capabilityState;
+    }
+
     /**
      * Returns a {@link List} of all {@link Message}s.
      *
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
@@ -86,6 +87,9 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
     private Gson gson = new Gson();
 
     private Set<DeviceStatusListener> deviceStatusListeners = new CopyOnWriteArraySet<>();
+    private final Map<String, Set<DeviceStatusListener>> deviceStatusListenersByDeviceId = new ConcurrentHashMap<>();
+    // ids of the devices and capabilities waiting for their refresh
+    private final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
 
     private ScheduledFuture<?> reinitJob;
 
@@ -341,6 +345,7 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         }
 
         deviceStructMan = null;
+        pendingRefreshes.clear();
 
         super.dispose();
         logger.debug("innogy SmartHome bridge handler shut down.");
@@ -372,6 +377,139 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         return deviceStatusListeners.remove(deviceStatusListener);
     }
 
+    /**
+     * Registers a {@link DeviceStatusListener}, that is only informed about the {@link Device} with the given id.
+     *
+     * @param deviceId
+     * @param deviceStatusListener
+     * @return true, if successful
+     */
+    public boolean registerDeviceStatusListener(String deviceId, DeviceStatusListener deviceStatusListener) {
+        if (deviceStatusListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
+        }
+        return deviceStatusListenersByDeviceId.computeIfAbsent(deviceId, id -> new CopyOnWriteArraySet<>())
+                .add(deviceStatusListener);
+    }
+
+    /**
+     * Unregisters a {@link DeviceStatusListener} for the {@link Device} with the given id.
+     *
+     * @param deviceId
+     * @param deviceStatusListener
+     * @return true, if successful
+     */
+    public boolean unregisterDeviceStatusListener(String deviceId, DeviceStatusListener deviceStatusListener) {
+        if (deviceStatusListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
+        }
+        Set<DeviceStatusListener> listeners = deviceStatusListenersByDeviceId.get(deviceId);
+        return listeners != null && listeners.remove(deviceStatusListener);
+    }
+
+    /**
+     * Informs the {@link DeviceStatusListener}s of the given {@link Device} about its changed state.
+     *
+     * @param device
+     */
+    private void notifyDeviceStatusListeners(Device device) {
+        for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
+            deviceStatusListener.onDeviceStateChanged(device);
+        }
+        Set<DeviceStatusListener> listeners = deviceStatusListenersByDeviceId.get(device.getId());
+        if (listeners != null) {
+            for (DeviceStatusListener deviceStatusListener : listeners) {
+                deviceStatusListener.onDeviceStateChanged(device);
+            }
+        }
+    }
+
+    /**
+     * Informs the {@link DeviceStatusListener}s of the given {@link Device} about its state changed by the given
+     * {@link Event}.
+     *
+     * @param device
+     * @param event
+     */
+    private void notifyDeviceStatusListeners(Device device, Event event) {
+        for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
+            deviceStatusListener.onDeviceStateChanged(device, event);
+        }
+        Set<DeviceStatusListener> listeners = deviceStatusListenersByDeviceId.get(device.getId());
+        if (listeners != null) {
+            for (DeviceStatusListener deviceStatusListener : listeners) {
+                deviceStatusListener.onDeviceStateChanged(device, event);
+            }
+        }
+    }
+
+    /**
+     * Schedules a refresh of the {@link Device} with the given id, which informs the {@link DeviceStatusListener}s
+     * afterwards. The refresh runs on the scheduler instead of the thread of the websocket and requests for a device
+     * that is already waiting for its refresh are ignored.
+     *
+     * @param deviceId
+     */
+    private void scheduleDeviceRefresh(String deviceId) {
+        if (!pendingRefreshes.add(deviceId)) {
+            logger.trace("Refresh of device {} already pending.", deviceId);
+            return;
+        }
+        scheduler.execute(() -> {
+            pendingRefreshes.remove(deviceId);
+            DeviceStructureManager structMan = deviceStructMan;
+            if (structMan == null) {
+                return;
+            }
+            try {
+                structMan.refreshDevice(deviceId);
+            } catch (Exception e) {
+                handleClientException(e);
+                return;
+            }
+            Device device = structMan.getDeviceById(deviceId);
+            if (device != null) {
+                notifyDeviceStatusListeners(device);
+            } else {
+                logger.debug("Unknown/unsupported device {}.", deviceId);
+            }
+        });
+    }
+
+    /**
+     * Schedules a refresh of the state of the {@link Capability} with the given id, which informs the
+     * {@link DeviceStatusListener}s afterwards. Like {@link #scheduleDeviceRefresh(String)}, requests for a capability
+     * that is already waiting for its refresh are ignored.
+     *
+     * @param deviceId
+     * @param capabilityId
+     */
+    private void scheduleCapabilityStateRefresh(String deviceId, String capabilityId) {
+        if (!pendingRefreshes.add(capabilityId)) {
+            logger.trace("Refresh of capability {} already pending.", capabilityId);
+            return;
+        }
+        scheduler.execute(() -> {
+            pendingRefreshes.remove(capabilityId);
+            DeviceStructureManager structMan = deviceStructMan;
+            if (structMan == null) {
+                return;
+            }
+            try {
+                if (!structMan.refreshCapabilityState(deviceId, capabilityId)) {
+                    return;
+                }
+            } catch (Exception e) {
+                handleClientException(e);
+                return;
+            }
+            Device device = structMan.getDeviceById(deviceId);
+            if (device != null) {
+                notifyDeviceStatusListeners(device);
+            }
+        });
+    }
+
     /**
      * Loads a Collection of {@link Device}s from the bridge and returns them.
      *
@@ -535,8 +673,12 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         if (event.isLinkedtoCapability()) {
             Device device = deviceStructMan.getDeviceByCapabilityLink(event.getLink().getValue());
             if (device != null) {
-                for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                    deviceStatusListener.onDeviceStateChanged(device, event);
+                Capability capability = device.getCapabilityMap().get(event.getLinkId());
+                if (capability != null && !capability.hasState()) {
+                    // the loaded state contains the change of the event
+                    scheduleCapabilityStateRefresh(device.getId(), capability.getId());
+                } else {
+                    notifyDeviceStatusListeners(device, event);
                 }
             } else {
                 logger.debug("Unknown/unsupported device for capability {}.", event.getLink().getValue());
@@ -544,14 +686,11 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
 
             // DEVICE
         } else if (event.isLinkedtoDevice()) {
-            deviceStructMan.refreshDevice(event.getLinkId());
             Device device = deviceStructMan.getDeviceById(event.getLinkId());
-            if (device != null) {
-                for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                    deviceStatusListener.onDeviceStateChanged(device, event);
-                }
+            if (device != null && deviceStructMan.applyDeviceStateChange(device.getId(), event.getPropertyList())) {
+                notifyDeviceStatusListeners(device, event);
             } else {
-                logger.debug("Unknown/unsupported device {}.", event.getLinkId());
+                scheduleDeviceRefresh(event.getLinkId());
             }
 
         } else {
@@ -600,15 +739,7 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         for (Message m : messageList) {
             if (Message.TYPE_DEVICE_LOW_BATTERY.equals(m.getType())) {
                 for (Link dl : m.getDeviceLinkList()) {
-                    deviceStructMan.refreshDevice(dl.getId());
-                    Device device = deviceStructMan.getDeviceById(dl.getId());
-                    if (device != null) {
-                        for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                            deviceStatusListener.onDeviceStateChanged(device);
-                        }
-                    } else {
-                        logger.debug("Unknown/unsupported device {}.", event.getLinkId());
-                    }
+                    scheduleDeviceRefresh(dl.getId());
                 }
             } else {
                 logger.debug("Message received event not yet implemented for Messagetype {}.", m.getType());
@@ -631,11 +762,7 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
             if (Link.LINK_TYPE_MESSAGE.equals(event.getLinkType())) {
                 Device device = deviceStructMan.getDeviceWithMessageId(event.getLinkId());
                 if (device != null) {
-                    deviceStructMan.refreshDevice(device.getId());
-                    device = deviceStructMan.getDeviceById(device.getId());
-                    for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                        deviceStatusListener.onDeviceStateChanged(device);
-                    }
+                    scheduleDeviceRefresh(device.getId());
                 } else {
                     logger.debug("Unknown/unsupported device {}.", event.getLinkId());
                 }
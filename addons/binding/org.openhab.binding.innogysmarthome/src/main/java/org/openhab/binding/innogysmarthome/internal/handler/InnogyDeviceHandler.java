@@ -179,6 +179,20 @@ public class InnogyDeviceHandler extends BaseThingHandler implements DeviceStatu
         initializeThing(bridgeStatusInfo.getStatus());
     }
 
+    @Override
+    public void dispose() {
+        synchronized (this.lock) {
+            if (this.bridgeHandler != null) {
+                if (deviceId != null) {
+                    this.bridgeHandler.unregisterDeviceStatusListener(deviceId, this);
+                }
+                this.bridgeHandler.unregisterDeviceStatusListener(this);
+                this.bridgeHandler = null;
+            }
+        }
+        super.dispose();
+    }
+
     /**
      * Initializes the {@link Thing} corresponding to the given status of the bridge.
      *
@@ -278,7 +292,11 @@ public class InnogyDeviceHandler extends BaseThingHandler implements DeviceStatu
                 ThingHandler handler = bridge.getHandler();
                 if (handler instanceof InnogyBridgeHandler) {
                     this.bridgeHandler = (InnogyBridgeHandler) handler;
-                    this.bridgeHandler.registerDeviceStatusListener(this);
+                    if (deviceId != null) {
+                        this.bridgeHandler.registerDeviceStatusListener(deviceId, this);
+                    } else {
+                        this.bridgeHandler.registerDeviceStatusListener(this);
+                    }
                 } else {
                     return null;
                 }
@@ -14,14 +14,17 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openhab.binding.innogysmarthome.internal.InnogyBindingConstants;
 import org.openhab.binding.innogysmarthome.internal.client.InnogyClient;
+import org.openhab.binding.innogysmarthome.internal.client.entity.Location;
 import org.openhab.binding.innogysmarthome.internal.client.entity.Message;
 import org.openhab.binding.innogysmarthome.internal.client.entity.Property;
 import org.openhab.binding.innogysmarthome.internal.client.entity.capability.Capability;
 import org.openhab.binding.innogysmarthome.internal.client.entity.device.Device;
 import org.openhab.binding.innogysmarthome.internal.client.entity.link.CapabilityLink;
+import org.openhab.binding.innogysmarthome.internal.client.entity.state.CapabilityState;
 import org.openhab.binding.innogysmarthome.internal.client.exception.ApiException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +43,7 @@ public class DeviceStructureManager {
     private final InnogyClient client;
     private final Map<String, Device> deviceMap;
     private final Map<String, Device> capabilityToDeviceMap;
+    private final Map<String, Location> locationMap = new ConcurrentHashMap<>();
     private String bridgeDeviceId;
 
     /**
@@ -90,17 +94,66 @@ public class DeviceStructureManager {
     }
 
     /**
-     * Refreshs the {@link Device} with the given id and stores it in the {@link DeviceStructureManager}.
+     * Refreshs the {@link Device} with the given id and stores it in the {@link DeviceStructureManager}. Only the
+     * states of the device and its capabilities are loaded, the already known locations are reused.
      *
      * @param deviceId
      * @throws IOException
      * @throws ApiException
      */
     public void refreshDevice(String deviceId) throws IOException, ApiException {
-        Device d = client.getFullDeviceById(deviceId);
+        Device d = client.getFullDeviceById(deviceId, locationMap);
         handleRefreshedDevice(d);
     }
 
+    /**
+     * Refreshs the state of the {@link Capability} with the given id of the {@link Device} with the given id.
+     *
+     * @param deviceId
+     * @param capabilityId
+     * @return false, if the device or capability is unknown
+     * @throws IOException
+     * @throws ApiException
+     */
+    public boolean refreshCapabilityState(String deviceId, String capabilityId) throws IOException, ApiException {
+        Device device = getDeviceById(deviceId);
+        Capability capability = device != null ? device.getCapabilityMap().get(capabilityId) : null;
+        if (capability == null) {
+            return false;
+        }
+        CapabilityState capabilityState = client.getCapabilityStateById(capabilityId);
+        capability.setCapabilityState(capabilityState);
+        return true;
+    }
+
+    /**
+     * Applies the changed state properties of a state changed event to the cached state of the {@link Device} with the
+     * given id.
+     *
+     * @param deviceId
+     * @param changedProperties the properties of the event
+     * @return false, if the device has no state or the state has no property with the name of a changed property. The
+     *         device must then be refreshed.
+     */
+    public boolean applyDeviceStateChange(String deviceId, List<Property> changedProperties) {
+        Device device = getDeviceById(deviceId);
+        if (device == null || !device.hasState()) {
+            return false;
+        }
+        Map<String, Property> stateMap = device.getDeviceState().getStateMap();
+        for (Property p : changedProperties) {
+            if (!stateMap.containsKey(p.getName())) {
+                return false;
+            }
+        }
+        for (Property p : changedProperties) {
+            Property state = stateMap.get(p.getName());
+            state.setValue(p.getValue());
+            state.setLastchanged(p.getLastchanged());
+        }
+        return true;
+    }
+
     /**
      * Stores the newly refreshed {@link Device} in the {@link DeviceStructureManager} structure and logs the
      * {@link Device}s details and state, if the debug logging is enabled.
@@ -121,6 +174,10 @@ public class DeviceStructureManager {
             bridgeDeviceId = d.getId();
         }
 
+        if (d.hasLocation() && d.getLocation().getId() != null) {
+            locationMap.put(d.getLocation().getId(), d.getLocation());
+        }
+
         if (logger.isDebugEnabled()) {
             try {
                 logger.debug("Device {}:'{}' by {} ({}) loaded.", d.getType(), d.getName(), d.getManufacturer(),
@@ -10,9 +10,17 @@ package org.openhab.binding.kodi.internal.protocol;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.concurrent.CountDownLatch;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
@@ -25,6 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -33,6 +42,9 @@ import com.google.gson.JsonParser;
  * KodiClientSocket implements the low level communication to Kodi through
  * websocket. Usually this communication is done through port 9090
  *
+ * Responses are matched to their requests by the JSON-RPC id, so that many calls can be outstanding at the same time.
+ * Calls which are sent together with {@link #callMethods(List)} are sent as a single JSON-RPC batch.
+ *
  * @author Paul Frank
  *
  */
@@ -43,9 +55,10 @@ public class KodiClientSocket {
     private final ScheduledExecutorService scheduler;
     private static final int REQUEST_TIMEOUT_MS = 60000;
 
-    private CountDownLatch commandLatch = null;
-    private JsonObject commandResponse = null;
-    private int nextMessageId = 1;
+    private final AtomicInteger nextMessageId = new AtomicInteger(1);
+    private final Map<Integer, PendingCall> pendingCalls = new ConcurrentHashMap<>();
+    private final Map<String, KodiMethodStatistics> methodStatistics = new ConcurrentHashMap<>();
+    private final Object sendLock = new Object();
 
     private boolean connected = false;
 
@@ -96,6 +109,10 @@ public class KodiClientSocket {
             }
             session = null;
         }
+        failPendingCalls();
+        if (!methodStatistics.isEmpty()) {
+            logger.debug("Statistics of the called methods: {}", methodStatistics);
+        }
         try {
             client.stop();
         } catch (Exception e) {
@@ -133,13 +150,19 @@ public class KodiClientSocket {
         @OnWebSocketMessage
         public void onMessage(String message) {
             logger.debug("Message received from server: {}", message);
-            final JsonObject json = parser.parse(message).getAsJsonObject();
-            if (json.has("id")) {
-                int messageId = json.get("id").getAsInt();
-                if (messageId == nextMessageId - 1) {
-                    commandResponse = json;
-                    commandLatch.countDown();
+            final JsonElement element = parser.parse(message);
+            if (element.isJsonArray()) {
+                // response to a batch
+                for (JsonElement response : element.getAsJsonArray()) {
+                    if (response.isJsonObject()) {
+                        handleResponse(response.getAsJsonObject());
+                    }
                 }
+                return;
+            }
+            final JsonObject json = element.getAsJsonObject();
+            if (json.has("id")) {
+                handleResponse(json);
             } else {
                 logger.debug("Event received from server: {}", json);
                 if (eventHandler != null) {
@@ -160,6 +183,7 @@ public class KodiClientSocket {
             logger.debug("Closing a WebSocket due to {}", reason);
             session = null;
             connected = false;
+            failPendingCalls();
             if (eventHandler != null) {
                 scheduler.submit(() -> {
                     try {
@@ -172,10 +196,48 @@ public class KodiClientSocket {
         }
     }
 
+    private void handleResponse(JsonObject json) {
+        JsonElement id = json.get("id");
+        PendingCall call = id != null && id.isJsonPrimitive() ? pendingCalls.remove(id.getAsInt()) : null;
+        if (call == null) {
+            logger.debug("Response without pending call received from server: {}", json);
+            return;
+        }
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - call.startTime);
+        getStatistics(call.methodName).onResponse(latency, !json.has("result"));
+        logger.debug("Response to {} received after {} ms", call.methodName, latency);
+        call.response.complete(json);
+    }
+
+    private void failPendingCalls() {
+        for (Integer id : new ArrayList<>(pendingCalls.keySet())) {
+            PendingCall call = pendingCalls.remove(id);
+            if (call != null) {
+                call.response.complete(null);
+            }
+        }
+    }
+
+    private KodiMethodStatistics getStatistics(String methodName) {
+        return methodStatistics.computeIfAbsent(methodName, key -> new KodiMethodStatistics());
+    }
+
+    /**
+     * Returns the latency statistics of the methods called since this socket was created.
+     *
+     * @return the statistics by method name
+     */
+    public Map<String, KodiMethodStatistics> getMethodStatistics() {
+        return Collections.unmodifiableMap(methodStatistics);
+    }
+
     private void sendMessage(String str) throws IOException {
         if (isConnected()) {
             logger.debug("send message: {}", str);
-            session.getRemote().sendString(str);
+            // a blocking send of the websocket must not be called concurrently
+            synchronized (sendLock) {
+                session.getRemote().sendString(str);
+            }
         } else {
             throw new IOException("socket not initialized");
         }
@@ -185,40 +247,93 @@ public class KodiClientSocket {
         return callMethod(methodName, null);
     }
 
-    public synchronized JsonElement callMethod(String methodName, JsonObject params) {
-        try {
+    public JsonElement callMethod(String methodName, JsonObject params) {
+        return callMethods(Collections.singletonList(new KodiRequest(methodName, params))).get(0);
+    }
+
+    /**
+     * Calls several methods with a single message. The calls are sent as a JSON-RPC batch, unless there is only one.
+     *
+     * @param requests the method calls
+     * @return the results of the calls, in the order of the requests. A result is null if the call failed.
+     */
+    public List<JsonElement> callMethods(List<KodiRequest> requests) {
+        List<PendingCall> calls = new ArrayList<>(requests.size());
+        JsonArray batch = new JsonArray();
+        for (KodiRequest request : requests) {
+            int id = nextMessageId.getAndIncrement();
             JsonObject payloadObject = new JsonObject();
             payloadObject.addProperty("jsonrpc", "2.0");
-            payloadObject.addProperty("id", nextMessageId);
-            payloadObject.addProperty("method", methodName);
+            payloadObject.addProperty("id", id);
+            payloadObject.addProperty("method", request.getMethodName());
 
-            if (params != null) {
-                payloadObject.add("params", params);
+            if (request.getParams() != null) {
+                payloadObject.add("params", request.getParams());
             }
+            batch.add(payloadObject);
 
-            String message = mapper.toJson(payloadObject);
-
-            commandLatch = new CountDownLatch(1);
-            commandResponse = null;
-            nextMessageId++;
-
-            sendMessage(message);
-            if (commandLatch.await(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
-                logger.debug("callMethod returns {}", commandResponse);
-                if (commandResponse.has("result")) {
-                    return commandResponse.get("result");
-                } else {
-                    JsonElement error = commandResponse.get("error");
-                    logger.debug("Error received from server: {}", error);
-                    return null;
-                }
+            PendingCall call = new PendingCall(id, request.getMethodName());
+            calls.add(call);
+            pendingCalls.put(id, call);
+        }
+
+        List<JsonElement> results = new ArrayList<>(requests.size());
+        try {
+            sendMessage(mapper.toJson(batch.size() == 1 ? batch.get(0) : batch));
+        } catch (Exception e) {
+            logger.debug("Error during callMethods({}): {}", requests, e.getMessage(), e);
+            for (PendingCall call : calls) {
+                pendingCalls.remove(call.id);
+                results.add(null);
+            }
+            return results;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(REQUEST_TIMEOUT_MS);
+        for (int i = 0; i < calls.size(); i++) {
+            results.add(awaitResult(calls.get(i), requests.get(i), deadline));
+        }
+        return results;
+    }
+
+    private JsonElement awaitResult(PendingCall call, KodiRequest request, long deadline) {
+        try {
+            JsonObject response = call.response.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            logger.debug("callMethod returns {}", response);
+            if (response == null) {
+                logger.debug("Connection closed during callMethod({})", request);
+                return null;
+            } else if (response.has("result")) {
+                return response.get("result");
             } else {
-                logger.debug("Timeout during callMethod({}, {})", methodName, params);
+                JsonElement error = response.get("error");
+                logger.debug("Error received from server: {}", error);
                 return null;
             }
-        } catch (Exception e) {
-            logger.debug("Error during callMethod({}): {}", methodName, e.getMessage(), e);
+        } catch (TimeoutException e) {
+            pendingCalls.remove(call.id);
+            getStatistics(call.methodName).onTimeout();
+            logger.debug("Timeout during callMethod({})", request);
+            return null;
+        } catch (InterruptedException e) {
+            pendingCalls.remove(call.id);
+            Thread.currentThread().interrupt();
             return null;
+        } catch (ExecutionException e) {
+            logger.debug("Error during callMethod({}): {}", request, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private static class PendingCall {
+        private final int id;
+        private final String methodName;
+        private final long startTime = System.nanoTime();
+        private final CompletableFuture<JsonObject> response = new CompletableFuture<>();
+
+        PendingCall(int id, String methodName) {
+            this.id = id;
+            this.methodName = methodName;
         }
     }
 }
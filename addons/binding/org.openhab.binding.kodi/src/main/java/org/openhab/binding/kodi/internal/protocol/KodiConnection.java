@@ -165,7 +165,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         }
     }
 
-    public synchronized void playerPlayPause() {
+    public void playerPlayPause() {
         int activePlayer = getActivePlayer();
 
         JsonObject params = new JsonObject();
@@ -173,7 +173,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.PlayPause", params);
     }
 
-    public synchronized void playerStop() {
+    public void playerStop() {
         int activePlayer = getActivePlayer();
 
         JsonObject params = new JsonObject();
@@ -351,7 +351,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
      *
      * @param window the window
      */
-    public synchronized void activateWindow(final String window) {
+    public void activateWindow(final String window) {
         activateWindow(window, null);
     }
 
@@ -361,7 +361,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
      * @param window the window
      * @param windowParameter list of parameters of the window
      */
-    public synchronized void activateWindow(final String window, @Nullable final String[] windowParameter) {
+    public void activateWindow(final String window, @Nullable final String[] windowParameter) {
         JsonObject params = new JsonObject();
         params.addProperty("window", window);
         if (windowParameter != null) {
@@ -392,7 +392,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return volume;
     }
 
-    public synchronized void setMute(boolean mute) {
+    public void setMute(boolean mute) {
         JsonObject params = new JsonObject();
         params.addProperty("mute", mute);
         socket.callMethod("Application.SetMute", params);
@@ -406,6 +406,10 @@ public class KodiConnection implements KodiClientSocketEventListener {
         params.add("properties", getJsonArray(properties));
         JsonElement response = socket.callMethod("Player.GetProperties", params);
 
+        return getSpeed(response);
+    }
+
+    private int getSpeed(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("speed")) {
@@ -419,37 +423,53 @@ public class KodiConnection implements KodiClientSocketEventListener {
         if (socket.isConnected()) {
             int activePlayer = getActivePlayer();
             if (activePlayer >= 0) {
-                int speed = getSpeed(activePlayer);
-                if (speed == 0) {
-                    updateState(KodiState.STOP);
-                } else if (speed == 1) {
-                    updateState(KodiState.PLAY);
-                } else if (speed < 0) {
-                    updateState(KodiState.REWIND);
-                } else {
-                    updateState(KodiState.FASTFORWARD);
-                }
-                requestPlayerUpdate(activePlayer);
+                requestPlayerUpdate(activePlayer, true);
             } else {
                 updateState(KodiState.STOP);
             }
         }
     }
 
-    private void requestPlayerUpdate(int activePlayer) {
-        requestPlayerItemUpdate(activePlayer);
-        requestPlayerPropertiesUpdate(activePlayer);
-    }
-
-    private void requestPlayerItemUpdate(int activePlayer) {
-        final String[] properties = { "title", "album", "artist", "director", "thumbnail", "file", "fanart",
+    /**
+     * Requests the properties and the item of the active player in a single batch.
+     *
+     * @param activePlayer the id of the active player
+     * @param updateSpeed true if the state should be updated from the speed of the player
+     */
+    private void requestPlayerUpdate(int activePlayer, boolean updateSpeed) {
+        final String[] itemProperties = { "title", "album", "artist", "director", "thumbnail", "file", "fanart",
                 "showtitle", "streamdetails", "channel", "channeltype", "genre" };
+        final String[] playerProperties = updateSpeed ? new String[] { "speed", "percentage", "time", "totaltime" }
+                : new String[] { "percentage", "time", "totaltime" };
 
-        JsonObject params = new JsonObject();
-        params.addProperty("playerid", activePlayer);
-        params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetItem", params);
+        JsonObject itemParams = new JsonObject();
+        itemParams.addProperty("playerid", activePlayer);
+        itemParams.add("properties", getJsonArray(itemProperties));
+
+        JsonObject playerParams = new JsonObject();
+        playerParams.addProperty("playerid", activePlayer);
+        playerParams.add("properties", getJsonArray(playerProperties));
+
+        List<JsonElement> responses = socket.callMethods(Arrays.asList(new KodiRequest("Player.GetItem", itemParams),
+                new KodiRequest("Player.GetProperties", playerParams)));
+
+        if (updateSpeed) {
+            int speed = getSpeed(responses.get(1));
+            if (speed == 0) {
+                updateState(KodiState.STOP);
+            } else if (speed == 1) {
+                updateState(KodiState.PLAY);
+            } else if (speed < 0) {
+                updateState(KodiState.REWIND);
+            } else {
+                updateState(KodiState.FASTFORWARD);
+            }
+        }
+        handlePlayerItem(responses.get(0));
+        handlePlayerProperties(responses.get(1));
+    }
 
+    private void handlePlayerItem(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("item")) {
@@ -526,14 +546,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         }
     }
 
-    private void requestPlayerPropertiesUpdate(int activePlayer) {
-        final String[] properties = { "percentage", "time", "totaltime" };
-
-        JsonObject params = new JsonObject();
-        params.addProperty("playerid", activePlayer);
-        params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetProperties", params);
-
+    private void handlePlayerProperties(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
 
@@ -685,7 +698,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
 
             updateState(KodiState.PLAY);
 
-            requestPlayerUpdate(playerId);
+            requestPlayerUpdate(playerId, false);
         } else if ("Player.OnPause".equals(method)) {
             updateState(KodiState.PAUSE);
         } else if ("Player.OnResume".equals(method)) {
@@ -902,7 +915,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.Open", params);
     }
 
-    public synchronized void showNotification(String message) {
+    public void showNotification(String message) {
         JsonObject params = new JsonObject();
         params.addProperty("title", "openHAB");
         params.addProperty("message", message);
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.kodi.internal.protocol;
+
+/**
+ * Latency statistics of the calls of a single JSON-RPC method.
+ *
+ * @author agent - Initial contribution
+ */
+public class KodiMethodStatistics {
+
+    private long calls;
+    private long errors;
+    private long timeouts;
+    private long totalLatency;
+    private long maxLatency;
+
+    synchronized void onResponse(long latency, boolean error) {
+        calls++;
+        if (error) {
+            errors++;
+        }
+        totalLatency += latency;
+        maxLatency = Math.max(maxLatency, latency);
+    }
+
+    synchronized void onTimeout() {
+        calls++;
+        timeouts++;
+    }
+
+    /**
+     * @return the number of calls, including the ones that timed out
+     */
+    public synchronized long getCalls() {
+        return calls;
+    }
+
+    /**
+     * @return the number of calls which returned an error
+     */
+    public synchronized long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return the number of calls which got no response in time
+     */
+    public synchronized long getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * @return the average time in milliseconds until a response was received
+     */
+    public synchronized long getAverageLatency() {
+        long responses = calls - timeouts;
+        return responses > 0 ? totalLatency / responses : 0;
+    }
+
+    /**
+     * @return the maximum time in milliseconds until a response was received
+     */
+    public synchronized long getMaxLatency() {
+        return maxLatency;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("calls=%d, errors=%d, timeouts=%d, avg=%dms, max=%dms", calls, errors, timeouts,
+                getAverageLatency(), maxLatency);
+    }
+}
@@ -79,6 +79,24 @@ class LxControlState {
         }
     }
 
+    /**
+     * Sets current value of the control's state, received in a binary value state table.
+     * The value is boxed only when it differs from the current one.
+     *
+     * @param value
+     *            current state's value to set
+     */
+    void setValue(double value) {
+        uuid.setUpdate(true);
+
+        if (this.value == null || Double.doubleToLongBits(this.value) != Double.doubleToLongBits(value)) {
+            this.value = value;
+            for (LxControlStateListener listener : listeners) {
+                listener.onStateChange(this);
+            }
+        }
+    }
+
     /**
      * Sets current text value of the control's state
      *
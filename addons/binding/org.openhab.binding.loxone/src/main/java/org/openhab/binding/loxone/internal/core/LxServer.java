@@ -25,6 +25,9 @@ import org.openhab.binding.loxone.internal.core.LxServerEvent.EventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+
 /**
  * Loxone Miniserver representaton.
  * <p>
@@ -96,7 +99,20 @@ public class LxServer {
     // the state. It must be ensured that updates received for this state UUID are passed to all controls that have this
     // state UUID configured.
     private final Map<LxUuid, Map<LxUuid, LxControlState>> states = new HashMap<>();
+    // Index of the same states by binary UUID, used to apply value state tables without creating UUID objects
+    private LxStateIndex stateIndex = new LxStateIndex(states);
     private final List<LxServerListener> listeners = new ArrayList<>();
+    // Configuration applied last time, used to apply only the differences when a new configuration is received
+    private String appliedLastModified;
+    private JsonElement appliedInfo;
+    private JsonElement appliedRooms;
+    private JsonElement appliedCategories;
+    private Map<String, JsonElement> appliedControls = new HashMap<>();
+
+    // Time of the last connection attempt and delay until first state update was received after it
+    private long connectTime;
+    private boolean awaitingFirstState;
+    private volatile long reconnectLatency = -1;
 
     // Services
     private LxWsClient socketClient;
@@ -106,6 +122,8 @@ public class LxServer {
     private final Logger logger = LoggerFactory.getLogger(LxServer.class);
     private final int debugId;
     private static final AtomicInteger STATIC_DEBUG_ID = new AtomicInteger(1);
+    // Size of a single record in a binary value state table: UUID and double value
+    private static final int VALUE_STATE_SIZE = 24;
 
     /**
      * Creates a new instance of Loxone Miniserver with provided host address and credentials.
@@ -304,6 +322,16 @@ public class LxServer {
         return controls;
     }
 
+    /**
+     * Gets time between the last connection attempt and reception of first state updates from the Miniserver
+     *
+     * @return
+     *         latency in milliseconds or -1 if no state updates were received yet
+     */
+    public long getReconnectLatency() {
+        return reconnectLatency;
+    }
+
     /**
      * Gets Miniserver name
      *
@@ -404,6 +432,8 @@ public class LxServer {
                             }
                         } while (wsMsg != null);
                         logger.debug("[{}] Server connecting to websocket", debugId);
+                        connectTime = System.nanoTime();
+                        awaitingFirstState = true;
                         connected = socketClient.connect();
                         if (!connected) {
                             waitTime = connectErrDelay;
@@ -435,33 +465,45 @@ public class LxServer {
                 case RECEIVED_CONFIG:
                     LxJsonApp3 config = (LxJsonApp3) wsMsg.getObject();
                     if (config != null) {
-                        updateConfig(config);
-                        for (LxServerListener listener : listeners) {
-                            listener.onNewConfig(server);
+                        if (updateConfig(config)) {
+                            for (LxServerListener listener : listeners) {
+                                listener.onNewConfig(server);
+                            }
                         }
                     } else {
                         logger.debug("[{}] Server failed processing received configuration", debugId);
                     }
                     break;
-                case STATE_UPDATE:
-                    LxWsStateUpdateEvent update = (LxWsStateUpdateEvent) wsMsg.getObject();
-                    Map<LxUuid, LxControlState> perStateUuid = findState(update.getUuid());
-                    if (perStateUuid != null) {
-                        perStateUuid.forEach((controlUuid, state) -> {
-                            state.setValue(update.getValue(), update.getText());
-                            LxControl control = state.getControl();
-                            if (control != null) {
-                                logger.debug("[{}] State update {} ({}:{}) to value {}, text '{}'", debugId,
-                                        update.getUuid(), control.getName(), state.getName(), update.getValue(),
-                                        update.getText());
-                                for (LxServerListener listener : listeners) {
-                                    listener.onControlStateUpdate(control, state.getName().toLowerCase());
-                                }
-                            } else {
-                                logger.debug("[{}] State update {} ({}) of unknown control", debugId, update.getUuid(),
-                                        state.getName());
+                case VALUE_STATES_UPDATE:
+                    byte[] table = (byte[]) wsMsg.getObject();
+                    if (awaitingFirstState) {
+                        awaitingFirstState = false;
+                        reconnectLatency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectTime);
+                        logger.debug("[{}] First state updates received {} ms after connecting", debugId,
+                                reconnectLatency);
+                    }
+                    for (int offset = 0; offset + VALUE_STATE_SIZE <= table.length; offset += VALUE_STATE_SIZE) {
+                        LxControlState[] perStateUuid = stateIndex.get(table, offset);
+                        if (perStateUuid != null) {
+                            double value = Double.longBitsToDouble(LxUuid.readLong(table, offset + 16));
+                            for (LxControlState state : perStateUuid) {
+                                state.setValue(value);
+                                notifyStateUpdate(state);
                             }
-                        });
+                        }
+                    }
+                    break;
+                case STATE_UPDATE:
+                    @SuppressWarnings("unchecked")
+                    List<LxWsStateUpdateEvent> updates = (List<LxWsStateUpdateEvent>) wsMsg.getObject();
+                    for (LxWsStateUpdateEvent update : updates) {
+                        Map<LxUuid, LxControlState> perStateUuid = findState(update.getUuid());
+                        if (perStateUuid != null) {
+                            perStateUuid.forEach((controlUuid, state) -> {
+                                state.setValue(update.getValue(), update.getText());
+                                notifyStateUpdate(state);
+                            });
+                        }
                     }
                     break;
                 case SERVER_ONLINE:
@@ -506,65 +548,137 @@ public class LxServer {
             return true;
         }
 
+        /**
+         * Notifies listeners about an update of a control's state
+         *
+         * @param state
+         *            updated state
+         */
+        private void notifyStateUpdate(LxControlState state) {
+            LxControl control = state.getControl();
+            if (control != null) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("[{}] State update {} ({}:{}) to value {}, text '{}'", debugId,
+                            state.getUuid(), control.getName(), state.getName(), state.getValue(),
+                            state.getTextValue());
+                }
+                for (LxServerListener listener : listeners) {
+                    listener.onControlStateUpdate(control, state.getName().toLowerCase());
+                }
+            } else {
+                logger.debug("[{}] State update {} ({}) of unknown control", debugId, state.getUuid(),
+                        state.getName());
+            }
+        }
     }
 
     /**
      * Updates runtime configuration from parsed JSON configuration file of Loxone Miniserver (LoxApp3.json)
+     * <p>
+     * Only the parts of configuration that differ from the configuration applied previously are processed. If the
+     * configuration has the same modification time as the one applied previously, it is not processed at all.
      *
      * @param config
      *            parsed JSON LoxApp3.json file
+     * @return
+     *         true if configuration has changed
      */
-    private void updateConfig(LxJsonApp3 config) {
+    private boolean updateConfig(LxJsonApp3 config) {
+        if (config.lastModified != null && config.lastModified.equals(appliedLastModified)) {
+            logger.debug("[{}] Configuration not modified since {}", debugId, appliedLastModified);
+            return false;
+        }
         logger.trace("[{}] Updating configuration from Miniserver", debugId);
-
-        invalidateMap(rooms);
-        invalidateMap(categories);
-        invalidateMap(controls);
-        invalidateMap(states);
-
-        if (config.msInfo != null) {
-            logger.trace("[{}] updating global config", debugId);
-            miniserverName = buildName(config.msInfo.msName);
-            projectName = buildName(config.msInfo.projectName);
-            location = buildName(config.msInfo.location);
-            serial = buildName(config.msInfo.serialNr);
-            cloudAddress = buildName(config.msInfo.remoteUrl);
-            swVersion = buildName(config.msInfo.swVersion);
-            macAddress = buildName(config.msInfo.macAddress);
-        } else {
-            logger.warn("[{}] missing global configuration msInfo on Loxone", debugId);
+        Gson gson = socketClient.getGson();
+        boolean changed = false;
+
+        JsonElement info = gson.toJsonTree(config.msInfo);
+        if (!info.equals(appliedInfo)) {
+            changed = true;
+            appliedInfo = info;
+            if (config.msInfo != null) {
+                logger.trace("[{}] updating global config", debugId);
+                miniserverName = buildName(config.msInfo.msName);
+                projectName = buildName(config.msInfo.projectName);
+                location = buildName(config.msInfo.location);
+                serial = buildName(config.msInfo.serialNr);
+                cloudAddress = buildName(config.msInfo.remoteUrl);
+                swVersion = buildName(config.msInfo.swVersion);
+                macAddress = buildName(config.msInfo.macAddress);
+            } else {
+                logger.warn("[{}] missing global configuration msInfo on Loxone", debugId);
+            }
         }
 
         // create internal structures based on configuration file
-        if (config.rooms != null) {
-            logger.trace("[{}] creating rooms", debugId);
-            for (LxJsonApp3.LxJsonRoom room : config.rooms.values()) {
-                addOrUpdateRoom(new LxUuid(room.uuid), room.name);
+        boolean containersChanged = false;
+        JsonElement roomsJson = gson.toJsonTree(config.rooms);
+        if (!roomsJson.equals(appliedRooms)) {
+            containersChanged = true;
+            appliedRooms = roomsJson;
+            logger.trace("[{}] updating rooms", debugId);
+            invalidateMap(rooms);
+            if (config.rooms != null) {
+                for (LxJsonApp3.LxJsonRoom room : config.rooms.values()) {
+                    addOrUpdateRoom(new LxUuid(room.uuid), room.name);
+                }
             }
-        }
-        if (config.cats != null) {
-            logger.trace("[{}] creating categories", debugId);
-            for (LxJsonApp3.LxJsonCat cat : config.cats.values()) {
-                addOrUpdateCategory(new LxUuid(cat.uuid), cat.name, cat.type);
+            removeUnusedFromMap(rooms);
+        }
+        JsonElement categoriesJson = gson.toJsonTree(config.cats);
+        if (!categoriesJson.equals(appliedCategories)) {
+            containersChanged = true;
+            appliedCategories = categoriesJson;
+            logger.trace("[{}] updating categories", debugId);
+            invalidateMap(categories);
+            if (config.cats != null) {
+                for (LxJsonApp3.LxJsonCat cat : config.cats.values()) {
+                    addOrUpdateCategory(new LxUuid(cat.uuid), cat.name, cat.type);
+                }
             }
+            removeUnusedFromMap(categories);
+        }
+
+        if (containersChanged) {
+            // controls refer to rooms and categories, update all of them
+            changed = true;
+            appliedControls.clear();
         }
+        invalidateMap(controls);
+        invalidateMap(states);
+        Map<String, JsonElement> controlsJson = new HashMap<>();
+        int modified = 0;
         if (config.controls != null) {
-            logger.trace("[{}] creating controls", debugId);
+            logger.trace("[{}] updating controls", debugId);
             for (LxJsonApp3.LxJsonControl ctrl : config.controls.values()) {
+                JsonElement json = gson.toJsonTree(ctrl);
+                LxControl control = ctrl.uuidAction != null ? findControl(new LxUuid(ctrl.uuidAction)) : null;
+                if (control != null && json.equals(appliedControls.get(ctrl.uuidAction))) {
+                    // control not changed, keep it and its states
+                    controlsJson.put(ctrl.uuidAction, json);
+                    updateControls(control);
+                    continue;
+                }
                 // create a new control or update existing one
                 try {
                     addOrUpdateControl(ctrl);
+                    controlsJson.put(ctrl.uuidAction, json);
+                    modified++;
                 } catch (Exception e) {
                     logger.error("[{}] exception creating control {}: ", debugId, ctrl.name, e);
                 }
             }
         }
+        appliedControls = controlsJson;
         // remove items that do not exist anymore in Miniserver
         logger.trace("[{}] removing unused objects", debugId);
-        removeUnusedFromMap(rooms);
-        removeUnusedFromMap(categories);
-        removeUnusedFromMap(controls);
+        int removed = removeUnusedFromMap(controls);
         removeUnusedFromMap(states);
+        stateIndex = new LxStateIndex(states);
+        appliedLastModified = config.lastModified;
+        logger.debug("[{}] Configuration updated: {} controls added or modified, {} removed", debugId, modified,
+                removed);
+        return changed || modified > 0 || removed > 0;
     }
 
     /**
@@ -574,18 +688,22 @@ public class LxServer {
      *            any type of container used in the map
      * @param map
      *            map to remove entries from
+     * @return
+     *         number of removed entries
      */
-
-    private <T> void removeUnusedFromMap(Map<LxUuid, T> map) {
+    private <T> int removeUnusedFromMap(Map<LxUuid, T> map) {
+        int removed = 0;
         for (Iterator<Map.Entry<LxUuid, T>> it = map.entrySet().iterator(); it.hasNext();) {
             Map.Entry<LxUuid, T> entry = it.next();
             if (!entry.getKey().getUpdate()) {
                 it.remove();
+                removed++;
                 if (entry.getValue() instanceof LxControl) {
                     ((LxControl) entry.getValue()).dispose();
                 }
             }
         }
+        return removed;
     }
 
     /**
@@ -42,10 +42,15 @@ class LxServerEvent {
          */
         RECEIVED_CONFIG,
         /**
-         * Received control's state value or text update from Miniserver. There is a {@link LxWsStateUpdateEvent} object
-         * associated.
+         * Received a table of controls' state text updates from Miniserver. There is a list of
+         * {@link LxWsStateUpdateEvent} objects associated.
          */
         STATE_UPDATE,
+        /**
+         * Received a table of controls' state values from Miniserver. There is a byte array associated, containing
+         * all value state records received in one websocket message.
+         */
+        VALUE_STATES_UPDATE,
         /**
          * Received request to shutdown thread from {@link LxServer} object.
          */
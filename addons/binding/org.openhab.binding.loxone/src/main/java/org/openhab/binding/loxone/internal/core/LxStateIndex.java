@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.loxone.internal.core;
+
+import java.util.Map;
+
+/**
+ * Index of control states by binary UUID, used to apply value state tables received from the Miniserver.
+ * <p>
+ * A state table contains a 128-bit UUID and a double value per state. The index keeps the UUIDs as two longs in an
+ * open-addressing hash table, so that a state can be found directly from the received bytes, without creating
+ * {@link LxUuid} objects.
+ * <p>
+ * The index is immutable and is rebuilt each time a new configuration is received from the Miniserver.
+ *
+ * @author agent - initial contribution
+ *
+ */
+class LxStateIndex {
+    private static final LxControlState[] NO_STATES = new LxControlState[0];
+
+    private final long[] lowBits;
+    private final long[] highBits;
+    private final LxControlState[][] states;
+    private final int mask;
+    private final int size;
+
+    /**
+     * Create index of states
+     *
+     * @param states
+     *            map of state UUID to a map of control UUID and state objects
+     */
+    LxStateIndex(Map<LxUuid, Map<LxUuid, LxControlState>> states) {
+        int capacity = 16;
+        // keep load factor below 0.5 for short probe sequences
+        while (capacity < states.size() * 2) {
+            capacity <<= 1;
+        }
+        lowBits = new long[capacity];
+        highBits = new long[capacity];
+        this.states = new LxControlState[capacity][];
+        mask = capacity - 1;
+        int count = 0;
+        for (Map.Entry<LxUuid, Map<LxUuid, LxControlState>> entry : states.entrySet()) {
+            LxUuid uuid = entry.getKey();
+            if (uuid.isBinary() && !entry.getValue().isEmpty()) {
+                int slot = find(uuid.getLowBits(), uuid.getHighBits());
+                lowBits[slot] = uuid.getLowBits();
+                highBits[slot] = uuid.getHighBits();
+                this.states[slot] = entry.getValue().values().toArray(NO_STATES);
+                count++;
+            }
+        }
+        size = count;
+    }
+
+    /**
+     * Get states with the UUID located in the buffer
+     *
+     * @param data
+     *            buffer with binary UUID
+     * @param offset
+     *            offset of the UUID in the buffer
+     * @return
+     *         all state objects with this UUID or null if not found
+     */
+    LxControlState[] get(byte data[], int offset) {
+        return states[find(LxUuid.readLong(data, offset), LxUuid.readLong(data, offset + 8))];
+    }
+
+    /**
+     * Get number of indexed state UUIDs
+     *
+     * @return
+     *         number of state UUIDs in the index
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds slot with given UUID or the first free slot where it can be stored
+     */
+    private int find(long low, long high) {
+        long hash = (low ^ Long.rotateLeft(high, 32)) * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash >>> 32) & mask;
+        while (states[slot] != null && (lowBits[slot] != low || highBits[slot] != high)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
@@ -24,6 +24,10 @@ public class LxUuid {
     private String uuid;
     private String uuidOriginal;
     private boolean updated;
+    // binary representation of the UUID as received in state update tables, two little-endian longs
+    private long lowBits;
+    private long highBits;
+    private boolean binary;
 
     /**
      * Create a new {@link LxUuid} object from an UUID on a Miniserver.
@@ -49,6 +53,35 @@ public class LxUuid {
         uuidOriginal = uuid;
         this.uuid = uuidOriginal.replaceAll("[^a-zA-Z0-9-]", "-").toUpperCase();
         updated = true;
+        parseBinary();
+    }
+
+    /**
+     * Converts UUID string in the format xxxxxxxx-xxxx-xxxx-xxxxxxxxxxxxxxxx into the binary representation, which is
+     * used by the Miniserver in binary state update tables. UUIDs in other formats can't be received in binary form.
+     */
+    private void parseBinary() {
+        if (uuid.length() != 35) {
+            return;
+        }
+        for (int i = 0; i < 35; i++) {
+            boolean separator = i == 8 || i == 13 || i == 18;
+            if (separator != (uuid.charAt(i) == '-') || (!separator && Character.digit(uuid.charAt(i), 16) < 0)) {
+                return;
+            }
+        }
+        // first three groups are little-endian numbers, last group is a sequence of bytes
+        lowBits = parseHex(0, 8) | (parseHex(9, 13) << 32) | (parseHex(14, 18) << 48);
+        highBits = Long.reverseBytes(parseHex(19, 35));
+        binary = true;
+    }
+
+    private long parseHex(int start, int end) {
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            result = (result << 4) | Character.digit(uuid.charAt(i), 16);
+        }
+        return result;
     }
 
     @Override
@@ -76,6 +109,54 @@ public class LxUuid {
         return uuid;
     }
 
+    /**
+     * Checks if the UUID has a binary representation, returned by {@link #getLowBits()} and {@link #getHighBits()}
+     *
+     * @return
+     *         true if UUID can be received in a binary state update table
+     */
+    boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * Returns first 8 bytes of binary representation of the UUID
+     *
+     * @return
+     *         bytes 0-7 of the binary UUID as little-endian long
+     */
+    long getLowBits() {
+        return lowBits;
+    }
+
+    /**
+     * Returns last 8 bytes of binary representation of the UUID
+     *
+     * @return
+     *         bytes 8-15 of the binary UUID as little-endian long
+     */
+    long getHighBits() {
+        return highBits;
+    }
+
+    /**
+     * Reads a little-endian long from a buffer, used to read binary UUIDs and values without allocations
+     *
+     * @param data
+     *            buffer to read from
+     * @param offset
+     *            offset of the first byte
+     * @return
+     *         value read from the buffer
+     */
+    static long readLong(byte data[], int offset) {
+        long result = 0;
+        for (int i = 7; i >= 0; i--) {
+            result = (result << 8) | (data[offset + i] & 0xff);
+        }
+        return result;
+    }
+
     /**
      * Returns an original string that was used to create UUID.
      *
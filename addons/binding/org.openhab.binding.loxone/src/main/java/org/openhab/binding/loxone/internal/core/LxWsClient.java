@@ -9,12 +9,18 @@
 package org.openhab.binding.loxone.internal.core;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -34,7 +40,9 @@ import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
 import org.eclipse.jetty.websocket.api.annotations.WebSocket;
 import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
 import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.openhab.binding.loxone.LoxoneBindingConstants;
 import org.openhab.binding.loxone.internal.core.LxJsonResponse.LxJsonCfgApi;
 import org.openhab.binding.loxone.internal.core.LxJsonResponse.LxJsonSubResponse;
 import org.openhab.binding.loxone.internal.core.LxServer.Configuration;
@@ -75,6 +83,7 @@ class LxWsClient {
     private WebSocketClient wsClient;
     private BlockingQueue<LxServerEvent> queue;
     private ClientState state = ClientState.IDLE;
+    private LxJsonApp3 cachedConfig;
     private final Lock stateMachineLock = new ReentrantLock();
     private final Logger logger = LoggerFactory.getLogger(LxWsClient.class);
 
@@ -86,6 +95,10 @@ class LxWsClient {
     private static final String CMD_KEEPALIVE = "keepalive";
     private static final String CMD_ENABLE_UPDATES = "jdev/sps/enablebinstatusupdate";
     private static final String CMD_GET_APP_CONFIG = "data/LoxAPP3.json";
+    private static final String CMD_GET_APP_VERSION = "jdev/sps/LoxAPPversion3";
+    private static final String APP_VERSION_CONTROL = "LoxAPPversion3";
+    private static final String CONFIG_CACHE_FOLDER = ConfigConstants.getUserDataFolder() + File.separator
+            + LoxoneBindingConstants.BINDING_ID;
     private static final String CMD_CFG_API = "jdev/cfg/api";
 
     /**
@@ -549,6 +562,7 @@ class LxWsClient {
         private LxWsSecurity security;
         private boolean syncRequest;
         private LxJsonSubResponse commandResponse;
+        private boolean versionResponseLate;
         private final Lock responseLock = new ReentrantLock();
         private final Condition responseAvailable = responseLock.newCondition();
 
@@ -651,20 +665,21 @@ class LxWsClient {
                     switch (header.type) {
                         case EVENT_TABLE_OF_VALUE_STATES:
                             stopResponseTimeout();
-                            while (length > 0) {
-                                LxWsStateUpdateEvent event = new LxWsStateUpdateEvent(true, data, offset);
-                                offset += event.getSize();
-                                length -= event.getSize();
-                                notifyMaster(EventType.STATE_UPDATE, null, event);
+                            // whole table is passed at once and decoded by the server thread
+                            if (length > 0) {
+                                notifyMaster(EventType.VALUE_STATES_UPDATE, null,
+                                        Arrays.copyOfRange(data, offset, offset + length));
                             }
                             break;
                         case EVENT_TABLE_OF_TEXT_STATES:
+                            List<LxWsStateUpdateEvent> events = new ArrayList<>();
                             while (length > 0) {
                                 LxWsStateUpdateEvent event = new LxWsStateUpdateEvent(false, data, offset);
                                 offset += event.getSize();
                                 length -= event.getSize();
-                                notifyMaster(EventType.STATE_UPDATE, null, event);
+                                events.add(event);
                             }
+                            notifyMaster(EventType.STATE_UPDATE, null, events);
                             break;
                         case KEEPALIVE_RESPONSE:
                         case TEXT_MESSAGE:
@@ -702,20 +717,18 @@ class LxWsClient {
                         processResponse(msg);
                         break;
                     case UPDATING_CONFIGURATION:
+                        if (isLateVersionResponse(msg)) {
+                            logger.debug("[{}] Ignoring late configuration modification time", debugId);
+                            break;
+                        }
                         try {
                             stopResponseTimeout();
+                            versionResponseLate = false;
                             LxJsonApp3 config = gson.fromJson(msg, LxJsonApp3.class);
-                            if (config.msInfo != null) {
-                                config.msInfo.swVersion = swVersion;
-                                config.msInfo.macAddress = macAddress;
-                            }
                             logger.debug("[{}] Received configuration from server", debugId);
-                            notifyMaster(EventType.RECEIVED_CONFIG, null, config);
-                            setClientState(ClientState.RUNNING);
-                            notifyMaster(EventType.SERVER_ONLINE, null, null);
-                            if (sendCmdWithResp(CMD_ENABLE_UPDATES, false, false) == null) {
-                                notifyAndClose(LxOfflineReason.COMMUNICATION_ERROR, "Failed to enable state updates.");
-                            }
+                            cachedConfig = config;
+                            storeConfig(msg);
+                            configurationReady(config);
                         } catch (JsonParseException e) {
                             notifyAndClose(LxOfflineReason.INTERNAL_ERROR, "Error processing received configuration");
                         }
@@ -812,6 +825,26 @@ class LxWsClient {
          *         response received (for sync command) or to be received (for async), null if error occurred
          */
         LxJsonSubResponse sendCmdWithResp(String command, boolean sync, boolean encrypt) {
+            return sendCmdWithResp(command, sync, encrypt, true);
+        }
+
+        /**
+         * Sends a command to the Miniserver, like {@link #sendCmdWithResp(String, boolean, boolean)}, but lets the
+         * caller decide if a timeout of a synchronous request is a communication error.
+         *
+         * @param command
+         *            command to send to the Miniserver
+         * @param sync
+         *            true is synchronous request, false if ansynchronous
+         * @param encrypt
+         *            true if command can be encrypted
+         * @param closeOnTimeout
+         *            true to close the connection if a synchronous request times out
+         * @return
+         *         response received (for sync command) or to be received (for async), null if error occurred
+         */
+        private LxJsonSubResponse sendCmdWithResp(String command, boolean sync, boolean encrypt,
+                boolean closeOnTimeout) {
             responseLock.lock();
             try {
                 if (commandResponse != null) {
@@ -828,7 +861,11 @@ class LxWsClient {
                 if (sync) {
                     if (!responseAvailable.await(connectTimeout, TimeUnit.SECONDS)) {
                         commandResponse = null;
-                        responseTimeout();
+                        if (closeOnTimeout) {
+                            responseTimeout();
+                        } else {
+                            logger.debug("[{}] Response timeout: {}", debugId, command);
+                        }
                         return null;
                     }
                     commandResponse = null;
@@ -947,12 +984,23 @@ class LxWsClient {
 
         /**
          * Perform actions after user authentication is successfully completed.
-         * This method sends a request to receive Miniserver configuration.
+         * This method sends a request to receive Miniserver configuration, unless the cached configuration is still
+         * up to date.
+         * It is called from the authentication thread, so it can send synchronous commands before locking the state
+         * machine.
          */
         private void authenticated() {
             logger.debug("[{}] Websocket authentication successfull.", debugId);
+            LxJsonApp3 config = getCachedConfig();
             stateMachineLock.lock();
             try {
+                if (config != null) {
+                    logger.debug("[{}] Configuration not modified since {}, using cached one", debugId,
+                            config.lastModified);
+                    startKeepAlive();
+                    configurationReady(config);
+                    return;
+                }
                 setClientState(ClientState.UPDATING_CONFIGURATION);
                 if (sendCmdNoResp(CMD_GET_APP_CONFIG, false)) {
                     startResponseTimeout();
@@ -965,6 +1013,132 @@ class LxWsClient {
             }
         }
 
+        /**
+         * Passes Miniserver configuration to the {@link LxServer} and enables state updates.
+         * The caller must take care of thread synchronization.
+         *
+         * @param config
+         *            received or cached configuration
+         */
+        private void configurationReady(LxJsonApp3 config) {
+            if (config.msInfo != null) {
+                config.msInfo.swVersion = swVersion;
+                config.msInfo.macAddress = macAddress;
+            }
+            notifyMaster(EventType.RECEIVED_CONFIG, null, config);
+            setClientState(ClientState.RUNNING);
+            notifyMaster(EventType.SERVER_ONLINE, null, null);
+            if (sendCmdWithResp(CMD_ENABLE_UPDATES, false, false) == null) {
+                notifyAndClose(LxOfflineReason.COMMUNICATION_ERROR, "Failed to enable state updates.");
+            }
+        }
+
+        /**
+         * Returns the configuration received previously or stored in the cache file, if the Miniserver reports the
+         * same modification time of its configuration. Must be called from a thread that can send synchronous commands.
+         *
+         * @return
+         *         cached configuration or null if it must be downloaded from the Miniserver
+         */
+        private LxJsonApp3 getCachedConfig() {
+            if (cachedConfig == null) {
+                cachedConfig = loadConfig();
+            }
+            LxJsonApp3 config = cachedConfig;
+            if (config == null || config.lastModified == null) {
+                return null;
+            }
+            // a timeout is not a communication error here, the configuration is downloaded instead
+            LxJsonSubResponse response = sendCmdWithResp(CMD_GET_APP_VERSION, true, false, false);
+            if (response == null) {
+                // a response may still arrive while the configuration is being downloaded
+                versionResponseLate = true;
+            }
+            if (response == null || response.code != 200 || response.value == null
+                    || !response.value.isJsonPrimitive()) {
+                logger.debug("[{}] Could not get configuration modification time", debugId);
+                return null;
+            }
+            String lastModified = response.value.getAsString();
+            if (!config.lastModified.equals(lastModified)) {
+                logger.debug("[{}] Configuration modified at {}, cached from {}", debugId, lastModified,
+                        config.lastModified);
+                return null;
+            }
+            return config;
+        }
+
+        /**
+         * Checks if a message received while waiting for the configuration is the response to a configuration
+         * modification time request which timed out before. The caller must take care of thread synchronization.
+         *
+         * @param msg
+         *            received message
+         * @return
+         *         true if the message is the late response and must not be processed as configuration
+         */
+        private boolean isLateVersionResponse(String msg) {
+            if (!versionResponseLate || !msg.contains(APP_VERSION_CONTROL)) {
+                return false;
+            }
+            LxJsonSubResponse subResp = getSubResponse(msg);
+            return subResp != null && subResp.control.contains(APP_VERSION_CONTROL);
+        }
+
+        /**
+         * Reads Miniserver configuration from the cache file
+         *
+         * @return
+         *         parsed configuration or null if not available
+         */
+        private LxJsonApp3 loadConfig() {
+            File file = getConfigFile();
+            if (file == null || !file.exists()) {
+                return null;
+            }
+            try {
+                String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+                return gson.fromJson(json, LxJsonApp3.class);
+            } catch (IOException | JsonParseException e) {
+                logger.debug("[{}] Error reading cached configuration {}: {}", debugId, file, e.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * Writes Miniserver configuration to the cache file, without blocking the websocket thread
+         *
+         * @param json
+         *            configuration as received from the Miniserver
+         */
+        private void storeConfig(String json) {
+            File file = getConfigFile();
+            if (file == null) {
+                return;
+            }
+            SCHEDULER.execute(() -> {
+                try {
+                    file.getParentFile().mkdirs();
+                    Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    logger.debug("[{}] Error writing cached configuration {}: {}", debugId, file, e.getMessage());
+                }
+            });
+        }
+
+        /**
+         * Returns the cache file of the configuration, identified by Miniserver's MAC address
+         *
+         * @return
+         *         cache file or null if Miniserver's MAC address is not known
+         */
+        private File getConfigFile() {
+            if (macAddress == null || macAddress.isEmpty()) {
+                return null;
+            }
+            return new File(CONFIG_CACHE_FOLDER, "LoxAPP3-" + macAddress.replaceAll("[^a-zA-Z0-9]", "") + ".json");
+        }
+
         /**
          * Start keep alive thread. The thread will periodically send keep alive messages until {@link #stopKeepAlive()}
          * is called or a connection terminates.
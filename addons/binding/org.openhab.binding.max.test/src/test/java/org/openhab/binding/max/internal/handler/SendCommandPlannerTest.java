@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.max.internal.handler;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.max.internal.command.CCommand;
+import org.openhab.binding.max.internal.command.QCommand;
+
+/**
+ * Tests cases for {@link SendCommandPlanner} and {@link DutyCycleBudget}.
+ *
+ * @author agent - Initial contribution
+ */
+public class SendCommandPlannerTest {
+
+    private static final long COMMAND_INTERVAL = 50;
+    private static final long TRANSMISSION_TIME = 36000;
+
+    private DutyCycleBudget budget;
+    private SendCommandPlanner planner;
+
+    @Before
+    public void before() {
+        budget = new DutyCycleBudget(80);
+        planner = new SendCommandPlanner(5, COMMAND_INTERVAL, budget);
+    }
+
+    private SendCommand setTemp(String serialNumber, double temperature) {
+        return new SendCommand(serialNumber, new ChannelUID("max:thermostat:cube:" + serialNumber + ":set_temp"),
+                new DecimalType(temperature));
+    }
+
+    @Test
+    public void commandsForSameRoomAreMergedTest() throws InterruptedException {
+        planner.offer(setTemp("KEQ0000001", 20.0), "room1-set_temp");
+        planner.offer(setTemp("KEQ0000002", 21.0), "room2-set_temp");
+        SendCommand last = setTemp("KEQ0000003", 22.0);
+        planner.offer(last, "room1-set_temp");
+
+        assertEquals(2, planner.size());
+        assertEquals("KEQ0000002", planner.take().getDeviceSerial());
+        assertSame(last, planner.take());
+        assertEquals(0, planner.size());
+    }
+
+    @Test
+    public void cubeCommandsSupersedeLastCommandOnlyTest() {
+        SendCommand refresh = new SendCommand("KEQ0000001", new CCommand("0b0da3"), "Refresh");
+        planner.offer(refresh, refresh.getKey());
+        planner.offer(refresh, refresh.getKey());
+        assertEquals(1, planner.size());
+
+        SendCommand reload = new SendCommand("KEQ0000001", new QCommand(), "Reload Data");
+        planner.offer(reload, reload.getKey());
+        planner.offer(refresh, refresh.getKey());
+        assertEquals(3, planner.size());
+    }
+
+    @Test
+    public void fullQueueDropsCommandTest() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(planner.offer(setTemp("KEQ000000" + i, 20.0), "room" + i + "-set_temp"));
+        }
+        assertFalse(planner.offer(setTemp("KEQ0000009", 20.0), "room9-set_temp"));
+        assertTrue(planner.offer(setTemp("KEQ0000000", 21.0), "room0-set_temp"));
+        assertEquals(5, planner.size());
+    }
+
+    @Test
+    public void transmittedCommandsTest() {
+        assertTrue(SendCommandPlanner.isTransmitted(setTemp("KEQ0000001", 20.0)));
+        assertFalse(SendCommandPlanner.isTransmitted(new SendCommand("KEQ0000001", new QCommand(), "Reload Data")));
+    }
+
+    @Test
+    public void budgetDelayTest() {
+        budget.onDutyCycleReport(79, 0);
+        assertEquals(0, budget.getDelay(0));
+
+        budget.onDutyCycleReport(80, 0);
+        assertEquals(TRANSMISSION_TIME, budget.getDelay(0));
+        assertEquals(0, budget.getDelay(TRANSMISSION_TIME));
+
+        budget.onTransmission(TRANSMISSION_TIME);
+        assertEquals(80.0, budget.getEstimatedDutyCycle(TRANSMISSION_TIME), 0.001);
+        assertEquals(TRANSMISSION_TIME, budget.getDelay(TRANSMISSION_TIME));
+    }
+
+    @Test
+    public void budgetLearnsTransmissionCostTest() {
+        budget.onDutyCycleReport(10, 0);
+        budget.onTransmission(0);
+        budget.onTransmission(0);
+        budget.onDutyCycleReport(14, 0);
+        assertEquals(1.25, budget.getTransmissionCost(), 0.001);
+
+        budget.onTransmission(0);
+        budget.onDutyCycleReport(10, 0);
+        assertEquals(1.25, budget.getTransmissionCost(), 0.001);
+    }
+
+    @Test
+    public void estimatedDrainTimeTest() {
+        planner.onDutyCycleReport(0);
+        planner.offer(setTemp("KEQ0000001", 20.0), "room1-set_temp");
+        planner.offer(setTemp("KEQ0000002", 20.0), "room2-set_temp");
+        SendCommand reload = new SendCommand("KEQ0000001", new QCommand(), "Reload Data");
+        planner.offer(reload, reload.getKey());
+        long now = System.currentTimeMillis();
+        assertEquals(3 * COMMAND_INTERVAL, planner.getEstimatedDrainTime(now));
+
+        planner.onDutyCycleReport(79);
+        now = System.currentTimeMillis();
+        long drainTime = planner.getEstimatedDrainTime(now);
+        assertTrue(drainTime > 3 * COMMAND_INTERVAL);
+        assertTrue(drainTime <= 3 * COMMAND_INTERVAL + TRANSMISSION_TIME);
+    }
+}
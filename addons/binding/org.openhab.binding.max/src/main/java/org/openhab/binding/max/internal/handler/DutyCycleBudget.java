@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.max.internal.handler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Model of the 868 MHz duty cycle budget of the MAX! Cube.
+ *
+ * The Cube is only allowed to transmit for 1% of an hour and reports the part of that budget it has used as duty
+ * cycle (in %). Between two reports the model estimates the used budget from the last reported value, the
+ * transmissions done since and the budget that is recovered over time. The cost of a single transmission is learned
+ * from the reports that follow transmissions.
+ *
+ * @author agent - Initial contribution
+ */
+public class DutyCycleBudget {
+
+    /** estimated duty cycle used by a single transmission until it has been learned (in %) */
+    static final double DEFAULT_TRANSMISSION_COST = 1.0;
+
+    /** the duty cycle is measured over one hour, so it recovers with at least 100% per hour */
+    private static final double RECOVERY_PER_MILLISECOND = 100.0 / TimeUnit.HOURS.toMillis(1);
+
+    private static final double MIN_TRANSMISSION_COST = 0.1;
+    private static final double MAX_TRANSMISSION_COST = 10.0;
+    private static final double LEARNING_WEIGHT = 0.25;
+
+    private final double limit;
+
+    private double reportedDutyCycle;
+    private long reportedTime;
+    private int transmissionsSinceReport;
+    private double transmissionCost = DEFAULT_TRANSMISSION_COST;
+
+    /**
+     * @param limit the duty cycle (in %) the scheduled transmissions should stay below
+     */
+    public DutyCycleBudget(double limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Processes a duty cycle reported by the Cube.
+     *
+     * @param dutyCycle the reported duty cycle (in %)
+     * @param now the current time in milliseconds
+     */
+    public synchronized void onDutyCycleReport(int dutyCycle, long now) {
+        if (transmissionsSinceReport > 0) {
+            double observedCost = (dutyCycle - getRecovered(reportedDutyCycle, now)) / transmissionsSinceReport;
+            if (observedCost > 0) {
+                transmissionCost = Math.max(MIN_TRANSMISSION_COST, Math.min(MAX_TRANSMISSION_COST,
+                        transmissionCost * (1 - LEARNING_WEIGHT) + observedCost * LEARNING_WEIGHT));
+            }
+        }
+        reportedDutyCycle = dutyCycle;
+        reportedTime = now;
+        transmissionsSinceReport = 0;
+    }
+
+    /**
+     * Accounts a transmission of the Cube which is not yet reflected in a reported duty cycle.
+     *
+     * @param now the current time in milliseconds
+     */
+    public synchronized void onTransmission(long now) {
+        reportedDutyCycle = getRecovered(reportedDutyCycle, now);
+        reportedTime = now;
+        transmissionsSinceReport++;
+    }
+
+    /**
+     * @param now the current time in milliseconds
+     * @return the estimated duty cycle (in %)
+     */
+    public synchronized double getEstimatedDutyCycle(long now) {
+        return getRecovered(reportedDutyCycle, now) + transmissionsSinceReport * transmissionCost;
+    }
+
+    /**
+     * @return the learned duty cycle used by a single transmission (in %)
+     */
+    public synchronized double getTransmissionCost() {
+        return transmissionCost;
+    }
+
+    /**
+     * @param now the current time in milliseconds
+     * @return the time in milliseconds until the next transmission fits in the budget
+     */
+    public synchronized long getDelay(long now) {
+        return getDelay(getEstimatedDutyCycle(now) + transmissionCost);
+    }
+
+    /**
+     * Estimates the time needed for a number of transmissions.
+     *
+     * @param transmissions the number of transmissions
+     * @param now the current time in milliseconds
+     * @return the time in milliseconds until all transmissions fit in the budget
+     */
+    public synchronized long getDelay(int transmissions, long now) {
+        if (transmissions <= 0) {
+            return 0;
+        }
+        return getDelay(getEstimatedDutyCycle(now) + transmissions * transmissionCost);
+    }
+
+    private long getDelay(double dutyCycle) {
+        double excess = dutyCycle - limit;
+        return excess > 0 ? (long) Math.ceil(excess / RECOVERY_PER_MILLISECOND) : 0;
+    }
+
+    private double getRecovered(double dutyCycle, long now) {
+        return Math.max(0, dutyCycle - Math.max(0, now - reportedTime) * RECOVERY_PER_MILLISECOND);
+    }
+}
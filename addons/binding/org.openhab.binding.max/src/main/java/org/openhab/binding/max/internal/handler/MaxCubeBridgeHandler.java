@@ -26,8 +26,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -110,9 +108,9 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
 
     /** maximum queue size that we're allowing */
     private static final int MAX_COMMANDS = 50;
-    private final BlockingQueue<SendCommand> commandQueue = new ArrayBlockingQueue<>(MAX_COMMANDS);
 
-    private SendCommand lastCommandId;
+    /** time between two commands send to the Cube */
+    private static final long COMMAND_INTERVAL = 50;
 
     private long refreshInterval = 30;
     private String ipAddress;
@@ -131,6 +129,9 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     private final ReentrantLock dutyCycleLock = new ReentrantLock();
     private final Condition excessDutyCycle = dutyCycleLock.newCondition();
 
+    private final SendCommandPlanner commandPlanner = new SendCommandPlanner(MAX_COMMANDS, COMMAND_INTERVAL,
+            new DutyCycleBudget(MAX_DUTY_CYCLE));
+
     /**
      * Duty cycle of the cube
      */
@@ -307,7 +308,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
             pollingJob = scheduler.scheduleWithFixedDelay(this::refreshData, 0, refreshInterval, TimeUnit.SECONDS);
         }
         if (queueConsumerThread == null || !queueConsumerThread.isAlive()) {
-            queueConsumerThread = new Thread(new QueueConsumer(commandQueue), "max-queue-consumer");
+            queueConsumerThread = new Thread(new QueueConsumer(commandPlanner), "max-queue-consumer");
             queueConsumerThread.setDaemon(true);
             queueConsumerThread.start();
         }
@@ -331,22 +332,23 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     }
 
     public class QueueConsumer implements Runnable {
-        private final BlockingQueue<SendCommand> commandQueue;
+        private final SendCommandPlanner commandPlanner;
 
-        public QueueConsumer(final BlockingQueue<SendCommand> commandQueue) {
-            this.commandQueue = commandQueue;
+        public QueueConsumer(final SendCommandPlanner commandPlanner) {
+            this.commandPlanner = commandPlanner;
         }
 
         /**
-         * Keeps taking commands from the command queue and send it to
-         * {@link sendCubeCommand} for execution.
+         * Keeps taking commands from the command planner and send it to
+         * {@link sendCubeCommand} for execution. The planner hands out commands
+         * transmitted by the Cube only when they fit in the duty cycle budget.
          */
         @Override
         public void run() {
             try {
                 while (!Thread.currentThread().isInterrupted()) {
                     waitForNormalDutyCycle();
-                    final SendCommand sendCommand = commandQueue.take();
+                    final SendCommand sendCommand = commandPlanner.take();
                     CubeCommand cmd = sendCommand.getCubeCommand();
                     if (cmd == null) {
                         cmd = getCommand(sendCommand);
@@ -361,7 +363,8 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
                             logger.debug("Error sending command {} to MAX! Cube at IP: {}", sendCommand, ipAddress);
                         }
                     }
-                    Thread.sleep(50);
+                    updateQueueState();
+                    Thread.sleep(COMMAND_INTERVAL);
                 }
             } catch (InterruptedException e) {
                 logger.debug("Stopping queueConsumer");
@@ -798,6 +801,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     }
 
     private void setDutyCycle(int dutyCycleMsg) {
+        commandPlanner.onDutyCycleReport(dutyCycleMsg);
         dutyCycleLock.lock();
         try {
             dutyCycle = dutyCycleMsg;
@@ -898,6 +902,9 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
      * item-channel combination are send prior that they are processed by the
      * Max! Cube, they will be removed from the queue as they would not be
      * meaningful. This will improve the behavior when using sliders in the GUI.
+     * As the Cube sends the S command of a thermostat in a room to all devices
+     * of the room, commands for the same channel of devices in the same room
+     * are merged as well.
      *
      * @param SendCommand
      *            the SendCommand containing the serial number of the device as
@@ -905,20 +912,28 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
      *            command data
      */
     public void queueCommand(SendCommand sendCommand) {
-        if (commandQueue.offer(sendCommand)) {
-            if (lastCommandId != null && lastCommandId.getKey().equals(sendCommand.getKey())) {
-                if (commandQueue.remove(lastCommandId)) {
-                    logger.debug("Removed Command id {} ({}) from queue. Superceeded by {}", lastCommandId.getId(),
-                            lastCommandId.getKey(), sendCommand.getId());
-                }
-            }
-            lastCommandId = sendCommand;
+        if (commandPlanner.offer(sendCommand, getPlanKey(sendCommand))) {
             logger.debug("Command queued id {} ({}:{}).", sendCommand.getId(), sendCommand.getKey(),
                     sendCommand.getCommandText());
-
         } else {
             logger.debug("Command queued full dropping command id {} ({}).", sendCommand.getId(), sendCommand.getKey());
         }
+        updateQueueState();
+    }
+
+    /**
+     * Get the key used to find commands superseded by the command. Commands
+     * for a thermostat in a room are keyed by room, as they are send to the
+     * whole room.
+     */
+    private String getPlanKey(SendCommand sendCommand) {
+        if (sendCommand.getCubeCommand() == null) {
+            Device device = getDevice(sendCommand.getDeviceSerial());
+            if (device != null && device.getRoomId() != 0) {
+                return "room" + device.getRoomId() + "-" + sendCommand.getChannelUID().getId();
+            }
+        }
+        return sendCommand.getKey();
     }
 
     /**
@@ -989,6 +1004,14 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     private void updateCubeState() {
         updateState(new ChannelUID(getThing().getUID(), CHANNEL_FREE_MEMORY), new DecimalType(freeMemorySlots));
         updateState(new ChannelUID(getThing().getUID(), CHANNEL_DUTY_CYCLE), new DecimalType(dutyCycle));
+        updateQueueState();
+    }
+
+    private void updateQueueState() {
+        long drainTime = commandPlanner.getEstimatedDrainTime(System.currentTimeMillis());
+        updateState(new ChannelUID(getThing().getUID(), CHANNEL_QUEUE_LENGTH), new DecimalType(commandPlanner.size()));
+        updateState(new ChannelUID(getThing().getUID(), CHANNEL_DRAIN_TIME),
+                new DecimalType(TimeUnit.MILLISECONDS.toSeconds(drainTime)));
     }
 
     public boolean hasExcessDutyCycle() {
@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.max.internal.handler;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openhab.binding.max.internal.command.CubeCommand;
+import org.openhab.binding.max.internal.command.SCommand;
+import org.openhab.binding.max.internal.command.SConfigCommand;
+import org.openhab.binding.max.internal.command.ZCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans the {@link SendCommand}s to be sent to the MAX! Cube.
+ *
+ * A channel command supersedes all queued commands with the same plan key. As an S command for a device in a room is
+ * sent to all devices of the room, the {@link MaxCubeBridgeHandler} uses the room as plan key for those, so that the
+ * setpoint changes for a room are merged into a single S command. Other commands only supersede the last queued
+ * command if it has the same key.
+ *
+ * Commands that are transmitted by the Cube over the air are only handed out once they fit in the
+ * {@link DutyCycleBudget}.
+ *
+ * @author agent - Initial contribution
+ */
+public class SendCommandPlanner {
+
+    private final Logger logger = LoggerFactory.getLogger(SendCommandPlanner.class);
+
+    private final int capacity;
+    private final long commandInterval;
+    private final DutyCycleBudget budget;
+
+    private final LinkedList<PlannedCommand> commands = new LinkedList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    /**
+     * @param capacity the maximum number of queued commands
+     * @param commandInterval the minimum time in milliseconds between two commands
+     * @param budget the duty cycle budget the transmissions are scheduled against
+     */
+    public SendCommandPlanner(int capacity, long commandInterval, DutyCycleBudget budget) {
+        this.capacity = capacity;
+        this.commandInterval = commandInterval;
+        this.budget = budget;
+    }
+
+    /**
+     * Queues a command.
+     *
+     * @param sendCommand the command to queue
+     * @param planKey the key of the device or room and channel the command applies to
+     * @return false if the queue is full and the command is dropped
+     */
+    public boolean offer(SendCommand sendCommand, String planKey) {
+        lock.lock();
+        try {
+            if (sendCommand.getCubeCommand() == null) {
+                Iterator<PlannedCommand> iterator = commands.iterator();
+                while (iterator.hasNext()) {
+                    PlannedCommand planned = iterator.next();
+                    if (planned.planKey.equals(planKey)) {
+                        iterator.remove();
+                        logSuperseded(planned.sendCommand, sendCommand);
+                    }
+                }
+            } else if (!commands.isEmpty() && commands.getLast().planKey.equals(planKey)) {
+                logSuperseded(commands.removeLast().sendCommand, sendCommand);
+            }
+            if (commands.size() >= capacity) {
+                return false;
+            }
+            commands.add(new PlannedCommand(sendCommand, planKey, isTransmitted(sendCommand)));
+            changed.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next command, waiting until a command is queued and it fits in the duty cycle budget. A transmitted
+     * command is accounted in the budget when it is taken.
+     *
+     * @return the next command to send
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public SendCommand take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                PlannedCommand planned = commands.peekFirst();
+                if (planned == null) {
+                    changed.await();
+                    continue;
+                }
+                long now = System.currentTimeMillis();
+                if (planned.transmitted) {
+                    long delay = budget.getDelay(now);
+                    if (delay > 0) {
+                        changed.await(delay, TimeUnit.MILLISECONDS);
+                        continue;
+                    }
+                    budget.onTransmission(now);
+                }
+                commands.removeFirst();
+                return planned.sendCommand;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Processes a duty cycle reported by the Cube.
+     *
+     * @param dutyCycle the reported duty cycle (in %)
+     */
+    public void onDutyCycleReport(int dutyCycle) {
+        budget.onDutyCycleReport(dutyCycle, System.currentTimeMillis());
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of queued commands
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return commands.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Estimates the time needed to send all queued commands.
+     *
+     * @param now the current time in milliseconds
+     * @return the estimated time in milliseconds
+     */
+    public long getEstimatedDrainTime(long now) {
+        lock.lock();
+        try {
+            int transmissions = 0;
+            for (PlannedCommand planned : commands) {
+                if (planned.transmitted) {
+                    transmissions++;
+                }
+            }
+            return commands.size() * commandInterval + budget.getDelay(transmissions, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            commands.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void logSuperseded(SendCommand superseded, SendCommand sendCommand) {
+        logger.debug("Removed Command id {} ({}) from queue. Superseded by {}", superseded.getId(),
+                superseded.getKey(), sendCommand.getId());
+    }
+
+    /**
+     * @return true if the Cube transmits the command to a device, which uses duty cycle
+     */
+    static boolean isTransmitted(SendCommand sendCommand) {
+        CubeCommand cubeCommand = sendCommand.getCubeCommand();
+        return cubeCommand == null || cubeCommand instanceof SCommand || cubeCommand instanceof SConfigCommand
+                || cubeCommand instanceof ZCommand;
+    }
+
+    private static class PlannedCommand {
+        private final SendCommand sendCommand;
+        private final String planKey;
+        private final boolean transmitted;
+
+        PlannedCommand(SendCommand sendCommand, String planKey, boolean transmitted) {
+            this.sendCommand = sendCommand;
+            this.planKey = planKey;
+            this.transmitted = transmitted;
+        }
+    }
+}
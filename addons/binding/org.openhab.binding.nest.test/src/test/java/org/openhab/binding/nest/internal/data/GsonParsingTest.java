@@ -17,6 +17,7 @@ import java.util.Date;
 
 import org.eclipse.smarthome.core.library.unit.SIUnits;
 import org.junit.Test;
+import org.openhab.binding.nest.internal.rest.NestStreamingDataDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,12 +48,10 @@ public class GsonParsingTest {
 
     @Test
     public void verifyCompleteStreamingInput() throws IOException {
-        TopLevelStreamingData topLevelStreamingData = fromJson("top-level-streaming-data.json",
-                TopLevelStreamingData.class);
+        String json = fromFile(COMPLETE_DATA_FILE_NAME);
+        TopLevelData data = new NestStreamingDataDecoder().decode(json, json.length());
 
-        assertEquals("/", topLevelStreamingData.getPath());
-
-        TopLevelData data = topLevelStreamingData.getData();
+        assertNotNull(data);
         assertEquals(data.getDevices().getThermostats().size(), 1);
         assertNotNull(data.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID));
         assertEquals(data.getDevices().getCameras().size(), 2);
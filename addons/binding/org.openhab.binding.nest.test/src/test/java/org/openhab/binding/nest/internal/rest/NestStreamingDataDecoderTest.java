@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nest.internal.rest;
+
+import static org.junit.Assert.*;
+import static org.openhab.binding.nest.internal.data.NestDataUtil.*;
+
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.nest.internal.NestUtils;
+import org.openhab.binding.nest.internal.data.TopLevelData;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests the {@link NestStreamingDataDecoder}.
+ *
+ * @author agent - Initial contribution
+ */
+public class NestStreamingDataDecoderTest {
+
+    private static final int OBJECT_COUNT = 9;
+
+    private NestStreamingDataDecoder decoder;
+    private String json;
+
+    @Before
+    public void setUp() throws IOException {
+        decoder = new NestStreamingDataDecoder();
+        json = fromFile(COMPLETE_DATA_FILE_NAME);
+    }
+
+    private static TopLevelData parseData(String fileName) throws IOException {
+        JsonElement data = new JsonParser().parse(fromFile(fileName)).getAsJsonObject().get("data");
+        return NestUtils.fromJson(data, TopLevelData.class);
+    }
+
+    private TopLevelData decode(String json) {
+        TopLevelData data = decoder.decode(json, json.length());
+        assertNotNull(data);
+        return data;
+    }
+
+    @Test
+    public void decodedDataEqualsParsedData() throws IOException {
+        TopLevelData expected = parseData(COMPLETE_DATA_FILE_NAME);
+        assertEquals(expected, decode(json));
+        assertEquals(expected, decode(json));
+    }
+
+    @Test
+    public void unchangedObjectsAreReused() {
+        TopLevelData first = decode(json);
+        TopLevelData second = decode(json);
+
+        assertSame(first.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID),
+                second.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID));
+        assertSame(first.getDevices().getCameras().get(CAMERA1_DEVICE_ID),
+                second.getDevices().getCameras().get(CAMERA1_DEVICE_ID));
+        assertSame(first.getDevices().getSmokeCoAlarms().get(SMOKE1_DEVICE_ID),
+                second.getDevices().getSmokeCoAlarms().get(SMOKE1_DEVICE_ID));
+        assertSame(first.getStructures().get(STRUCTURE1_STRUCTURE_ID),
+                second.getStructures().get(STRUCTURE1_STRUCTURE_ID));
+        assertSame(first.getMetadata(), second.getMetadata());
+
+        assertEquals(2, decoder.getTotalEvents());
+        assertEquals(2 * OBJECT_COUNT, decoder.getTotalObjects());
+        assertEquals(OBJECT_COUNT, decoder.getTotalDecodedObjects());
+        assertEquals(2 * json.length(), decoder.getTotalBytes());
+    }
+
+    @Test
+    public void onlyChangedObjectsAreDecoded() {
+        TopLevelData first = decode(json);
+        String changedJson = json.replace("\"ambient_temperature_c\": 19.0", "\"ambient_temperature_c\": 20.5");
+        TopLevelData second = decode(changedJson);
+
+        assertFalse(first.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID)
+                .equals(second.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID)));
+        assertSame(first.getDevices().getCameras().get(CAMERA2_DEVICE_ID),
+                second.getDevices().getCameras().get(CAMERA2_DEVICE_ID));
+        assertSame(first.getStructures().get(STRUCTURE1_STRUCTURE_ID),
+                second.getStructures().get(STRUCTURE1_STRUCTURE_ID));
+        assertEquals(OBJECT_COUNT + 1, decoder.getTotalDecodedObjects());
+    }
+
+    @Test
+    public void emptyDataIsDecoded() throws IOException {
+        decode(json);
+        TopLevelData expected = parseData(EMPTY_DATA_FILE_NAME);
+        assertEquals(expected, decode(fromFile(EMPTY_DATA_FILE_NAME)));
+    }
+}
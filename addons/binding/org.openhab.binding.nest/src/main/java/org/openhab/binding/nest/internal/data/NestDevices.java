@@ -21,6 +21,16 @@ public class NestDevices {
     private Map<String, SmokeDetector> smokeCoAlarms;
     private Map<String, Camera> cameras;
 
+    public NestDevices() {
+    }
+
+    public NestDevices(Map<String, Thermostat> thermostats, Map<String, SmokeDetector> smokeCoAlarms,
+            Map<String, Camera> cameras) {
+        this.thermostats = thermostats;
+        this.smokeCoAlarms = smokeCoAlarms;
+        this.cameras = cameras;
+    }
+
     /** Id to thermostat mapping */
     public Map<String, Thermostat> getThermostats() {
         return thermostats;
@@ -1,76 +0,0 @@
-/**
- * Copyright (c) 2010-2018 by the respective copyright holders.
- *
- * All rights reserved. This program and the accompanying materials
- * are made available under the terms of the Eclipse Public License v1.0
- * which accompanies this distribution, and is available at
- * http://www.eclipse.org/legal/epl-v10.html
- */
-package org.openhab.binding.nest.internal.data;
-
-/**
- * The top level data that is sent by Nest to a streaming REST client using SSE.
- *
- * @author Wouter Born - Initial contribution
- * @author Wouter Born - Replace polling with REST streaming
- * @author Wouter Born - Add equals and hashCode methods
- */
-public class TopLevelStreamingData {
-
-    private String path;
-    private TopLevelData data;
-
-    public String getPath() {
-        return path;
-    }
-
-    public TopLevelData getData() {
-        return data;
-    }
-
-    @Override
-    public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((data == null) ? 0 : data.hashCode());
-        result = prime * result + ((path == null) ? 0 : path.hashCode());
-        return result;
-    }
-
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (obj == null) {
-            return false;
-        }
-        if (getClass() != obj.getClass()) {
-            return false;
-        }
-        TopLevelStreamingData other = (TopLevelStreamingData) obj;
-        if (data == null) {
-            if (other.data != null) {
-                return false;
-            }
-        } else if (!data.equals(other.data)) {
-            return false;
-        }
-        if (path == null) {
-            if (other.path != null) {
-                return false;
-            }
-        } else if (!path.equals(other.path)) {
-            return false;
-        }
-        return true;
-    }
-
-    @Override
-    public String toString() {
-        StringBuilder builder = new StringBuilder();
-        builder.append("TopLevelStreamingData [path=").append(path).append(", data=").append(data).append("]");
-        return builder.toString();
-    }
-
-}
@@ -42,7 +42,8 @@ public interface NestStreamingDataListener {
     void onError(String message);
 
     /**
-     * Initial {@link TopLevelData} or an update is sent.
+     * Initial {@link TopLevelData} or an update is sent. Structures and devices that did not change since the previous
+     * update are the same instances as in the previous data.
      */
     void onNewTopLevelData(TopLevelData data);
 }
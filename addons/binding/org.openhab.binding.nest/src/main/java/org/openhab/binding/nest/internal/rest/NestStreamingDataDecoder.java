@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nest.internal.rest;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.nest.internal.NestUtils;
+import org.openhab.binding.nest.internal.data.Camera;
+import org.openhab.binding.nest.internal.data.NestDevices;
+import org.openhab.binding.nest.internal.data.NestMetadata;
+import org.openhab.binding.nest.internal.data.SmokeDetector;
+import org.openhab.binding.nest.internal.data.Structure;
+import org.openhab.binding.nest.internal.data.Thermostat;
+import org.openhab.binding.nest.internal.data.TopLevelData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Decodes the data of the 'put' events sent by the Nest streaming REST API.
+ *
+ * Every event contains the complete data of all structures and devices. The decoder fingerprints the JSON of each
+ * structure and device and only deserializes the ones whose JSON changed since the previous event. The objects of
+ * structures and devices that did not change are the same instances as returned for the previous event, so that they
+ * can be skipped by identity when the data is dispatched.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NestStreamingDataDecoder {
+
+    private static final String DATA = "data";
+    private static final String DEVICES = "devices";
+    private static final String CAMERAS = "cameras";
+    private static final String SMOKE_CO_ALARMS = "smoke_co_alarms";
+    private static final String THERMOSTATS = "thermostats";
+    private static final String METADATA = "metadata";
+    private static final String STRUCTURES = "structures";
+
+    private final Logger logger = LoggerFactory.getLogger(NestStreamingDataDecoder.class);
+
+    private final JsonParser parser = new JsonParser();
+
+    /**
+     * The JSON and objects decoded from the previous event, by path of the object in the data
+     */
+    private final Map<String, Subtree> subtrees = new HashMap<>();
+    private final Set<String> presentPaths = new HashSet<>();
+
+    private int eventObjects;
+    private int eventDecodedObjects;
+    private long totalEvents;
+    private long totalBytes;
+    private long totalObjects;
+    private long totalDecodedObjects;
+
+    /**
+     * Decodes the data of a 'put' event.
+     *
+     * @param json the data of the event
+     * @param bytes the size of the data in bytes, used for statistics
+     * @return the decoded data or null if the event contains no data
+     */
+    public synchronized @Nullable TopLevelData decode(String json, int bytes) {
+        JsonObject data = getObject(parser.parse(json), DATA);
+        if (data == null) {
+            return null;
+        }
+
+        eventObjects = 0;
+        eventDecodedObjects = 0;
+        presentPaths.clear();
+
+        NestDevices devices = null;
+        JsonObject devicesJson = getObject(data, DEVICES);
+        if (devicesJson != null) {
+            devices = new NestDevices(decodeMap(devicesJson, THERMOSTATS, Thermostat.class),
+                    decodeMap(devicesJson, SMOKE_CO_ALARMS, SmokeDetector.class),
+                    decodeMap(devicesJson, CAMERAS, Camera.class));
+        }
+        JsonElement metadataJson = data.get(METADATA);
+        NestMetadata metadata = metadataJson != null ? decode(METADATA, metadataJson, NestMetadata.class) : null;
+        Map<String, Structure> structures = decodeMap(data, STRUCTURES, Structure.class);
+
+        subtrees.keySet().retainAll(presentPaths);
+
+        totalEvents++;
+        totalBytes += bytes;
+        totalObjects += eventObjects;
+        totalDecodedObjects += eventDecodedObjects;
+        logger.debug("Decoded event of {} bytes, {} of {} objects changed, total {} events, {} bytes, {} of {} objects",
+                bytes, eventDecodedObjects, eventObjects, totalEvents, totalBytes, totalDecodedObjects, totalObjects);
+
+        return new TopLevelData(devices, metadata, structures);
+    }
+
+    public synchronized long getTotalEvents() {
+        return totalEvents;
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized long getTotalObjects() {
+        return totalObjects;
+    }
+
+    public synchronized long getTotalDecodedObjects() {
+        return totalDecodedObjects;
+    }
+
+    private @Nullable <T> Map<String, T> decodeMap(JsonObject parent, String name, Class<T> dataClass) {
+        JsonObject json = getObject(parent, name);
+        if (json == null) {
+            return null;
+        }
+        Map<String, T> map = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+            map.put(entry.getKey(), decode(name + "/" + entry.getKey(), entry.getValue(), dataClass));
+        }
+        return map;
+    }
+
+    private <T> T decode(String path, JsonElement json, Class<T> dataClass) {
+        presentPaths.add(path);
+        eventObjects++;
+
+        int fingerprint = json.hashCode();
+        Subtree subtree = subtrees.get(path);
+        if (subtree != null && subtree.fingerprint == fingerprint && dataClass.isInstance(subtree.value)
+                && subtree.json.equals(json)) {
+            return dataClass.cast(subtree.value);
+        }
+
+        T value = NestUtils.fromJson(json, dataClass);
+        subtrees.put(path, new Subtree(json, fingerprint, value));
+        eventDecodedObjects++;
+        return value;
+    }
+
+    private static @Nullable JsonObject getObject(JsonElement parent, String name) {
+        if (!parent.isJsonObject()) {
+            return null;
+        }
+        JsonElement element = parent.getAsJsonObject().get(name);
+        return element != null && element.isJsonObject() ? element.getAsJsonObject() : null;
+    }
+
+    private static class Subtree {
+        private final JsonElement json;
+        private final int fingerprint;
+        private final @Nullable Object value;
+
+        Subtree(JsonElement json, int fingerprint, @Nullable Object value) {
+            this.json = json;
+            this.fingerprint = fingerprint;
+            this.value = value;
+        }
+    }
+}
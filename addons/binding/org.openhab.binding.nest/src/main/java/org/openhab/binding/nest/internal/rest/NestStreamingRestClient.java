@@ -10,6 +10,7 @@ package org.openhab.binding.nest.internal.rest;
 
 import static org.openhab.binding.nest.internal.NestBindingConstants.KEEP_ALIVE_MILLIS;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
@@ -26,9 +27,7 @@ import org.glassfish.jersey.SslConfigurator;
 import org.glassfish.jersey.media.sse.EventSource;
 import org.glassfish.jersey.media.sse.InboundEvent;
 import org.glassfish.jersey.media.sse.SseFeature;
-import org.openhab.binding.nest.internal.NestUtils;
 import org.openhab.binding.nest.internal.data.TopLevelData;
-import org.openhab.binding.nest.internal.data.TopLevelStreamingData;
 import org.openhab.binding.nest.internal.exceptions.FailedResolvingNestUrlException;
 import org.openhab.binding.nest.internal.handler.NestRedirectUrlSupplier;
 import org.openhab.binding.nest.internal.listener.NestStreamingDataListener;
@@ -55,6 +54,7 @@ public class NestStreamingRestClient {
 
     private final Logger logger = LoggerFactory.getLogger(NestStreamingRestClient.class);
 
+    private final NestStreamingDataDecoder decoder = new NestStreamingDataDecoder();
     private final List<NestStreamingDataListener> listeners = new CopyOnWriteArrayList<>();
     private final ScheduledExecutorService scheduler;
     private final Object startStopLock = new Object();
@@ -186,7 +186,8 @@ public class NestStreamingRestClient {
             lastEventTimestamp = System.currentTimeMillis();
 
             String name = inboundEvent.getName();
-            String data = inboundEvent.readData();
+            byte[] rawData = inboundEvent.getRawData();
+            String data = rawData != null ? new String(rawData, StandardCharsets.UTF_8) : "";
 
             logger.debug("Received '{}' event, data: {}", name, data);
 
@@ -208,9 +209,13 @@ public class NestStreamingRestClient {
                 logger.debug("Event stream opened");
             } else if (PUT.equals(name)) {
                 logger.debug("Data has changed (or initial data sent)");
-                TopLevelData topLevelData = NestUtils.fromJson(data, TopLevelStreamingData.class).getData();
-                lastReceivedTopLevelData = topLevelData;
-                listeners.forEach(listener -> listener.onNewTopLevelData(topLevelData));
+                TopLevelData topLevelData = decoder.decode(data, rawData != null ? rawData.length : 0);
+                if (topLevelData != null) {
+                    lastReceivedTopLevelData = topLevelData;
+                    listeners.forEach(listener -> listener.onNewTopLevelData(topLevelData));
+                } else {
+                    logger.debug("Received '{}' event without data", name);
+                }
             } else {
                 logger.debug("Received unhandled event with name '{}' and data '{}'", name, data);
             }
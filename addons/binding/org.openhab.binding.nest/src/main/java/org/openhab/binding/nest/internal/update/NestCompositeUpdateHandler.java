@@ -8,7 +8,7 @@
  */
 package org.openhab.binding.nest.internal.update;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,7 +45,7 @@ public class NestCompositeUpdateHandler {
         return getOrCreateUpdateHandler(dataClass).addListener(nestId, listener);
     }
 
-    private Set<String> findMissingNestIds(Set<NestIdentifiable> updates) {
+    private Set<String> findMissingNestIds(List<NestIdentifiable> updates) {
         Set<String> nestIds = updates.stream().map(u -> u.getId()).collect(Collectors.toSet());
         Set<String> missingNestIds = presentNestIdsSupplier.get();
         missingNestIds.removeAll(nestIds);
@@ -60,8 +60,9 @@ public class NestCompositeUpdateHandler {
         return getOrCreateUpdateHandler(dataClass).getLastUpdates();
     }
 
-    private Set<NestIdentifiable> getNestUpdates(TopLevelData data) {
-        Set<NestIdentifiable> updates = new HashSet<>();
+    private List<NestIdentifiable> getNestUpdates(TopLevelData data) {
+        // a list, so the data of unchanged structures and devices is not hashed with every update
+        List<NestIdentifiable> updates = new ArrayList<>();
         if (data.getDevices() != null) {
             if (data.getDevices().getCameras() != null) {
                 updates.addAll(data.getDevices().getCameras().values());
@@ -91,7 +92,7 @@ public class NestCompositeUpdateHandler {
 
     @SuppressWarnings("unchecked")
     public void handleUpdate(TopLevelData data) {
-        Set<NestIdentifiable> updates = getNestUpdates(data);
+        List<NestIdentifiable> updates = getNestUpdates(data);
         updates.forEach(update -> {
             Class<NestIdentifiable> updateClass = (Class<NestIdentifiable>) update.getClass();
             getOrCreateUpdateHandler(updateClass).handleUpdate(updateClass, update.getId(), update);
@@ -91,7 +91,7 @@ public class NestUpdateHandler<T> {
         Set<NestThingDataListener<T>> listeners = getListeners(nestId);
         if (lastUpdate == null) {
             listeners.forEach(l -> l.onNewData(update));
-        } else if (!lastUpdate.equals(update)) {
+        } else if (lastUpdate != update && !lastUpdate.equals(update)) {
             listeners.forEach(l -> l.onUpdatedData(lastUpdate, update));
         }
     }
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nibeheatpump.internal.handler;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests cases for {@link NibeHeatPumpPollScheduler}.
+ *
+ * @author agent - Initial contribution
+ */
+public class NibeHeatPumpPollSchedulerTest {
+
+    private static final long TIMEOUT = 4500;
+    private static final long REFRESH_INTERVAL = 60000;
+
+    private NibeHeatPumpPollScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new NibeHeatPumpPollScheduler(2, TIMEOUT);
+    }
+
+    @Test
+    public void readOutRegistersAreNotPolled() {
+        scheduler.addRegister(40004, REFRESH_INTERVAL);
+        scheduler.addRegister(43009, REFRESH_INTERVAL);
+        scheduler.addRegister(40940, REFRESH_INTERVAL);
+
+        scheduler.onReadOutValue(40004, 1000);
+        scheduler.onReadOutValue(43009, 1000);
+
+        assertEquals(Collections.singletonList(40940), scheduler.nextReads(1000));
+        assertTrue(scheduler.isDeliveredByReadOut(40004, 1000));
+
+        // a refresh of a readout register waits for the next data readout
+        scheduler.invalidate(40004);
+        assertTrue(scheduler.nextReads(2000).isEmpty());
+    }
+
+    @Test
+    public void registersArePolledWhenReadOutStops() {
+        scheduler.addRegister(40004, REFRESH_INTERVAL);
+        scheduler.onReadOutValue(40004, 1000);
+
+        assertTrue(scheduler.nextReads(2000).isEmpty());
+        assertEquals(Collections.singletonList(40004), scheduler.nextReads(1000 + REFRESH_INTERVAL));
+    }
+
+    @Test
+    public void readsArePipelinedAndPrioritised() {
+        scheduler.addRegister(1, REFRESH_INTERVAL);
+        scheduler.addRegister(2, 10000);
+        scheduler.addRegister(3, REFRESH_INTERVAL);
+
+        assertEquals(Arrays.asList(2, 1), scheduler.nextReads(1000));
+        assertTrue(scheduler.nextReads(1000).isEmpty());
+
+        assertTrue(scheduler.onReadResponse(2, 1500));
+        assertEquals(Collections.singletonList(3), scheduler.nextReads(1500));
+        assertFalse(scheduler.onReadResponse(4, 1500));
+    }
+
+    @Test
+    public void pendingReadsExpire() {
+        scheduler.addRegister(1, REFRESH_INTERVAL);
+        scheduler.addRegister(2, REFRESH_INTERVAL);
+        scheduler.nextReads(1000);
+
+        assertTrue(scheduler.expireReads(1000 + TIMEOUT - 1).isEmpty());
+        assertEquals(Collections.singletonList(1), scheduler.expireReads(1000 + TIMEOUT));
+        assertEquals(Collections.singletonList(2), scheduler.expireReads(1000 + 2 * TIMEOUT));
+    }
+
+    @Test
+    public void cycleStatisticsAreCollected() {
+        scheduler.addRegister(1, REFRESH_INTERVAL);
+        scheduler.addRegister(2, REFRESH_INTERVAL);
+        scheduler.addRegister(40004, REFRESH_INTERVAL);
+        scheduler.onReadOutValue(40004, 1000);
+
+        scheduler.nextReads(1000);
+        scheduler.onReadResponse(1, 1200);
+        assertNull(scheduler.completeCycle(1200));
+
+        scheduler.onReadResponse(2, 2000);
+        NibeHeatPumpPollScheduler.PollCycle cycle = scheduler.completeCycle(2000);
+        assertNotNull(cycle);
+        assertEquals(1000, cycle.getDuration());
+        assertEquals(2, cycle.getReads());
+        assertEquals(0, cycle.getTimeouts());
+        assertEquals(600, cycle.getAverageLatency());
+        assertEquals(1000, cycle.getMaxLatency());
+        assertEquals(3, cycle.getRegisters());
+        assertEquals(1, cycle.getReadOutRegisters());
+        assertEquals(33, cycle.getReadOutCoverage());
+
+        assertNull(scheduler.completeCycle(2000));
+    }
+}
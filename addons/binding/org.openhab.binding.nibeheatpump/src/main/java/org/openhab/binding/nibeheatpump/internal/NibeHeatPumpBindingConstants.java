@@ -40,4 +40,12 @@ public class NibeHeatPumpBindingConstants {
             .of(THING_TYPE_F1X45_UDP, THING_TYPE_F1X45_SERIAL, THING_TYPE_F1X45_SIMULATOR, THING_TYPE_F750_UDP,
                     THING_TYPE_F750_SERIAL, THING_TYPE_F750_SIMULATOR)
             .collect(Collectors.toSet());
+
+    // List of all thing properties describing the last completed poll cycle
+    public final static String PROPERTY_POLL_CYCLE_DURATION = "pollCycleDuration";
+    public final static String PROPERTY_POLL_READS = "pollReads";
+    public final static String PROPERTY_POLL_TIMEOUTS = "pollTimeouts";
+    public final static String PROPERTY_POLL_LATENCY = "pollLatency";
+    public final static String PROPERTY_POLL_MAX_LATENCY = "pollMaxLatency";
+    public final static String PROPERTY_READOUT_COVERAGE = "readOutCoverage";
 }
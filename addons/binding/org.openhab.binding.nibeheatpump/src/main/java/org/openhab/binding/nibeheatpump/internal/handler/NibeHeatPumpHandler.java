@@ -8,6 +8,8 @@
  */
 package org.openhab.binding.nibeheatpump.internal.handler;
 
+import static org.openhab.binding.nibeheatpump.internal.NibeHeatPumpBindingConstants.*;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
@@ -62,6 +64,7 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
     private final Logger logger = LoggerFactory.getLogger(NibeHeatPumpHandler.class);
 
     private static final int TIMEOUT = 4500;
+    private static final int MAX_PENDING_READS = 3;
 
     private final PumpModel pumpModel;
     private NibeHeatPumpConfiguration configuration;
@@ -71,12 +74,11 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
     private boolean reconnectionRequest;
 
     private NibeHeatPumpCommandResult writeResult;
-    private NibeHeatPumpCommandResult readResult;
 
     private ScheduledFuture<?> connectorTask;
     private ScheduledFuture<?> pollingJob;
 
-    private final List<Integer> itemsToPoll = Collections.synchronizedList(new ArrayList<>());
+    private final NibeHeatPumpPollScheduler pollScheduler = new NibeHeatPumpPollScheduler(MAX_PENDING_READS, TIMEOUT);
 
     private final List<Integer> itemsToEnableWrite = new ArrayList<>();
 
@@ -191,9 +193,7 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
 
         // Add channel to polling loop
         int coilAddress = parseCoilAddressFromChannelUID(channelUID);
-        synchronized (itemsToPoll) {
-            itemsToPoll.add(coilAddress);
-        }
+        pollScheduler.addRegister(coilAddress, refreshIntervalMillis());
         clearCache(coilAddress);
     }
 
@@ -203,9 +203,7 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
 
         // remove channel from polling loop
         int coilAddress = parseCoilAddressFromChannelUID(channelUID);
-        synchronized (itemsToPoll) {
-            itemsToPoll.removeIf(c -> c.equals(coilAddress));
-        }
+        pollScheduler.removeRegister(coilAddress);
     }
 
     private int parseCoilAddressFromChannelUID(ChannelUID channelUID) {
@@ -304,54 +302,53 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
                 return;
             }
 
-            List<Integer> items;
-            synchronized (itemsToPoll) {
-                items = new ArrayList<>(itemsToPoll);
+            if (connector == null || !connector.isConnected()
+                    || getThing().getStatusInfo().getStatus() != ThingStatus.ONLINE) {
+                return;
             }
 
-            for (int item : items) {
-                if (connector != null && connector.isConnected()
-                        && getThing().getStatusInfo().getStatus() == ThingStatus.ONLINE) {
-
-                    CacheObject oldValue = stateMap.get(item);
-                    if (oldValue == null
-                            || (oldValue.lastUpdateTime + refreshIntervalMillis()) < System.currentTimeMillis()) {
-
-                        // it's time to refresh data
-                        logger.debug("Time to refresh variable '{}' data", item);
-
-                        ModbusReadRequestMessage request = new ModbusReadRequestMessage.MessageBuilder()
-                                .coilAddress(item).build();
-
-                        try {
-                            readResult = sendMessageToNibe(request);
-                            ModbusReadResponseMessage result = (ModbusReadResponseMessage) readResult.get(TIMEOUT,
-                                    TimeUnit.MILLISECONDS);
-                            if (result != null) {
-                                if (request.getCoilAddress() != result.getCoilAddress()) {
-                                    logger.debug("Data from wrong register '{}' received, expected '{}'",
-                                            result.getCoilAddress(), request.getCoilAddress());
-                                }
-                                // update variable anyway
-                                handleVariableUpdate(pumpModel, result.getValueAsModbusValue());
-                            }
-                        } catch (TimeoutException e) {
-                            logger.debug("Message sending to heat pump failed, no response");
-                            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
-                        } catch (InterruptedException e) {
-                            logger.debug("Message sending to heat pump failed, sending interrupted");
-                        } catch (NibeHeatPumpException e) {
-                            logger.debug("Message sending to heat pump failed, exception {}", e.getMessage());
-                            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
-                        } finally {
-                            readResult = null;
-                        }
-                    }
+            long now = System.currentTimeMillis();
+            List<Integer> expired = pollScheduler.expireReads(now);
+            if (!expired.isEmpty()) {
+                logger.debug("Message sending to heat pump failed, no response for registers {}", expired);
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
+                return;
+            }
+
+            // registers delivered by the data readout are not polled, the connector sends one request per read token
+            for (int item : pollScheduler.nextReads(now)) {
+                logger.debug("Time to refresh variable '{}' data", item);
+
+                ModbusReadRequestMessage request = new ModbusReadRequestMessage.MessageBuilder().coilAddress(item)
+                        .build();
+                try {
+                    sendMessageToNibe(request);
+                } catch (NibeHeatPumpException e) {
+                    logger.debug("Message sending to heat pump failed, exception {}", e.getMessage());
+                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
+                    return;
                 }
             }
+
+            NibeHeatPumpPollScheduler.PollCycle cycle = pollScheduler.completeCycle(System.currentTimeMillis());
+            if (cycle != null) {
+                logger.debug("Polling cycle completed: {}", cycle);
+                updatePollProperties(cycle);
+            }
         }
     };
 
+    private void updatePollProperties(NibeHeatPumpPollScheduler.PollCycle cycle) {
+        Map<String, String> properties = editProperties();
+        properties.put(PROPERTY_POLL_CYCLE_DURATION, Long.toString(cycle.getDuration()));
+        properties.put(PROPERTY_POLL_READS, Integer.toString(cycle.getReads()));
+        properties.put(PROPERTY_POLL_TIMEOUTS, Integer.toString(cycle.getTimeouts()));
+        properties.put(PROPERTY_POLL_LATENCY, Long.toString(cycle.getAverageLatency()));
+        properties.put(PROPERTY_POLL_MAX_LATENCY, Long.toString(cycle.getMaxLatency()));
+        properties.put(PROPERTY_READOUT_COVERAGE, Integer.toString(cycle.getReadOutCoverage()));
+        updateProperties(properties);
+    }
+
     private long refreshIntervalMillis() {
         return configuration.refreshInterval * 1000;
     }
@@ -422,10 +419,12 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
 
     private void clearCache() {
         stateMap.clear();
+        pollScheduler.clear();
     }
 
     private void clearCache(int coilAddress) {
         stateMap.put(coilAddress, null);
+        pollScheduler.invalidate(coilAddress);
     }
 
     private synchronized NibeHeatPumpCommandResult sendMessageToNibe(NibeHeatPumpMessage msg)
@@ -469,9 +468,11 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
     }
 
     private void handleReadResponseMessage(ModbusReadResponseMessage msg) {
-        if (readResult != null) {
-            readResult.set(msg);
+        if (!pollScheduler.onReadResponse(msg.getCoilAddress(), System.currentTimeMillis())) {
+            logger.debug("Data from not requested register '{}' received", msg.getCoilAddress());
         }
+        // update variable anyway
+        handleVariableUpdate(pumpModel, msg.getValueAsModbusValue());
     }
 
     private void handleWriteResponseMessage(ModbusWriteResponseMessage msg) {
@@ -484,6 +485,10 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
         List<ModbusValue> regValues = msg.getValues();
 
         if (regValues != null) {
+            long now = System.currentTimeMillis();
+            for (ModbusValue val : regValues) {
+                pollScheduler.onReadOutValue(val.getCoilAddress(), now);
+            }
             for (ModbusValue val : regValues) {
                 handleVariableUpdate(pumpModel, val);
             }
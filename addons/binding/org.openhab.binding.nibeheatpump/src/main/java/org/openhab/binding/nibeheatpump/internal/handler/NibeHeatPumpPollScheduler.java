@@ -0,0 +1,325 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nibeheatpump.internal.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link NibeHeatPumpPollScheduler} decides which registers are read from the heat pump.
+ *
+ * The heat pump pushes a set of registers periodically by data readout messages. The scheduler learns those
+ * registers and does not poll them as long as the readout keeps delivering them. The remaining registers are polled
+ * by their due time, which is the time of their last update plus their refresh interval. Several read requests are
+ * queued to the connector at once, which sends one of them per read token of the heat pump.
+ *
+ * A poll cycle starts with the first read request and completes when all registers are up to date. Its statistics are
+ * returned by {@link #completeCycle(long)}.
+ *
+ * @author agent - Initial contribution
+ */
+public class NibeHeatPumpPollScheduler {
+
+    private final int maxPendingReads;
+    private final long readTimeout;
+
+    private final Map<Integer, Register> registers = new HashMap<>();
+    private final Map<Integer, Long> readOutTimes = new HashMap<>();
+    private final Map<Integer, PendingRead> pendingReads = new LinkedHashMap<>();
+
+    private PollCycle currentCycle;
+
+    /**
+     * @param maxPendingReads maximum number of read requests queued to the connector
+     * @param readTimeout time in milliseconds the heat pump needs at most to answer a single read request
+     */
+    public NibeHeatPumpPollScheduler(int maxPendingReads, long readTimeout) {
+        this.maxPendingReads = maxPendingReads;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Adds a register to be kept up to date.
+     *
+     * @param coilAddress the register
+     * @param refreshInterval the refresh interval of the register in milliseconds
+     */
+    public synchronized void addRegister(int coilAddress, long refreshInterval) {
+        Register register = registers.get(coilAddress);
+        if (register == null) {
+            registers.put(coilAddress, new Register(refreshInterval));
+        } else {
+            register.refreshInterval = Math.min(register.refreshInterval, refreshInterval);
+        }
+    }
+
+    public synchronized void removeRegister(int coilAddress) {
+        registers.remove(coilAddress);
+        pendingReads.remove(coilAddress);
+    }
+
+    /**
+     * Forces the register to be refreshed, either by the next data readout or by a read request.
+     */
+    public synchronized void invalidate(int coilAddress) {
+        Register register = registers.get(coilAddress);
+        if (register != null) {
+            register.lastUpdateTime = 0;
+        }
+    }
+
+    /**
+     * Forgets all values and learned data readout registers, the registers to keep up to date are kept.
+     */
+    public synchronized void clear() {
+        for (Register register : registers.values()) {
+            register.lastUpdateTime = 0;
+        }
+        readOutTimes.clear();
+        pendingReads.clear();
+        currentCycle = null;
+    }
+
+    /**
+     * Processes a value received by a data readout message.
+     *
+     * @param coilAddress the register
+     * @param now the current time in milliseconds
+     */
+    public synchronized void onReadOutValue(int coilAddress, long now) {
+        readOutTimes.put(coilAddress, now);
+        Register register = registers.get(coilAddress);
+        if (register != null) {
+            register.lastUpdateTime = now;
+        }
+    }
+
+    /**
+     * Processes a value received by a read response message.
+     *
+     * @param coilAddress the register
+     * @param now the current time in milliseconds
+     * @return false if the register has not been requested
+     */
+    public synchronized boolean onReadResponse(int coilAddress, long now) {
+        Register register = registers.get(coilAddress);
+        if (register != null) {
+            register.lastUpdateTime = now;
+        }
+        PendingRead pendingRead = pendingReads.remove(coilAddress);
+        if (pendingRead == null) {
+            return false;
+        }
+        if (currentCycle != null) {
+            currentCycle.addRead(now - pendingRead.sendTime);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the read requests which have not been answered in time.
+     *
+     * @param now the current time in milliseconds
+     * @return the registers of the expired read requests
+     */
+    public synchronized List<Integer> expireReads(long now) {
+        List<Integer> expired = new ArrayList<>();
+        Iterator<Map.Entry<Integer, PendingRead>> iterator = pendingReads.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, PendingRead> entry = iterator.next();
+            if (entry.getValue().deadline <= now) {
+                iterator.remove();
+                expired.add(entry.getKey());
+                if (currentCycle != null) {
+                    currentCycle.timeouts++;
+                }
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Selects the registers to be read next, ordered by their due time, and marks them as requested.
+     *
+     * @param now the current time in milliseconds
+     * @return the registers to send read requests for
+     */
+    public synchronized List<Integer> nextReads(long now) {
+        int slots = maxPendingReads - pendingReads.size();
+        if (slots <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<Map.Entry<Integer, Register>> due = getDueRegisters(now);
+        due.sort((a, b) -> {
+            int result = Long.compare(a.getValue().getDueTime(), b.getValue().getDueTime());
+            return result != 0 ? result : Long.compare(a.getValue().refreshInterval, b.getValue().refreshInterval);
+        });
+
+        List<Integer> reads = new ArrayList<>();
+        for (Map.Entry<Integer, Register> entry : due) {
+            if (reads.size() >= slots) {
+                break;
+            }
+            // each request waits for the requests queued before it
+            long deadline = now + readTimeout * (pendingReads.size() + 1);
+            pendingReads.put(entry.getKey(), new PendingRead(now, deadline));
+            reads.add(entry.getKey());
+        }
+
+        if (!reads.isEmpty() && currentCycle == null) {
+            currentCycle = new PollCycle(now);
+        }
+        return reads;
+    }
+
+    /**
+     * Completes the current poll cycle, if all registers are up to date.
+     *
+     * @param now the current time in milliseconds
+     * @return the completed cycle or null, if no cycle has been completed
+     */
+    public synchronized PollCycle completeCycle(long now) {
+        if (currentCycle == null || !pendingReads.isEmpty() || !getDueRegisters(now).isEmpty()) {
+            return null;
+        }
+        PollCycle cycle = currentCycle;
+        cycle.duration = now - cycle.startTime;
+        cycle.registers = registers.size();
+        cycle.readOutRegisters = 0;
+        for (Integer coilAddress : registers.keySet()) {
+            if (isDeliveredByReadOut(coilAddress, now)) {
+                cycle.readOutRegisters++;
+            }
+        }
+        currentCycle = null;
+        return cycle;
+    }
+
+    /**
+     * @return true if the register has been delivered by a data readout within its refresh interval
+     */
+    public synchronized boolean isDeliveredByReadOut(int coilAddress, long now) {
+        Long readOutTime = readOutTimes.get(coilAddress);
+        Register register = registers.get(coilAddress);
+        return readOutTime != null && register != null && now - readOutTime < register.refreshInterval;
+    }
+
+    private List<Map.Entry<Integer, Register>> getDueRegisters(long now) {
+        List<Map.Entry<Integer, Register>> due = new ArrayList<>();
+        for (Map.Entry<Integer, Register> entry : registers.entrySet()) {
+            int coilAddress = entry.getKey();
+            if (entry.getValue().getDueTime() <= now && !pendingReads.containsKey(coilAddress)
+                    && !isDeliveredByReadOut(coilAddress, now)) {
+                due.add(entry);
+            }
+        }
+        return due;
+    }
+
+    private static class Register {
+        long refreshInterval;
+        long lastUpdateTime;
+
+        Register(long refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        long getDueTime() {
+            // registers which have never been updated are due immediately
+            return lastUpdateTime > 0 ? lastUpdateTime + refreshInterval : 0;
+        }
+    }
+
+    private static class PendingRead {
+        final long sendTime;
+        final long deadline;
+
+        PendingRead(long sendTime, long deadline) {
+            this.sendTime = sendTime;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * Statistics of a poll cycle.
+     */
+    public static class PollCycle {
+        private final long startTime;
+        private long duration;
+        private int reads;
+        private int timeouts;
+        private long totalLatency;
+        private long maxLatency;
+        private int registers;
+        private int readOutRegisters;
+
+        PollCycle(long startTime) {
+            this.startTime = startTime;
+        }
+
+        void addRead(long latency) {
+            reads++;
+            totalLatency += latency;
+            maxLatency = Math.max(maxLatency, latency);
+        }
+
+        /** @return the time in milliseconds from the first read request until all registers were up to date */
+        public long getDuration() {
+            return duration;
+        }
+
+        /** @return the number of answered read requests */
+        public int getReads() {
+            return reads;
+        }
+
+        /** @return the number of read requests which have not been answered in time */
+        public int getTimeouts() {
+            return timeouts;
+        }
+
+        /** @return the average time in milliseconds from a read request to its response */
+        public long getAverageLatency() {
+            return reads > 0 ? totalLatency / reads : 0;
+        }
+
+        /** @return the maximum time in milliseconds from a read request to its response */
+        public long getMaxLatency() {
+            return maxLatency;
+        }
+
+        /** @return the number of registers to keep up to date */
+        public int getRegisters() {
+            return registers;
+        }
+
+        /** @return the number of registers delivered by the data readout */
+        public int getReadOutRegisters() {
+            return readOutRegisters;
+        }
+
+        /** @return the percentage of the registers delivered by the data readout */
+        public int getReadOutCoverage() {
+            return registers > 0 ? readOutRegisters * 100 / registers : 100;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("duration = %d ms, reads = %d, timeouts = %d, latency = %d ms (max %d ms), "
+                    + "registers = %d (%d by data readout)", duration, reads, timeouts, getAverageLatency(), maxLatency,
+                    registers, readOutRegisters);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.rfxcom.internal.messages;
+
+import static org.junit.Assert.*;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.smarthome.core.util.HexUtils;
+import org.junit.Test;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComException;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComMessageNotImplementedException;
+import org.openhab.binding.rfxcom.internal.messages.RFXComBaseMessage.PacketType;
+
+/**
+ * Test for the {@link RFXComMessageFactory}, replays captured packets of every message type which can be received.
+ *
+ * @author agent - Initial contribution
+ */
+public class RFXComMessageFactoryTest {
+
+    private static final Map<String, Class<? extends RFXComMessage>> PACKETS = new LinkedHashMap<>();
+
+    static {
+        PACKETS.put("1401070307436F7079726967687420524658434F4D", RFXComInterfaceMessage.class);
+        PACKETS.put("0402014300", RFXComTransmitterMessage.class);
+        PACKETS.put("070301271356ECC0", RFXComUndecodedRFMessage.class);
+        PACKETS.put("0710015242080780", RFXComLighting1Message.class);
+        PACKETS.put("0B11000600109B520B000080", RFXComLighting2Message.class);
+        PACKETS.put("091300E1D8AD59018F70", RFXComLighting4Message.class);
+        PACKETS.put("0A140F0000080D01010000", RFXComLighting5Message.class);
+        PACKETS.put("0B150005D950450101011D80", RFXComLighting6Message.class);
+        PACKETS.put("0716020900A1F350", RFXComChimeMessage.class);
+        PACKETS.put("0718000065010179", RFXComCurtain1Message.class);
+        PACKETS.put("0919040600A21B010280", RFXComBlinds1Message.class);
+        PACKETS.put("0C1A0000010203040F00000000", RFXComRfyMessage.class);
+        PACKETS.put("0C1B0000111213410403000000", RFXComHomeConfortMessage.class);
+        PACKETS.put("0820004DD3DC540089", RFXComSecurity1Message.class);
+        PACKETS.put("1C21020000000000131211C30000000000000000000000000000000045", RFXComSecurity2Message.class);
+        PACKETS.put("0940001B6B1816150270", RFXComThermostat1Message.class);
+        PACKETS.put("08420101019FAB0280", RFXComThermostat3Message.class);
+        PACKETS.put("0A4E012B2955001A002179", RFXComBBQTemperatureMessage.class);
+        PACKETS.put("0A4F01CCF001004F03B759", RFXComTemperatureRainMessage.class);
+        PACKETS.put("08500110000180BC69", RFXComTemperatureMessage.class);
+        PACKETS.put("085101027700360189", RFXComHumidityMessage.class);
+        PACKETS.put("0A5201800F0201294C0349", RFXComTemperatureHumidityMessage.class);
+        PACKETS.put("0D54020EE90000C9270203E70439", RFXComTemperatureHumidityBarometricMessage.class);
+        PACKETS.put("0B550217B6000000004D3C69", RFXComRainMessage.class);
+        PACKETS.put("105601122F000087000000140000000079", RFXComWindMessage.class);
+        PACKETS.put("095703123421194731E9", RFXComUVMessage.class);
+        PACKETS.put("0D580117B90003041D030D150A69", RFXComDateTimeMessage.class);
+        PACKETS.put("0D59010F860004001D0000000049", RFXComCurrentMessage.class);
+        PACKETS.put("115A01071A7300000003F600000000350B89", RFXComEnergyMessage.class);
+        PACKETS.put("135B0106B800000016000000000000006F148889", RFXComCurrentEnergyMessage.class);
+    }
+
+    @Test
+    public void testCreateMessageFromPacket() throws RFXComException {
+        for (Map.Entry<String, Class<? extends RFXComMessage>> entry : PACKETS.entrySet()) {
+            RFXComMessage msg = RFXComMessageFactory.createMessage(HexUtils.hexToBytes(entry.getKey()));
+            assertEquals("Message class for " + entry.getKey(), entry.getValue(), msg.getClass());
+        }
+    }
+
+    @Test
+    public void testCreateMessageForSending() throws RFXComException {
+        RFXComMessage msg = RFXComMessageFactory.createMessage(PacketType.LIGHTING5);
+        assertEquals(RFXComLighting5Message.class, msg.getClass());
+    }
+
+    @Test(expected = RFXComException.class)
+    public void testCreateInterfaceMessageForSending() throws RFXComException {
+        RFXComMessageFactory.createMessage(PacketType.INTERFACE_MESSAGE);
+    }
+
+    @Test(expected = RFXComMessageNotImplementedException.class)
+    public void testCreateNotImplementedMessage() throws RFXComException {
+        RFXComMessageFactory.createMessage(PacketType.FAN);
+    }
+
+    @Test(expected = RFXComException.class)
+    public void testTruncatedPacket() throws RFXComException {
+        RFXComMessageFactory.createMessage(HexUtils.hexToBytes("0A1400"));
+    }
+
+    @Test
+    public void testReplayPackets() throws RFXComException {
+        for (Map.Entry<String, Class<? extends RFXComMessage>> entry : PACKETS.entrySet()) {
+            byte[] packet = HexUtils.hexToBytes(entry.getKey());
+            RFXComBaseMessage msg = (RFXComBaseMessage) RFXComMessageFactory.createMessage(packet);
+
+            assertEquals("Message class for " + entry.getKey(), entry.getValue(), msg.getClass());
+            assertEquals("Packet type for " + entry.getKey(), ByteEnumUtil.fromByte(PacketType.class, packet[1]),
+                    msg.getPacketType());
+            assertEquals("Sequence number for " + entry.getKey(), packet[3], msg.seqNbr);
+            assertArrayEquals("Raw message for " + entry.getKey(), packet, msg.rawMessage);
+        }
+    }
+
+    @Test
+    public void testReplayCoversAllDecoders() throws RFXComException {
+        Set<PacketType> replayed = EnumSet.noneOf(PacketType.class);
+        for (String packet : PACKETS.keySet()) {
+            replayed.add(ByteEnumUtil.fromByte(PacketType.class, HexUtils.hexToBytes(packet)[1]));
+        }
+
+        for (PacketType packetType : PacketType.values()) {
+            // control messages are only sent, never received
+            if (packetType == PacketType.INTERFACE_CONTROL || replayed.contains(packetType)) {
+                continue;
+            }
+            try {
+                RFXComMessageFactory.createMessage(new byte[] { 0x03, packetType.toByte(), 0x00, 0x00 });
+                fail("No packet replayed for " + packetType);
+            } catch (RFXComMessageNotImplementedException e) {
+                // expected, the factory has no decoder for this packet type
+            } catch (RFXComException e) {
+                fail("No packet replayed for " + packetType);
+            }
+        }
+    }
+}
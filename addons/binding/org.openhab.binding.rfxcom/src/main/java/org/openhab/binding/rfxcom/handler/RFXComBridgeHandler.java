@@ -8,9 +8,16 @@
  */
 package org.openhab.binding.rfxcom.handler;
 
+import static org.openhab.binding.rfxcom.RFXComBindingConstants.PACKET_TYPE_THING_TYPE_UID_MAP;
+
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
@@ -22,6 +29,7 @@ import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
+import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.util.HexUtils;
@@ -61,7 +69,16 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
     private RFXComConnectorInterface connector = null;
     private MessageListener eventListener = new MessageListener();
 
-    private List<DeviceMessageListener> deviceStatusListeners = new CopyOnWriteArrayList<>();
+    /**
+     * Listeners of configured devices, by thing type and device id of the messages they handle
+     */
+    private final Map<DeviceKey, List<DeviceMessageListener>> deviceStatusListeners = new ConcurrentHashMap<>();
+    private final Map<DeviceMessageListener, DeviceKey> deviceStatusListenerKeys = new HashMap<>();
+
+    /**
+     * Listeners of messages from devices without a registered device status listener
+     */
+    private final List<DeviceMessageListener> discoveryListeners = new CopyOnWriteArrayList<>();
 
     private RFXComBridgeConfiguration configuration = null;
     private ScheduledFuture<?> connectorTask;
@@ -117,8 +134,9 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
     public synchronized void dispose() {
         logger.debug("Handler disposed.");
 
-        for (DeviceMessageListener deviceStatusListener : deviceStatusListeners) {
-            unregisterDeviceStatusListener(deviceStatusListener);
+        synchronized (deviceStatusListenerKeys) {
+            deviceStatusListeners.clear();
+            deviceStatusListenerKeys.clear();
         }
 
         if (connector != null) {
@@ -286,10 +304,14 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
 
                     transmitQueue.sendNext();
                 } else if (message instanceof RFXComDeviceMessage) {
-                    for (DeviceMessageListener deviceStatusListener : deviceStatusListeners) {
+                    RFXComDeviceMessage deviceMessage = (RFXComDeviceMessage) message;
+                    List<DeviceMessageListener> listeners = getDeviceStatusListeners(deviceMessage);
+                    if (listeners.isEmpty()) {
+                        listeners = discoveryListeners;
+                    }
+                    for (DeviceMessageListener listener : listeners) {
                         try {
-                            deviceStatusListener.onDeviceMessageReceived(getThing().getUID(),
-                                    (RFXComDeviceMessage) message);
+                            listener.onDeviceMessageReceived(getThing().getUID(), deviceMessage);
                         } catch (Exception e) {
                             // catch all exceptions give all handlers a fair chance of handling the messages
                             logger.error("An exception occurred while calling the DeviceStatusListener", e);
@@ -315,22 +337,116 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
         }
     }
 
-    public boolean registerDeviceStatusListener(DeviceMessageListener deviceStatusListener) {
+    private List<DeviceMessageListener> getDeviceStatusListeners(RFXComDeviceMessage message) {
+        ThingTypeUID thingTypeUID = PACKET_TYPE_THING_TYPE_UID_MAP.get(message.getPacketType());
+        if (thingTypeUID != null) {
+            List<DeviceMessageListener> listeners = deviceStatusListeners
+                    .get(new DeviceKey(thingTypeUID, message.getDeviceId()));
+            if (listeners != null) {
+                return listeners;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Registers a listener for the messages of a device. A listener is registered for one device only, registering
+     * it again replaces its previous registration.
+     *
+     * @param deviceStatusListener listener to register
+     * @param thingTypeUID thing type of the device
+     * @param deviceId id of the device, as returned by {@link RFXComDeviceMessage#getDeviceId()}
+     * @return true if the listener was not registered for this device before
+     */
+    public boolean registerDeviceStatusListener(DeviceMessageListener deviceStatusListener, ThingTypeUID thingTypeUID,
+            String deviceId) {
         if (deviceStatusListener == null) {
             throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
         }
-        return deviceStatusListeners.contains(deviceStatusListener) ? false
-                : deviceStatusListeners.add(deviceStatusListener);
+        DeviceKey key = new DeviceKey(thingTypeUID, deviceId);
+        synchronized (deviceStatusListenerKeys) {
+            DeviceKey previousKey = deviceStatusListenerKeys.put(deviceStatusListener, key);
+            if (key.equals(previousKey)) {
+                return false;
+            }
+            if (previousKey != null) {
+                removeDeviceStatusListener(previousKey, deviceStatusListener);
+            }
+            deviceStatusListeners.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(deviceStatusListener);
+            return true;
+        }
     }
 
     public boolean unregisterDeviceStatusListener(DeviceMessageListener deviceStatusListener) {
         if (deviceStatusListener == null) {
             throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
         }
-        return deviceStatusListeners.remove(deviceStatusListener);
+        synchronized (deviceStatusListenerKeys) {
+            DeviceKey key = deviceStatusListenerKeys.remove(deviceStatusListener);
+            if (key == null) {
+                return false;
+            }
+            removeDeviceStatusListener(key, deviceStatusListener);
+            return true;
+        }
+    }
+
+    private void removeDeviceStatusListener(DeviceKey key, DeviceMessageListener deviceStatusListener) {
+        List<DeviceMessageListener> listeners = deviceStatusListeners.get(key);
+        if (listeners != null) {
+            listeners.remove(deviceStatusListener);
+            if (listeners.isEmpty()) {
+                deviceStatusListeners.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Registers a listener for the messages of devices which have no registered device status listener, e.g. to
+     * discover new devices.
+     */
+    public boolean registerDiscoveryListener(DeviceMessageListener discoveryListener) {
+        if (discoveryListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null discoveryListener.");
+        }
+        return discoveryListeners.contains(discoveryListener) ? false : discoveryListeners.add(discoveryListener);
+    }
+
+    public boolean unregisterDiscoveryListener(DeviceMessageListener discoveryListener) {
+        if (discoveryListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null discoveryListener.");
+        }
+        return discoveryListeners.remove(discoveryListener);
     }
 
     public RFXComBridgeConfiguration getConfiguration() {
         return configuration;
     }
+
+    private static class DeviceKey {
+        private final ThingTypeUID thingTypeUID;
+        private final String deviceId;
+
+        DeviceKey(ThingTypeUID thingTypeUID, String deviceId) {
+            this.thingTypeUID = thingTypeUID;
+            this.deviceId = deviceId;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * thingTypeUID.hashCode() + Objects.hashCode(deviceId);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DeviceKey)) {
+                return false;
+            }
+            DeviceKey other = (DeviceKey) obj;
+            return thingTypeUID.equals(other.thingTypeUID) && Objects.equals(deviceId, other.deviceId);
+        }
+    }
 }
@@ -10,6 +10,9 @@ package org.openhab.binding.rfxcom.handler;
 
 import static org.openhab.binding.rfxcom.RFXComBindingConstants.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
@@ -50,6 +53,11 @@ public class RFXComHandler extends BaseThingHandler implements DeviceMessageList
     private RFXComBridgeHandler bridgeHandler;
     private RFXComDeviceConfiguration config;
 
+    /**
+     * Channels of the thing and how their states are converted from received messages
+     */
+    private volatile ChannelPlan[] channelPlans = new ChannelPlan[0];
+
     public RFXComHandler(@NonNull Thing thing) {
         super(thing);
     }
@@ -98,12 +106,13 @@ public class RFXComHandler extends BaseThingHandler implements DeviceMessageList
         logger.debug("initializeBridge {} for thing {}", bridgeStatus, getThing().getUID());
 
         config = getConfigAs(RFXComDeviceConfiguration.class);
+        channelPlans = createChannelPlans();
         if (config.deviceId == null || config.subType == null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                     "RFXCOM device missing deviceId or subType");
         } else if (thingHandler != null && bridgeStatus != null) {
             bridgeHandler = (RFXComBridgeHandler) thingHandler;
-            bridgeHandler.registerDeviceStatusListener(this);
+            bridgeHandler.registerDeviceStatusListener(this, getThing().getThingTypeUID(), config.deviceId);
 
             if (bridgeStatus == ThingStatus.ONLINE) {
                 updateStatus(ThingStatus.ONLINE);
@@ -125,30 +134,38 @@ public class RFXComHandler extends BaseThingHandler implements DeviceMessageList
         super.dispose();
     }
 
+    private ChannelPlan[] createChannelPlans() {
+        List<ChannelPlan> plans = new ArrayList<>();
+        for (Channel channel : getThing().getChannels()) {
+            String channelId = channel.getUID().getId();
+            if (channelId.equals(CHANNEL_LOW_BATTERY)) {
+                plans.add(new ChannelPlan(channelId, CHANNEL_BATTERY_LEVEL, true));
+            } else {
+                plans.add(new ChannelPlan(channelId, channelId, false));
+            }
+        }
+        return plans.toArray(new ChannelPlan[plans.size()]);
+    }
+
+    /**
+     * Called by the bridge for the messages of this device only, see
+     * {@link RFXComBridgeHandler#registerDeviceStatusListener}.
+     */
     @Override
     public void onDeviceMessageReceived(ThingUID bridge, RFXComDeviceMessage message) {
         try {
-            String id = message.getDeviceId();
-            if (config.deviceId.equals(id)) {
-                String receivedId = PACKET_TYPE_THING_TYPE_UID_MAP.get(message.getPacketType()).getId();
-                logger.debug("Received message from bridge: {} message: {}", bridge, message);
-
-                if (receivedId.equals(getThing().getThingTypeUID().getId())) {
-                    updateStatus(ThingStatus.ONLINE);
-
-                    for (Channel channel : getThing().getChannels()) {
-                        String channelId = channel.getUID().getId();
-
-                        try {
-                            if (channelId.equals(CHANNEL_LOW_BATTERY)) {
-                                updateState(channelId, isLowBattery(message.convertToState(CHANNEL_BATTERY_LEVEL)));
-                            } else {
-                                updateState(channelId, message.convertToState(channelId));
-                            }
-                        } catch (RFXComException e) {
-                            logger.trace("{} does not handle {}", channelId, message);
-                        }
-                    }
+            logger.debug("Received message from bridge: {} message: {}", bridge, message);
+
+            if (getThing().getStatus() != ThingStatus.ONLINE) {
+                updateStatus(ThingStatus.ONLINE);
+            }
+
+            for (ChannelPlan plan : channelPlans) {
+                try {
+                    State state = message.convertToState(plan.messageChannelId);
+                    updateState(plan.channelId, plan.lowBattery ? isLowBattery(state) : state);
+                } catch (RFXComException e) {
+                    logger.trace("{} does not handle {}", plan.channelId, message);
                 }
             }
         } catch (Exception e) {
@@ -170,4 +187,16 @@ public class RFXComHandler extends BaseThingHandler implements DeviceMessageList
             return OnOffType.OFF;
         }
     }
+
+    private static class ChannelPlan {
+        private final String channelId;
+        private final String messageChannelId;
+        private final boolean lowBattery;
+
+        ChannelPlan(String channelId, String messageChannelId, boolean lowBattery) {
+            this.channelId = channelId;
+            this.messageChannelId = messageChannelId;
+            this.lowBattery = lowBattery;
+        }
+    }
 }
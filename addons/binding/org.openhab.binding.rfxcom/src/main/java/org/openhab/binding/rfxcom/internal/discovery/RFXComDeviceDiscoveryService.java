@@ -45,12 +45,12 @@ public class RFXComDeviceDiscoveryService extends AbstractDiscoveryService
     }
 
     public void activate() {
-        bridgeHandler.registerDeviceStatusListener(this);
+        bridgeHandler.registerDiscoveryListener(this);
     }
 
     @Override
     public void deactivate() {
-        bridgeHandler.unregisterDeviceStatusListener(this);
+        bridgeHandler.unregisterDiscoveryListener(this);
     }
 
     @Override
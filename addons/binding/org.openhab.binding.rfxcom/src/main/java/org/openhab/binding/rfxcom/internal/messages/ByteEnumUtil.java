@@ -16,15 +16,36 @@ import org.openhab.binding.rfxcom.internal.exceptions.RFXComUnsupportedValueExce
  * @author Martin van Wingerden - Simplify some code in the RFXCOM binding
  */
 public class ByteEnumUtil {
+    /**
+     * Lookup table per enum class, indexed by the unsigned byte value. If several constants share a byte value, the
+     * first declared constant is used.
+     */
+    private static final ClassValue<ByteEnumWrapper[]> LOOKUP_TABLES = new ClassValue<ByteEnumWrapper[]>() {
+        @Override
+        protected ByteEnumWrapper[] computeValue(Class<?> type) {
+            ByteEnumWrapper[] table = new ByteEnumWrapper[256];
+            for (Object constant : type.getEnumConstants()) {
+                ByteEnumWrapper enumValue = (ByteEnumWrapper) constant;
+                int index = enumValue.toByte() & 0xFF;
+                if (table[index] == null) {
+                    table[index] = enumValue;
+                }
+            }
+            return table;
+        }
+    };
+
     private ByteEnumUtil() {
         // deliberately empty
     }
 
+    @SuppressWarnings("unchecked")
     public static <T extends ByteEnumWrapper> T fromByte(Class<T> typeClass, int input)
             throws RFXComUnsupportedValueException {
-        for (T enumValue : typeClass.getEnumConstants()) {
-            if (enumValue.toByte() == input) {
-                return enumValue;
+        if (input >= Byte.MIN_VALUE && input <= Byte.MAX_VALUE) {
+            ByteEnumWrapper enumValue = LOOKUP_TABLES.get(typeClass)[input & 0xFF];
+            if (enumValue != null) {
+                return (T) enumValue;
             }
         }
 
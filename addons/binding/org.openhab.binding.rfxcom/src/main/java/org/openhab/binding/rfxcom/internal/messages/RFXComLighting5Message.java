@@ -118,9 +118,27 @@ public class RFXComLighting5Message extends RFXComDeviceMessageImpl<RFXComLighti
             return (byte) command;
         }
 
+        /**
+         * Commands by sub type and command byte, the same byte can mean different commands for different sub types
+         */
+        private static final Commands[][] COMMANDS_BY_SUB_TYPE = new Commands[SubType.values().length][];
+
+        static {
+            for (SubType subType : SubType.values()) {
+                Commands[] commands = new Commands[256];
+                for (Commands c : values()) {
+                    if (c.supportedBySubTypes.contains(subType) && commands[c.command] == null) {
+                        commands[c.command] = c;
+                    }
+                }
+                COMMANDS_BY_SUB_TYPE[subType.ordinal()] = commands;
+            }
+        }
+
         public static Commands fromByte(int input, SubType subType) throws RFXComUnsupportedValueException {
-            for (Commands c : Commands.values()) {
-                if (c.command == input && c.supportedBySubTypes.contains(subType)) {
+            if (subType != null && input >= 0 && input < 256) {
+                Commands c = COMMANDS_BY_SUB_TYPE[subType.ordinal()][input];
+                if (c != null) {
                     return c;
                 }
             }
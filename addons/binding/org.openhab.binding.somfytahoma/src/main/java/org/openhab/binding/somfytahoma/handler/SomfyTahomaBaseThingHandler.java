@@ -8,7 +8,6 @@
  */
 package org.openhab.binding.somfytahoma.handler;
 
-import org.eclipse.smarthome.core.cache.ExpiringCache;
 import org.eclipse.smarthome.core.library.types.*;
 import org.eclipse.smarthome.core.thing.*;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
@@ -20,9 +19,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.Hashtable;
-import java.util.List;
+import java.util.Map;
 
 import static org.openhab.binding.somfytahoma.SomfyTahomaBindingConstants.*;
 
@@ -37,43 +35,30 @@ public abstract class SomfyTahomaBaseThingHandler extends BaseThingHandler imple
     private Hashtable<String, Integer> typeTable = new Hashtable<>();
     protected LocalTime lastUpdated = LocalTime.MIN;
 
-    //cache
-    private ExpiringCache<List<SomfyTahomaState>> thingStates;
-
     public SomfyTahomaBaseThingHandler(Thing thing) {
         super(thing);
     }
 
     @Override
     public void initialize() {
-        thingStates = new ExpiringCache<>(CACHE_EXPIRY, () -> getThingStates());
-
         SomfyTahomaState state = getCachedThingState(STATUS_STATE);
         updateThingStatus(state);
     }
 
-    private synchronized SomfyTahomaState getCachedThingState(String state) {
+    private SomfyTahomaState getCachedThingState(String state) {
         logger.debug("Getting cached state: {} for url: {}", state, getURL());
-        List<SomfyTahomaState> states = thingStates.getValue();
-        if (states != null) {
-            for (SomfyTahomaState st : states) {
-                if (st.getName().equals(state)) {
-                    logger.debug("Returning cached value: {} for state name: {}", st.getValue(), st.getName());
-                    return st;
-                }
-            }
+        SomfyTahomaBridgeHandler bridge = getBridgeHandler();
+        SomfyTahomaState st = bridge != null ? bridge.getDeviceStates(getURL()).get(state) : null;
+        if (st != null) {
+            logger.debug("Returning cached value: {} for state name: {}", st.getValue(), st.getName());
         }
-        return null;
+        return st;
     }
 
     protected boolean isAlwaysOnline() {
         return false;
     }
 
-    protected List<SomfyTahomaState> getThingStates() {
-        return getBridgeHandler() != null ? getBridgeHandler().getAllStates(getStateNames().values(), getURL()) : null;
-    }
-
     protected SomfyTahomaBridgeHandler getBridgeHandler() {
         return this.getBridge() != null ? (SomfyTahomaBridgeHandler) this.getBridge().getHandler() : null;
     }
@@ -138,18 +123,18 @@ public abstract class SomfyTahomaBaseThingHandler extends BaseThingHandler imple
     }
 
     private State getChannelState(Channel channel,
-                                  List<SomfyTahomaState> channelStates) {
+                                  Map<String, SomfyTahomaState> channelStates) {
         ChannelTypeUID channelUID = channel.getChannelTypeUID();
-        if (channelUID == null) {
+        if (channelUID == null || getStateNames() == null) {
             return null;
         }
 
         String stateName = getStateNames().get(channelUID.getId());
-        for (SomfyTahomaState state : channelStates) {
-            if (state.getName().equals(stateName)) {
-                logger.trace("Parsing state for channel: {} with state name: {}", channel.getUID().getId(), state.getName());
-                return parseTahomaState(channel.getAcceptedItemType(), state);
-            }
+        SomfyTahomaState state = stateName != null ? channelStates.get(stateName) : null;
+        if (state != null) {
+            logger.trace("Parsing state for channel: {} with state name: {}", channel.getUID().getId(),
+                    state.getName());
+            return parseTahomaState(channel.getAcceptedItemType(), state);
         }
         return null;
     }
@@ -170,7 +155,12 @@ public abstract class SomfyTahomaBaseThingHandler extends BaseThingHandler imple
 
         try {
             if (type == 0) {
-                type = typeTable.get(state.getName());
+                Integer cachedType = typeTable.get(state.getName());
+                if (cachedType == null) {
+                    logger.debug("Unknown type of Tahoma state: {}", state.getName());
+                    return null;
+                }
+                type = cachedType;
             }
 
             cacheStateType(state);
@@ -221,18 +211,9 @@ public abstract class SomfyTahomaBaseThingHandler extends BaseThingHandler imple
         }
     }
 
-    public void updateThingStatus(List<SomfyTahomaState> states) {
-        SomfyTahomaState state = getStatusState(states);
-        updateThingStatus(state);
-    }
-
-    private SomfyTahomaState getStatusState(List<SomfyTahomaState> states) {
-        for (SomfyTahomaState state : states) {
-            if (state.getName().equals(STATUS_STATE) && state.getType() == TYPE_STRING) {
-                return state;
-            }
-        }
-        return null;
+    public void updateThingStatus(Map<String, SomfyTahomaState> states) {
+        SomfyTahomaState state = states.get(STATUS_STATE);
+        updateThingStatus(state != null && state.getType() == TYPE_STRING ? state : null);
     }
 
     private void updateThingStatus(SomfyTahomaState state) {
@@ -258,14 +239,11 @@ public abstract class SomfyTahomaBaseThingHandler extends BaseThingHandler imple
             if (channel == null) {
                 return;
             }
+            // the bridge reloads the shared snapshot (and logs in again if needed) when it has expired
             SomfyTahomaState tahomaState = getCachedThingState(stateName);
             State state = parseTahomaState(channel.getAcceptedItemType(), tahomaState);
-
-            if (state.equals(UnDefType.NULL)) {
-                // relogin
-                getBridgeHandler().login();
-                tahomaState = getCachedThingState(stateName);
-                state = parseTahomaState(channel.getAcceptedItemType(), tahomaState);
+            if (state == null) {
+                return;
             }
 
             updateState(channelUID, state);
@@ -285,7 +263,7 @@ public abstract class SomfyTahomaBaseThingHandler extends BaseThingHandler imple
         return null;
     }
 
-    public void updateThingChannels(ArrayList<SomfyTahomaState> states) {
+    public void updateThingChannels(Map<String, SomfyTahomaState> states) {
         // update channel values
         for (Channel channel : thing.getChannels()) {
             if (isChannelLinked(channel)) {
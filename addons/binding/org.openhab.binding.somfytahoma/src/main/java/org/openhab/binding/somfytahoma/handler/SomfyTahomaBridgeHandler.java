@@ -21,8 +21,10 @@ import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.smarthome.config.core.status.ConfigStatusMessage;
 import org.eclipse.smarthome.core.thing.*;
 import org.eclipse.smarthome.core.thing.binding.ConfigStatusBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.somfytahoma.internal.SomfyTahomaException;
+import org.openhab.binding.somfytahoma.internal.SomfyTahomaStateSnapshot;
 import org.openhab.binding.somfytahoma.internal.config.SomfyTahomaConfig;
 import org.openhab.binding.somfytahoma.internal.model.*;
 import org.slf4j.Logger;
@@ -32,6 +34,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -68,6 +72,16 @@ public class SomfyTahomaBridgeHandler extends ConfigStatusBridgeHandler {
     // Gson & parser
     private final Gson gson = new Gson();
 
+    /**
+     * States of all devices, shared by the things of this bridge
+     */
+    private final SomfyTahomaStateSnapshot snapshot = new SomfyTahomaStateSnapshot();
+
+    /**
+     * Handlers of the bound things by device URL
+     */
+    private final Map<String, SomfyTahomaBaseThingHandler> thingHandlers = new ConcurrentHashMap<>();
+
     public SomfyTahomaBridgeHandler(Bridge thing) {
         super(thing);
     }
@@ -200,9 +214,26 @@ public class SomfyTahomaBridgeHandler extends ConfigStatusBridgeHandler {
         return Collections.emptyList();
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        String url = (String) childThing.getConfiguration().get("url");
+        if (url != null && childHandler instanceof SomfyTahomaBaseThingHandler) {
+            thingHandlers.put(url, (SomfyTahomaBaseThingHandler) childHandler);
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        String url = (String) childThing.getConfiguration().get("url");
+        if (url != null) {
+            thingHandlers.remove(url, childHandler);
+        }
+    }
+
     @Override
     public void dispose() {
         stopPolling();
+        snapshot.clear();
 
         try {
             httpClient.stop();
@@ -298,59 +329,29 @@ public class SomfyTahomaBridgeHandler extends ConfigStatusBridgeHandler {
     }
 
 
-    private String getFormattedParameters(Collection<String> stateNames) {
-        ArrayList<String> uniqueNames = new ArrayList<>();
-        for (String name : stateNames) {
-            if (!uniqueNames.contains(name)) {
-                uniqueNames.add(name);
-            }
-        }
-        StringBuilder sb = new StringBuilder("{\"name\": \"" + STATUS_STATE + "\"}");
-        for (String name : uniqueNames) {
-            sb.append(',');
-            sb.append("{\"name\": \"").append(name).append("\"}");
-        }
-        logger.debug("Formatted parameters: {}", sb.toString());
-        return sb.toString();
+    /**
+     * Returns the states of a device from the snapshot shared by all things,
+     * which is reloaded with a single setup request once it has expired.
+     *
+     * @param deviceUrl the URL of the device
+     * @return the states of the device by state name
+     */
+    public Map<String, SomfyTahomaState> getDeviceStates(String deviceUrl) {
+        refreshSnapshot();
+        return snapshot.getStates(deviceUrl);
     }
 
-
-    public List<SomfyTahomaState> getAllStates(Collection<String> stateNames, String deviceUrl) {
-        String url;
-        String line = "";
-
-        logger.debug("Getting states for a device: {}", deviceUrl);
-        try {
-            url = TAHOMA_URL + "getStates";
-            String urlParameters = "[{\"deviceURL\": \"" + deviceUrl + "\", \"states\": ["
-                    + getFormattedParameters(stateNames) + "]}]";
-
-            line = sendDataToTahomaWithCookie(url, urlParameters);
-
-            SomfyTahomaStatesResponse data = gson.fromJson(line, SomfyTahomaStatesResponse.class);
-            SomfyTahomaDeviceWithState device = data.getDevices().get(0);
-            if (!device.hasStates()) {
-                logger.debug("Device: {} has not returned any state", deviceUrl);
-            }
-            return device.getStates();
-        } catch (JsonSyntaxException e) {
-            logger.debug("Received data: {} is not JSON", line, e);
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Received invalid data");
-        } catch (SomfyTahomaException e) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Unauthorized. Please check credentials");
-        } catch (ExecutionException e) {
-            if (e.toString().contains(AUTHENTICATION_CHALLENGE)) {
-                login();
-            } else {
-                logger.debug("Cannot send getStates command!", e);
-                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
-            }
-        } catch (InterruptedException | TimeoutException e) {
-            logger.debug("Cannot send getStates command!", e);
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
+    private synchronized void refreshSnapshot() {
+        if (!snapshot.isExpired(System.currentTimeMillis(), CACHE_EXPIRY)) {
+            return;
+        }
+        logger.debug("Refreshing states of all devices");
+        SomfyTahomaSetup setup = listDevices();
+        if (setup != null) {
+            snapshot.load(setup, System.currentTimeMillis());
+        } else {
+            snapshot.loadFailed(System.currentTimeMillis());
         }
-
-        return null;
     }
 
     private void updateTahomaStates() {
@@ -366,17 +367,14 @@ public class SomfyTahomaBridgeHandler extends ConfigStatusBridgeHandler {
             String deviceUrl = event.getDeviceUrl();
             ArrayList<SomfyTahomaState> states = event.getDeviceStates();
             logger.debug("States for device {} : {}", deviceUrl, states.toString());
-            Thing thing = getThingByDeviceUrl(deviceUrl);
-
-            if (thing != null) {
-                logger.debug("Updating status of thing: {}", thing.getUID().getId());
-                SomfyTahomaBaseThingHandler handler = (SomfyTahomaBaseThingHandler) thing.getHandler();
-
-                if (handler != null) {
-                    // update thing status
-                    handler.updateThingStatus(states);
-                    handler.updateThingChannels(states);
-                }
+            Map<String, SomfyTahomaState> deviceStates = snapshot.update(deviceUrl, states);
+            SomfyTahomaBaseThingHandler handler = thingHandlers.get(deviceUrl);
+
+            if (handler != null) {
+                logger.debug("Updating status of thing: {}", handler.getThing().getUID().getId());
+                // update thing status
+                handler.updateThingStatus(deviceStates);
+                handler.updateThingChannels(deviceStates);
             } else {
                 logger.debug("Thing handler is null, probably not bound thing.");
             }
@@ -390,6 +388,9 @@ public class SomfyTahomaBridgeHandler extends ConfigStatusBridgeHandler {
 
     private void updateThingStates(Thing th) {
         SomfyTahomaBaseThingHandler handler = (SomfyTahomaBaseThingHandler) th.getHandler();
+        if (handler == null) {
+            return;
+        }
         for (Channel ch : th.getChannels()) {
             handler.updateChannelState(ch.getUID());
         }
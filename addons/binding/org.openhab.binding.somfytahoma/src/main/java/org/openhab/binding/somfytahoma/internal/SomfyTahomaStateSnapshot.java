@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.somfytahoma.internal;
+
+import org.openhab.binding.somfytahoma.internal.model.SomfyTahomaDevice;
+import org.openhab.binding.somfytahoma.internal.model.SomfyTahomaSetup;
+import org.openhab.binding.somfytahoma.internal.model.SomfyTahomaState;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link SomfyTahomaStateSnapshot} holds the states of all devices of a
+ * TaHoma account by device URL and state name. It is loaded from a single
+ * setup response and kept up to date by the state changed events, so that
+ * all things of a bridge share it.
+ *
+ * @author agent - Initial contribution
+ */
+public class SomfyTahomaStateSnapshot {
+
+    private final Map<String, Map<String, SomfyTahomaState>> devices = new ConcurrentHashMap<>();
+    private volatile long loaded = 0;
+
+    /**
+     * Replaces the states of all devices by the states of the setup.
+     *
+     * @param setup the setup
+     * @param now   the current time in milliseconds
+     */
+    public void load(SomfyTahomaSetup setup, long now) {
+        if (setup.getDevices() != null) {
+            for (SomfyTahomaDevice device : setup.getDevices()) {
+                if (device.getDeviceURL() != null) {
+                    devices.put(device.getDeviceURL(), toMap(device.getStates()));
+                }
+            }
+        }
+        loaded = now;
+    }
+
+    /**
+     * Records a failed reload. The current states are kept and the reload is
+     * only retried once the snapshot has expired again, so that an unreachable
+     * cloud doesn't cause a setup request on every state lookup.
+     *
+     * @param now the current time in milliseconds
+     */
+    public void loadFailed(long now) {
+        loaded = now;
+    }
+
+    /**
+     * Merges the changed states of a device into the snapshot.
+     *
+     * @param deviceUrl the URL of the device
+     * @param states    the changed states
+     * @return the states of the device after the merge
+     */
+    public Map<String, SomfyTahomaState> update(String deviceUrl, List<SomfyTahomaState> states) {
+        Map<String, SomfyTahomaState> merged = new HashMap<>(devices.getOrDefault(deviceUrl, Collections.emptyMap()));
+        merged.putAll(toMap(states));
+        Map<String, SomfyTahomaState> result = Collections.unmodifiableMap(merged);
+        devices.put(deviceUrl, result);
+        return result;
+    }
+
+    /**
+     * @param deviceUrl the URL of the device
+     * @return the states of the device by state name, empty if the device is unknown
+     */
+    public Map<String, SomfyTahomaState> getStates(String deviceUrl) {
+        return devices.getOrDefault(deviceUrl, Collections.emptyMap());
+    }
+
+    /**
+     * @param now    the current time in milliseconds
+     * @param maxAge the maximum age in milliseconds
+     * @return true if no reload has been attempted within the maximum age
+     */
+    public boolean isExpired(long now, long maxAge) {
+        return now - loaded >= maxAge;
+    }
+
+    public void clear() {
+        devices.clear();
+        loaded = 0;
+    }
+
+    private static Map<String, SomfyTahomaState> toMap(List<SomfyTahomaState> states) {
+        if (states == null || states.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, SomfyTahomaState> map = new HashMap<>();
+        for (SomfyTahomaState state : states) {
+            map.put(state.getName(), state);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -105,7 +105,7 @@ class SqueezeBoxNotificationPlayer implements Closeable {
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
         listener.resetVolumeUpdated();
 
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
         squeezeBoxServerHandler.setVolume(mac, requestedVolume);
 
         logger.trace("Waiting up to {} s for volume to be updated...", VOLUME_COMMAND_TIMEOUT);
@@ -120,7 +120,7 @@ class SqueezeBoxNotificationPlayer implements Closeable {
                 }
             }
         } finally {
-            squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(listener);
+            squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(mac, listener);
         }
     }
 
@@ -129,14 +129,14 @@ class SqueezeBoxNotificationPlayer implements Closeable {
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
         listener.resetPlaylistUpdated();
 
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
         squeezeBoxServerHandler.addPlaylistItem(mac, uri.toString(), "Notification");
 
         try {
             updatePlaylist(listener);
             this.playlistModified = true;
         } finally {
-            squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(listener);
+            squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(mac, listener);
         }
     }
 
@@ -145,13 +145,13 @@ class SqueezeBoxNotificationPlayer implements Closeable {
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
         listener.resetPlaylistUpdated();
 
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
         squeezeBoxServerHandler.deletePlaylistItem(mac, notificationMessagePlaylistsIndex);
 
         try {
             updatePlaylist(listener);
         } finally {
-            squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(listener);
+            squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(mac, listener);
         }
     }
 
@@ -187,7 +187,7 @@ class SqueezeBoxNotificationPlayer implements Closeable {
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
         listener.resetStopped();
 
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
         squeezeBoxServerHandler.playPlaylistItem(mac, notificationMessagePlaylistsIndex);
 
         try {
@@ -203,7 +203,7 @@ class SqueezeBoxNotificationPlayer implements Closeable {
                 }
             }
         } finally {
-            squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(listener);
+            squeezeBoxServerHandler.unregisterSqueezeBoxPlayerListener(mac, listener);
         }
     }
 
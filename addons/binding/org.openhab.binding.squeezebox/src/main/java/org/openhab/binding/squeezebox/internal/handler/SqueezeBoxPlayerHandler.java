@@ -598,6 +598,17 @@ public class SqueezeBoxPlayerHandler extends BaseThingHandler implements Squeeze
         }, 0, 1, TimeUnit.SECONDS);
     }
 
+    /**
+     * Checks if a channel of this player is linked, so that the server handler can skip decoding values for it
+     *
+     * @param channelId
+     * @return
+     */
+    @Override
+    public boolean isLinked(String channelId) {
+        return super.isLinked(channelId);
+    }
+
     private boolean isMe(String mac) {
         return mac.equals(this.mac);
     }
@@ -27,6 +27,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -43,6 +45,7 @@ import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.UnDefType;
+import org.openhab.binding.squeezebox.internal.config.SqueezeBoxPlayerConfig;
 import org.openhab.binding.squeezebox.internal.config.SqueezeBoxServerConfig;
 import org.openhab.binding.squeezebox.internal.model.Favorite;
 import org.slf4j.Logger;
@@ -82,8 +85,16 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
 
     private static final String CHANNEL_CONFIG_QUOTE_LIST = "quoteList";
 
-    private List<SqueezeBoxPlayerEventListener> squeezeBoxPlayerListeners = Collections
-            .synchronizedList(new ArrayList<SqueezeBoxPlayerEventListener>());
+    // separator of the name and value of an URL encoded message parameter
+    private static final String PARAMETER_SEPARATOR = "%3A";
+
+    private final List<SqueezeBoxPlayerEventListener> squeezeBoxPlayerListeners = new CopyOnWriteArrayList<>();
+
+    // listeners for the events of a single player, by mac
+    private final Map<String, List<SqueezeBoxPlayerEventListener>> playerEventListeners = new ConcurrentHashMap<>();
+
+    // handlers of the child player things, by mac
+    private final Map<String, SqueezeBoxPlayerHandler> playerHandlers = new ConcurrentHashMap<>();
 
     private Map<String, SqueezeBoxPlayer> players = Collections
             .synchronizedMap(new HashMap<String, SqueezeBoxPlayer>());
@@ -110,6 +121,11 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     @Override
     public void initialize() {
         logger.debug("initializing server handler for thing {}", getThing().getUID());
+        for (Thing childThing : getThing().getThings()) {
+            if (childThing.getHandler() != null) {
+                childHandlerInitialized(childThing.getHandler(), childThing);
+            }
+        }
         scheduler.submit(this::connect);
     }
 
@@ -483,19 +499,22 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
 
         private void handlePlayersList(String message) {
-            // Split out players
-            String[] playersList = message.split("playerindex\\S*\\s");
-            for (String playerParams : playersList) {
-
-                // For each player, split out parameters and decode parameter
-                String[] parameterList = playerParams.split("\\s");
-                for (int i = 0; i < parameterList.length; i++) {
-                    parameterList[i] = decode(parameterList[i]);
+            // Split out players, every player starts with a playerindex parameter
+            List<List<String>> playersList = new ArrayList<>();
+            List<String> parameterList = new ArrayList<>();
+            for (String part : tokenize(message)) {
+                if (part.startsWith("playerindex")) {
+                    parameterList = new ArrayList<>();
+                    playersList.add(parameterList);
+                } else {
+                    parameterList.add(decode(part));
                 }
+            }
 
+            for (List<String> playerParams : playersList) {
                 // parse out the MAC address first
                 String macAddress = null;
-                for (String parameter : parameterList) {
+                for (String parameter : playerParams) {
                     if (parameter.contains("playerid")) {
                         macAddress = parameter.substring(parameter.indexOf(":") + 1);
                         break;
@@ -510,7 +529,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                 final SqueezeBoxPlayer player = new SqueezeBoxPlayer();
                 player.setMacAddress(macAddress);
                 // populate the player state
-                for (String parameter : parameterList) {
+                for (String parameter : playerParams) {
                     if (parameter.contains("ip")) {
                         player.setIpAddr(parameter.substring(parameter.indexOf(":") + 1));
                     } else if (parameter.contains("uuid")) {
@@ -525,12 +544,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                 // Save player if we haven't seen it yet
                 if (!players.containsKey(macAddress)) {
                     players.put(macAddress, player);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.playerAdded(player);
-                        }
-                    });
+                    updatePlayer(listener -> listener.playerAdded(player));
                     // tell the server we want to subscribe to player updates
                     sendCommand(player.getMacAddress() + " status - 1 subscribe:10 tags:yagJlNKjc");
                 }
@@ -538,7 +552,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
 
         private void handlePlayerUpdate(String message) {
-            String[] messageParts = message.split("\\s");
+            String[] messageParts = tokenize(message);
             if (messageParts.length < 2) {
                 logger.warn("Invalid message - expecting at least 2 parts. Ignoring.");
                 return;
@@ -563,12 +577,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     break;
                 case "ir":
                     final String ircode = messageParts[2];
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.irCodeChangeEvent(mac, ircode);
-                        }
-                    });
+                    updatePlayer(mac, listener -> listener.irCodeChangeEvent(mac, ircode));
                     break;
                 default:
                     logger.trace("Unhandled player update message type '{}'.", messageType);
@@ -582,26 +591,19 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             switch (action) {
                 case "volume":
                     String volumeStringValue = decode(messageParts[3]);
-
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            try {
-                                int volume = Integer.parseInt(volumeStringValue);
-
-                                // Check if we received a relative volume change, or an absolute
-                                // volume value.
-                                if (volumeStringValue.contains("+") || (volumeStringValue.contains("-"))) {
-                                    listener.relativeVolumeChangeEvent(mac, volume);
-                                } else {
-                                    listener.absoluteVolumeChangeEvent(mac, volume);
-                                }
-                            } catch (NumberFormatException e) {
-                                logger.warn("Unable to parse volume [{}] received from mixer message.",
-                                        volumeStringValue, e);
-                            }
+                    try {
+                        int volume = Integer.parseInt(volumeStringValue);
+
+                        // Check if we received a relative volume change, or an absolute
+                        // volume value.
+                        if (volumeStringValue.contains("+") || (volumeStringValue.contains("-"))) {
+                            updatePlayer(mac, listener -> listener.relativeVolumeChangeEvent(mac, volume));
+                        } else {
+                            updatePlayer(mac, listener -> listener.absoluteVolumeChangeEvent(mac, volume));
                         }
-                    });
+                    } catch (NumberFormatException e) {
+                        logger.warn("Unable to parse volume [{}] received from mixer message.", volumeStringValue, e);
+                    }
                     break;
                 default:
                     logger.trace("Unhandled mixer message type '{}'", Arrays.toString(messageParts));
@@ -609,6 +611,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             }
         }
 
+        /**
+         * Handles a status message. The values of text parameters are only decoded when the channel of the player
+         * they are dispatched to is linked.
+         */
         private void handleStatusMessage(final String mac, String[] messageParts) {
             String remoteTitle = "", artist = "", album = "", genre = "", year = "";
             boolean coverart = false;
@@ -616,168 +622,127 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             String artworkUrl = null;
 
             for (String messagePart : messageParts) {
-                // Parameter Power
-                if (messagePart.startsWith("power%3A")) {
-                    final boolean power = "1".matches(messagePart.substring("power%3A".length()));
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.powerChangeEvent(mac, power);
-                        }
-                    });
-                }
-                // Parameter Volume
-                else if (messagePart.startsWith("mixer%20volume%3A")) {
-                    String value = messagePart.substring("mixer%20volume%3A".length());
-                    final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.absoluteVolumeChangeEvent(mac, volume);
-                        }
-                    });
-                }
-                // Parameter Mode
-                else if (messagePart.startsWith("mode%3A")) {
-                    final String mode = messagePart.substring("mode%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.modeChangeEvent(mac, mode);
-                        }
-                    });
-                }
-                // Parameter Playing Time
-                else if (messagePart.startsWith("time%3A")) {
-                    String value = messagePart.substring("time%3A".length());
-                    final int time = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlayingTimeEvent(mac, time);
-                        }
-                    });
-                }
-                // Parameter duration
-                else if (messagePart.startsWith("duration%3A")) {
-                    String value = messagePart.substring("duration%3A".length());
-                    final int duration = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.durationEvent(mac, duration);
-                        }
-                    });
-                }
-                // Parameter Playing Playlist Index
-                else if (messagePart.startsWith("playlist_cur_index%3A")) {
-                    String value = messagePart.substring("playlist_cur_index%3A".length());
-                    final int index = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistIndexEvent(mac, index);
-                        }
-                    });
-                }
-                // Parameter Playlist Number Tracks
-                else if (messagePart.startsWith("playlist_tracks%3A")) {
-                    String value = messagePart.substring("playlist_tracks%3A".length());
-                    final int track = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.numberPlaylistTracksEvent(mac, track);
-                        }
-                    });
-                }
-                // Parameter Playlist Repeat Mode
-                else if (messagePart.startsWith("playlist%20repeat%3A")) {
-                    String value = messagePart.substring("playlist%20repeat%3A".length());
-                    final int repeat = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistRepeatEvent(mac, repeat);
-                        }
-                    });
-                }
-                // Parameter Playlist Shuffle Mode
-                else if (messagePart.startsWith("playlist%20shuffle%3A")) {
-                    String value = messagePart.substring("playlist%20shuffle%3A".length());
-                    final int shuffle = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistShuffleEvent(mac, shuffle);
-                        }
-                    });
-                }
-                // Parameter Title
-                else if (messagePart.startsWith("title%3A")) {
-                    final String value = messagePart.substring("title%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.titleChangeEvent(mac, decode(value));
-                        }
-                    });
-                }
-                // Parameter Remote Title (radio)
-                else if (messagePart.startsWith("remote_title%3A")) {
-                    remoteTitle = messagePart.substring("remote_title%3A".length());
-                }
-                // Parameter Artist
-                else if (messagePart.startsWith("artist%3A")) {
-                    artist = messagePart.substring("artist%3A".length());
-                }
-                // Parameter Album
-                else if (messagePart.startsWith("album%3A")) {
-                    album = messagePart.substring("album%3A".length());
-                }
-                // Parameter Genre
-                else if (messagePart.startsWith("genre%3A")) {
-                    genre = messagePart.substring("genre%3A".length());
-                }
-                // Parameter Year
-                else if (messagePart.startsWith("year%3A")) {
-                    year = messagePart.substring("year%3A".length());
-                }
-                // Parameter artwork_url contains url to cover art
-                else if (messagePart.startsWith("artwork_url%3A")) {
-                    artworkUrl = messagePart.substring("artwork_url%3A".length());
-                }
-                // When coverart is "1" coverid will contain a unique coverart id
-                else if (messagePart.startsWith("coverart%3A")) {
-                    coverart = "1".matches(messagePart.substring("coverart%3A".length()));
-                }
-                // Id for covert art (only valid when coverart is "1")
-                else if (messagePart.startsWith("coverid%3A")) {
-                    coverid = messagePart.substring("coverid%3A".length());
-                } else {
+                int separator = messagePart.indexOf(PARAMETER_SEPARATOR);
+                if (separator < 0) {
                     // Added to be able to see additional status message types
                     logger.trace("Unhandled status message type '{}'", messagePart);
+                    continue;
+                }
+                String value = messagePart.substring(separator + PARAMETER_SEPARATOR.length());
+                switch (messagePart.substring(0, separator)) {
+                    // Parameter Power
+                    case "power":
+                        final boolean power = "1".equals(value);
+                        updatePlayer(mac, listener -> listener.powerChangeEvent(mac, power));
+                        break;
+                    // Parameter Volume
+                    case "mixer%20volume":
+                        final int volume = (int) Double.parseDouble(value);
+                        updatePlayer(mac, listener -> listener.absoluteVolumeChangeEvent(mac, volume));
+                        break;
+                    // Parameter Mode
+                    case "mode":
+                        updatePlayer(mac, listener -> listener.modeChangeEvent(mac, value));
+                        break;
+                    // Parameter Playing Time
+                    case "time":
+                        final int time = (int) Double.parseDouble(value);
+                        updatePlayer(mac, listener -> listener.currentPlayingTimeEvent(mac, time));
+                        break;
+                    // Parameter duration
+                    case "duration":
+                        final int duration = (int) Double.parseDouble(value);
+                        updatePlayer(mac, listener -> listener.durationEvent(mac, duration));
+                        break;
+                    // Parameter Playing Playlist Index
+                    case "playlist_cur_index":
+                        final int index = (int) Double.parseDouble(value);
+                        updatePlayer(mac, listener -> listener.currentPlaylistIndexEvent(mac, index));
+                        break;
+                    // Parameter Playlist Number Tracks
+                    case "playlist_tracks":
+                        final int track = (int) Double.parseDouble(value);
+                        updatePlayer(mac, listener -> listener.numberPlaylistTracksEvent(mac, track));
+                        break;
+                    // Parameter Playlist Repeat Mode
+                    case "playlist%20repeat":
+                        final int repeat = (int) Double.parseDouble(value);
+                        updatePlayer(mac, listener -> listener.currentPlaylistRepeatEvent(mac, repeat));
+                        break;
+                    // Parameter Playlist Shuffle Mode
+                    case "playlist%20shuffle":
+                        final int shuffle = (int) Double.parseDouble(value);
+                        updatePlayer(mac, listener -> listener.currentPlaylistShuffleEvent(mac, shuffle));
+                        break;
+                    // Parameter Title
+                    case "title":
+                        if (isPlayerChannelLinked(mac, CHANNEL_TITLE)) {
+                            final String title = decode(value);
+                            updatePlayer(mac, listener -> listener.titleChangeEvent(mac, title));
+                        }
+                        break;
+                    // Parameter Remote Title (radio)
+                    case "remote_title":
+                        remoteTitle = value;
+                        break;
+                    // Parameter Artist
+                    case "artist":
+                        artist = value;
+                        break;
+                    // Parameter Album
+                    case "album":
+                        album = value;
+                        break;
+                    // Parameter Genre
+                    case "genre":
+                        genre = value;
+                        break;
+                    // Parameter Year
+                    case "year":
+                        year = value;
+                        break;
+                    // Parameter artwork_url contains url to cover art
+                    case "artwork_url":
+                        artworkUrl = value;
+                        break;
+                    // When coverart is "1" coverid will contain a unique coverart id
+                    case "coverart":
+                        coverart = "1".equals(value);
+                        break;
+                    // Id for covert art (only valid when coverart is "1")
+                    case "coverid":
+                        coverid = value;
+                        break;
+                    default:
+                        // Added to be able to see additional status message types
+                        logger.trace("Unhandled status message type '{}'", messagePart);
                 }
             }
 
-            final String finalUrl = constructCoverArtUrl(mac, coverart, coverid, artworkUrl);
-            final String finalRemoteTitle = remoteTitle;
-            final String finalArtist = artist;
-            final String finalAlbum = album;
-            final String finalGenre = genre;
-            final String finalYear = year;
-
-            updatePlayer(new PlayerUpdateEvent() {
-                @Override
-                public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                    listener.coverArtChangeEvent(mac, finalUrl);
-                    listener.remoteTitleChangeEvent(mac, decode(finalRemoteTitle));
-                    listener.artistChangeEvent(mac, decode(finalArtist));
-                    listener.albumChangeEvent(mac, decode(finalAlbum));
-                    listener.genreChangeEvent(mac, decode(finalGenre));
-                    listener.yearChangeEvent(mac, decode(finalYear));
-                }
-            });
+            if (isPlayerChannelLinked(mac, CHANNEL_COVERART_DATA)) {
+                final String finalUrl = constructCoverArtUrl(mac, coverart, coverid, artworkUrl);
+                updatePlayer(mac, listener -> listener.coverArtChangeEvent(mac, finalUrl));
+            }
+            if (isPlayerChannelLinked(mac, CHANNEL_REMOTE_TITLE)) {
+                final String finalRemoteTitle = decode(remoteTitle);
+                updatePlayer(mac, listener -> listener.remoteTitleChangeEvent(mac, finalRemoteTitle));
+            }
+            if (isPlayerChannelLinked(mac, CHANNEL_ARTIST)) {
+                final String finalArtist = decode(artist);
+                updatePlayer(mac, listener -> listener.artistChangeEvent(mac, finalArtist));
+            }
+            if (isPlayerChannelLinked(mac, CHANNEL_ALBUM)) {
+                final String finalAlbum = decode(album);
+                updatePlayer(mac, listener -> listener.albumChangeEvent(mac, finalAlbum));
+            }
+            if (isPlayerChannelLinked(mac, CHANNEL_GENRE)) {
+                final String finalGenre = decode(genre);
+                updatePlayer(mac, listener -> listener.genreChangeEvent(mac, finalGenre));
+            }
+            if (isPlayerChannelLinked(mac, CHANNEL_YEAR)) {
+                final String finalYear = decode(year);
+                updatePlayer(mac, listener -> listener.yearChangeEvent(mac, finalYear));
+            }
         }
 
         private String constructCoverArtUrl(String mac, boolean coverart, String coverid, String artwork_url) {
@@ -814,12 +779,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             if (action.equals("newsong")) {
                 mode = "play";
                 // Set the track duration to 0
-                updatePlayer(new PlayerUpdateEvent() {
-                    @Override
-                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                        listener.durationEvent(mac, 0);
-                    }
-                });
+                updatePlayer(mac, listener -> listener.durationEvent(mac, 0));
             } else if (action.equals("pause")) {
                 mode = messageParts[3].equals("0") ? "play" : "pause";
             } else if (action.equals("stop")) {
@@ -830,14 +790,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                 return;
             }
             final String value = mode;
-            updatePlayer(new PlayerUpdateEvent() {
-
-                @Override
-                public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                    listener.modeChangeEvent(mac, value);
-                }
-
-            });
+            updatePlayer(mac, listener -> listener.modeChangeEvent(mac, value));
         }
 
         private void handlePrefsetMessage(final String mac, String[] messageParts) {
@@ -852,22 +805,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
 
                 if (function.equals("power")) {
                     final boolean power = value.equals("1");
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.powerChangeEvent(mac, power);
-                        }
-                    });
+                    updatePlayer(mac, listener -> listener.powerChangeEvent(mac, power));
                 } else if (function.equals("volume")) {
                     final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.absoluteVolumeChangeEvent(mac, volume);
-                        }
-
-                    });
+                    updatePlayer(mac, listener -> listener.absoluteVolumeChangeEvent(mac, volume));
                 }
             }
         }
@@ -875,7 +816,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         private void handleFavorites(String message) {
             logger.trace("Handle favorites message: {}", message);
 
-            String[] messageParts = message.split("\\s");
+            String[] messageParts = tokenize(message);
             if (messageParts.length == 2 && "changed".equals(messageParts[1])) {
                 // LMS informing us that favorites have changed; request an update to the favorites list
                 requestFavorites();
@@ -904,7 +845,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                 }
                 // When "1", favorite is a submenu with additional favorites
                 else if (part.startsWith("hasitems%3A")) {
-                    boolean hasitems = "1".matches(part.substring("hasitems%3A".length()));
+                    boolean hasitems = "1".equals(part.substring("hasitems%3A".length()));
                     if (f != null) {
                         if (hasitems) {
                             // Skip subfolders
@@ -919,12 +860,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
 
         private void updatePlayersFavoritesList(List<Favorite> favorites) {
-            updatePlayer(new PlayerUpdateEvent() {
-                @Override
-                public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                    listener.updateFavoritesListEvent(favorites);
-                }
-            });
+            updatePlayer(listener -> listener.updateFavoritesListEvent(favorites));
         }
 
         private void updateChannelFavoritesList(List<Favorite> favorites) {
@@ -971,7 +907,28 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Update Listeners and child Squeeze Player Things
+     * Splits a message of the CLI into its space separated parts, which are still URL encoded.
+     *
+     * @param message
+     * @return
+     */
+    static String[] tokenize(String message) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int length = message.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || Character.isWhitespace(message.charAt(i))) {
+                if (i > start) {
+                    parts.add(message.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return parts.toArray(new String[parts.size()]);
+    }
+
+    /**
+     * Update Listeners and all child Squeeze Player Things
      *
      * @param event
      */
@@ -980,20 +937,71 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         for (SqueezeBoxPlayerEventListener listener : squeezeBoxPlayerListeners) {
             event.updateListener(listener);
         }
+        for (List<SqueezeBoxPlayerEventListener> listeners : playerEventListeners.values()) {
+            for (SqueezeBoxPlayerEventListener listener : listeners) {
+                event.updateListener(listener);
+            }
+        }
         // update our children
-        Bridge bridge = getThing();
+        for (SqueezeBoxPlayerHandler handler : playerHandlers.values()) {
+            event.updateListener(handler);
+        }
+    }
+
+    /**
+     * Update Listeners and the child Squeeze Player Thing of a player
+     *
+     * @param mac
+     * @param event
+     */
+    private void updatePlayer(String mac, PlayerUpdateEvent event) {
+        // update listeners like disco services
+        for (SqueezeBoxPlayerEventListener listener : squeezeBoxPlayerListeners) {
+            event.updateListener(listener);
+        }
+        List<SqueezeBoxPlayerEventListener> listeners = playerEventListeners.get(mac);
+        if (listeners != null) {
+            for (SqueezeBoxPlayerEventListener listener : listeners) {
+                event.updateListener(listener);
+            }
+        }
+        // update our child
+        SqueezeBoxPlayerHandler handler = playerHandlers.get(mac);
+        if (handler != null) {
+            event.updateListener(handler);
+        }
+    }
 
-        List<Thing> things = bridge.getThings();
-        for (Thing thing : things) {
-            ThingHandler handler = thing.getHandler();
-            if (handler instanceof SqueezeBoxPlayerEventListener && !squeezeBoxPlayerListeners.contains(handler)) {
-                event.updateListener((SqueezeBoxPlayerEventListener) handler);
+    /**
+     * Checks if a channel of the child Squeeze Player Thing of a player is linked
+     *
+     * @param mac
+     * @param channelId
+     * @return
+     */
+    private boolean isPlayerChannelLinked(String mac, String channelId) {
+        SqueezeBoxPlayerHandler handler = playerHandlers.get(mac);
+        return handler != null && handler.isLinked(channelId);
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof SqueezeBoxPlayerHandler) {
+            String mac = childThing.getConfiguration().as(SqueezeBoxPlayerConfig.class).mac;
+            if (mac != null) {
+                logger.trace("Indexing player thing {} by mac {}", childThing.getUID(), mac);
+                playerHandlers.put(mac, (SqueezeBoxPlayerHandler) childHandler);
             }
         }
     }
 
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        playerHandlers.values().remove(childHandler);
+    }
+
     /**
-     * Adds a listener for player events
+     * Adds a listener for the events of all players
      *
      * @param squeezeBoxPlayerListener
      * @return
@@ -1004,7 +1012,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Removes a listener from player events
+     * Removes a listener from the events of all players
      *
      * @param squeezeBoxPlayerListener
      * @return
@@ -1014,6 +1022,34 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         return squeezeBoxPlayerListeners.remove(squeezeBoxPlayerListener);
     }
 
+    /**
+     * Adds a listener for the events of a single player
+     *
+     * @param mac
+     * @param squeezeBoxPlayerListener
+     * @return
+     */
+    public boolean registerSqueezeBoxPlayerListener(String mac,
+            SqueezeBoxPlayerEventListener squeezeBoxPlayerListener) {
+        logger.trace("Registering player listener for mac {}", mac);
+        return playerEventListeners.computeIfAbsent(mac, key -> new CopyOnWriteArrayList<>())
+                .add(squeezeBoxPlayerListener);
+    }
+
+    /**
+     * Removes a listener from the events of a single player
+     *
+     * @param mac
+     * @param squeezeBoxPlayerListener
+     * @return
+     */
+    public boolean unregisterSqueezeBoxPlayerListener(String mac,
+            SqueezeBoxPlayerEventListener squeezeBoxPlayerListener) {
+        logger.trace("Unregistering player listener for mac {}", mac);
+        List<SqueezeBoxPlayerEventListener> listeners = playerEventListeners.get(mac);
+        return listeners != null && listeners.remove(squeezeBoxPlayerListener);
+    }
+
     /**
      * Removed a player from our known list of players, will populate again if
      * player is seen
@@ -101,6 +101,15 @@ public class TeslaHandler extends BaseThingHandler {
     private static final int EVENT_MAXIMUM_ERRORS_IN_INTERVAL = 10;
     private static final int EVENT_ERROR_INTERVAL_SECONDS = 15;
 
+    // selectors of the values of a streaming event, in the order of EventKeys
+    private static final TeslaChannelSelector[] EVENT_SELECTORS = new TeslaChannelSelector[EventKeys.values().length];
+
+    static {
+        for (EventKeys key : EventKeys.values()) {
+            EVENT_SELECTORS[key.ordinal()] = TeslaChannelSelector.findByRESTID(key.toString());
+        }
+    }
+
     private final Logger logger = LoggerFactory.getLogger(TeslaHandler.class);
 
     // Vehicle state variables
@@ -193,6 +202,11 @@ public class TeslaHandler extends BaseThingHandler {
     public void dispose() {
         logger.trace("Disposing the Tesla handler for {}", getThing().getUID());
 
+        if (stateThrottler != null) {
+            logger.debug("Requests submitted: {}, delayed: {}, rejected: {}", stateThrottler.getSubmittedCount(),
+                    stateThrottler.getDelayedCount(), stateThrottler.getRejectedCount());
+        }
+
         lock.lock();
         try {
             if (fastStateJob != null && !fastStateJob.isCancelled()) {
@@ -552,22 +566,36 @@ public class TeslaHandler extends BaseThingHandler {
 
         try {
             if (request != null && result != null && !"null".equals(result)) {
-                // first, update state objects
+                // first, reformat the response string to a JSON compliant
+                // object for some specific non-JSON compatible requests
+                switch (request) {
+                    case MOBILE_ENABLED_STATE: {
+                        jsonObject = new JsonObject();
+                        jsonObject.addProperty(MOBILE_ENABLED_STATE, result);
+                        break;
+                    }
+                    default: {
+                        jsonObject = parser.parse(result).getAsJsonObject();
+                        break;
+                    }
+                }
+
+                // secondly, update state objects from the parsed tree
                 switch (request) {
                     case DRIVE_STATE: {
-                        driveState = gson.fromJson(result, DriveState.class);
+                        driveState = gson.fromJson(jsonObject, DriveState.class);
                         break;
                     }
                     case GUI_STATE: {
-                        guiState = gson.fromJson(result, GUIState.class);
+                        guiState = gson.fromJson(jsonObject, GUIState.class);
                         break;
                     }
                     case VEHICLE_STATE: {
-                        vehicleState = gson.fromJson(result, VehicleState.class);
+                        vehicleState = gson.fromJson(jsonObject, VehicleState.class);
                         break;
                     }
                     case CHARGE_STATE: {
-                        chargeState = gson.fromJson(result, ChargeState.class);
+                        chargeState = gson.fromJson(jsonObject, ChargeState.class);
                         if (chargeState.charging_state != null && "Charging".equals(chargeState.charging_state)) {
                             updateState(CHANNEL_CHARGE, OnOffType.ON);
                         } else {
@@ -577,21 +605,7 @@ public class TeslaHandler extends BaseThingHandler {
                         break;
                     }
                     case CLIMATE_STATE: {
-                        climateState = gson.fromJson(result, ClimateState.class);
-                        break;
-                    }
-                }
-
-                // secondly, reformat the response string to a JSON compliant
-                // object for some specific non-JSON compatible requests
-                switch (request) {
-                    case MOBILE_ENABLED_STATE: {
-                        jsonObject = new JsonObject();
-                        jsonObject.addProperty(MOBILE_ENABLED_STATE, result);
-                        break;
-                    }
-                    default: {
-                        jsonObject = parser.parse(result).getAsJsonObject();
+                        climateState = gson.fromJson(jsonObject, ClimateState.class);
                         break;
                     }
                 }
@@ -610,15 +624,13 @@ public class TeslaHandler extends BaseThingHandler {
                     Set<Map.Entry<String, JsonElement>> entrySet = jsonObject.entrySet();
 
                     long resultTimeStamp = 0;
-                    for (Map.Entry<String, JsonElement> entry : entrySet) {
-                        if ("timestamp".equals(entry.getKey())) {
-                            resultTimeStamp = Long.valueOf(entry.getValue().getAsString());
-                            if (logger.isTraceEnabled()) {
-                                Date date = new Date(resultTimeStamp);
-                                SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-                                logger.trace("The request result timestamp is {}", dateFormatter.format(date));
-                            }
-                            break;
+                    JsonElement timestamp = jsonObject.get("timestamp");
+                    if (timestamp != null && !timestamp.isJsonNull()) {
+                        resultTimeStamp = Long.valueOf(timestamp.getAsString());
+                        if (logger.isTraceEnabled()) {
+                            Date date = new Date(resultTimeStamp);
+                            SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+                            logger.trace("The request result timestamp is {}", dateFormatter.format(date));
                         }
                     }
 
@@ -631,14 +643,21 @@ public class TeslaHandler extends BaseThingHandler {
                         }
 
                         if (proceed) {
+                            // properties are read and updated once per result
+                            Map<String, String> properties = editProperties();
+                            boolean propertiesChanged = false;
                             for (Map.Entry<String, JsonElement> entry : entrySet) {
+                                TeslaChannelSelector selector = TeslaChannelSelector.findByRESTID(entry.getKey());
+                                if (selector == null) {
+                                    logger.trace("The variable/value pair '{}':'{}' is not (yet) supported",
+                                            entry.getKey(), entry.getValue());
+                                    continue;
+                                }
                                 try {
-                                    TeslaChannelSelector selector = TeslaChannelSelector
-                                            .getValueSelectorFromRESTID(entry.getKey());
                                     if (!selector.isProperty()) {
                                         if (!entry.getValue().isJsonNull()) {
-                                            updateState(selector.getChannelID(), teslaChannelSelectorProxy.getState(
-                                                    entry.getValue().getAsString(), selector, editProperties()));
+                                            updateState(selector.getChannelID(), teslaChannelSelectorProxy
+                                                    .getState(entry.getValue().getAsString(), selector, properties));
                                             if (logger.isTraceEnabled()) {
                                                 logger.trace(
                                                         "The variable/value pair '{}':'{}' is successfully processed",
@@ -649,9 +668,10 @@ public class TeslaHandler extends BaseThingHandler {
                                         }
                                     } else {
                                         if (!entry.getValue().isJsonNull()) {
-                                            Map<String, String> properties = editProperties();
-                                            properties.put(selector.getChannelID(), entry.getValue().getAsString());
-                                            updateProperties(properties);
+                                            String value = entry.getValue().getAsString();
+                                            if (!value.equals(properties.put(selector.getChannelID(), value))) {
+                                                propertiesChanged = true;
+                                            }
                                             if (logger.isTraceEnabled()) {
                                                 logger.trace(
                                                         "The variable/value pair '{}':'{}' is successfully used to set property '{}'",
@@ -659,14 +679,14 @@ public class TeslaHandler extends BaseThingHandler {
                                             }
                                         }
                                     }
-                                } catch (IllegalArgumentException e) {
-                                    logger.trace("The variable/value pair '{}':'{}' is not (yet) supported",
-                                            entry.getKey(), entry.getValue());
                                 } catch (ClassCastException | IllegalStateException e) {
                                     logger.trace("An exception occurred while converting the JSON data : '{}'",
                                             e.getMessage(), e);
                                 }
                             }
+                            if (propertiesChanged) {
+                                updateProperties(properties);
+                            }
                         } else {
                             logger.warn("The result for request '{}' is discarded due to an out of sync timestamp",
                                     request);
@@ -1145,24 +1165,36 @@ public class TeslaHandler extends BaseThingHandler {
                                                 logger.debug("Event Stream : Event stamp is {}",
                                                         dateFormatter.format(new Date(lastTimeStamp)));
                                             }
-                                            for (int i = 0; i < EventKeys.values().length; i++) {
-                                                TeslaChannelSelector selector = TeslaChannelSelector
-                                                        .getValueSelectorFromRESTID((EventKeys.values()[i]).toString());
+                                            // properties are read and updated once per event
+                                            Map<String, String> properties = editProperties();
+                                            boolean propertiesChanged = false;
+                                            for (int i = 0; i < EVENT_SELECTORS.length && i < vals.length; i++) {
+                                                TeslaChannelSelector selector = EVENT_SELECTORS[i];
+                                                if (selector == null) {
+                                                    continue;
+                                                }
                                                 if (!selector.isProperty()) {
                                                     State newState = teslaChannelSelectorProxy.getState(vals[i],
-                                                            selector, editProperties());
+                                                            selector, properties);
                                                     if (newState != null && !"".equals(vals[i])) {
                                                         updateState(selector.getChannelID(), newState);
                                                     } else {
                                                         updateState(selector.getChannelID(), UnDefType.UNDEF);
                                                     }
                                                 } else {
-                                                    Map<String, String> properties = editProperties();
-                                                    properties.put(selector.getChannelID(),
-                                                            (selector.getState(vals[i])).toString());
-                                                    updateProperties(properties);
+                                                    State newState = selector.getState(vals[i]);
+                                                    if (newState != null) {
+                                                        String value = newState.toString();
+                                                        if (!value.equals(properties.put(selector.getChannelID(),
+                                                                value))) {
+                                                            propertiesChanged = true;
+                                                        }
+                                                    }
                                                 }
                                             }
+                                            if (propertiesChanged) {
+                                                updateProperties(properties);
+                                            }
                                         } else {
                                             if (logger.isDebugEnabled()) {
                                                 SimpleDateFormat dateFormatter = new SimpleDateFormat(
@@ -11,7 +11,9 @@ package org.openhab.binding.tesla.internal;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -1110,6 +1112,22 @@ public class TeslaChannelSelectorProxy {
         },
         WHEEL_TYPE("wheel_type", "wheeltype", StringType.class, true);
 
+        private static final Map<String, TeslaChannelSelector> BY_REST_ID;
+        private static final Map<String, TeslaChannelSelector> BY_CHANNEL_ID;
+
+        static {
+            Map<String, TeslaChannelSelector> byRestID = new HashMap<>();
+            Map<String, TeslaChannelSelector> byChannelID = new HashMap<>();
+            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
+                if (c.restID != null) {
+                    byRestID.putIfAbsent(c.restID, c);
+                }
+                byChannelID.putIfAbsent(c.channelID, c);
+            }
+            BY_REST_ID = Collections.unmodifiableMap(byRestID);
+            BY_CHANNEL_ID = Collections.unmodifiableMap(byChannelID);
+        }
+
         private final String restID;
         private final String channelID;
         private Class<? extends Type> typeClass;
@@ -1162,24 +1180,34 @@ public class TeslaChannelSelectorProxy {
 
         public static TeslaChannelSelector getValueSelectorFromChannelID(String valueSelectorText)
                 throws IllegalArgumentException {
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.channelID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = findByChannelID(valueSelectorText);
+            if (c == null) {
+                throw new IllegalArgumentException("Not valid value selector");
             }
-
-            throw new IllegalArgumentException("Not valid value selector");
+            return c;
         }
 
         public static TeslaChannelSelector getValueSelectorFromRESTID(String valueSelectorText)
                 throws IllegalArgumentException {
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.restID != null && c.restID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = findByRESTID(valueSelectorText);
+            if (c == null) {
+                throw new IllegalArgumentException("Not valid value selector");
             }
+            return c;
+        }
+
+        /**
+         * Returns the selector for the given channel ID, or null if there is none
+         */
+        public static TeslaChannelSelector findByChannelID(String channelID) {
+            return channelID == null ? null : BY_CHANNEL_ID.get(channelID);
+        }
 
-            throw new IllegalArgumentException("Not valid value selector");
+        /**
+         * Returns the selector for the given REST API field, or null if the field is not supported
+         */
+        public static TeslaChannelSelector findByRESTID(String restID) {
+            return restID == null ? null : BY_REST_ID.get(restID);
         }
     }
 
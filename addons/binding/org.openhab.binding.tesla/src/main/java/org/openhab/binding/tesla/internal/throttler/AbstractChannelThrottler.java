@@ -8,7 +8,6 @@
  */
 package org.openhab.binding.tesla.internal.throttler;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -18,34 +17,13 @@ import java.util.concurrent.ScheduledExecutorService;
  *
  * @author Karel Goderis - Initial contribution
  */
-abstract class AbstractChannelThrottler implements ChannelThrottler {
+abstract class AbstractChannelThrottler extends AbstractMultiRateChannelThrottler {
 
     protected final Rate totalRate;
-    protected final TimeProvider timeProvider;
-    protected final ScheduledExecutorService scheduler;
-    protected final Map<Object, Rate> channels = new HashMap<>();
 
     protected AbstractChannelThrottler(Rate totalRate, ScheduledExecutorService scheduler, Map<Object, Rate> channels,
             TimeProvider timeProvider) {
+        super(totalRate, scheduler, channels, timeProvider);
         this.totalRate = totalRate;
-        this.scheduler = scheduler;
-        this.channels.putAll(channels);
-        this.timeProvider = timeProvider;
-    }
-
-    protected synchronized long callTime(Rate channel) {
-        long now = timeProvider.getCurrentTimeInMillis();
-        long callTime = totalRate.callTime(now);
-        if (channel != null) {
-            callTime = Math.max(callTime, channel.callTime(now));
-            channel.addCall(callTime);
-        }
-        totalRate.addCall(callTime);
-        return callTime;
-    }
-
-    protected long getThrottleDelay(Object channelKey) {
-        long delay = callTime(channels.get(channelKey)) - timeProvider.getCurrentTimeInMillis();
-        return delay < 0 ? 0 : delay;
     }
 }
@@ -12,27 +12,78 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@link AbstractMultiRateChannelThrottler} is abstract class implementing
  * a throttler with multiple global execution rates, or rate limiters
  *
+ * Tasks are never executed on the thread submitting them and the submitting
+ * thread is never blocked: each task is scheduled on a shared scheduler at the
+ * time the rates allow, and a {@link CompletableFuture} is returned. The number
+ * of pending tasks per channel is limited, tasks exceeding this budget are
+ * rejected.
+ *
  * @author Karel Goderis - Initial contribution
  */
 abstract class AbstractMultiRateChannelThrottler implements ChannelThrottler {
 
+    static final String THREADPOOL_NAME = "tesla";
+
+    private static final Object DEFAULT_CHANNEL = new Object();
+
+    private final Logger logger = LoggerFactory.getLogger(AbstractMultiRateChannelThrottler.class);
+
     protected final TimeProvider timeProvider;
     protected final ScheduledExecutorService scheduler;
     protected final Map<Object, Rate> channels = new HashMap<>();
     protected final ArrayList<Rate> rates = new ArrayList<>();
 
+    private final int maxPendingPerChannel;
+    private final boolean preserveOrder;
+    private final Map<Object, AtomicInteger> pending = new ConcurrentHashMap<>();
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong delayedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private long lastCallTime;
+
     protected AbstractMultiRateChannelThrottler(Rate rate, ScheduledExecutorService scheduler,
             Map<Object, Rate> channels, TimeProvider timeProvider) {
+        this(rate, scheduler, channels, timeProvider, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * @param rate the global execution rate
+     * @param scheduler the scheduler executing the tasks
+     * @param channels the execution rates per channel
+     * @param timeProvider the provider of the current time
+     * @param maxPendingPerChannel the maximum number of tasks waiting for execution per channel
+     * @param preserveOrder true if tasks must be executed in the order they were submitted
+     */
+    protected AbstractMultiRateChannelThrottler(Rate rate, ScheduledExecutorService scheduler,
+            Map<Object, Rate> channels, TimeProvider timeProvider, int maxPendingPerChannel, boolean preserveOrder) {
         this.rates.add(rate);
         this.scheduler = scheduler;
         this.channels.putAll(channels);
         this.timeProvider = timeProvider;
+        this.maxPendingPerChannel = maxPendingPerChannel;
+        this.preserveOrder = preserveOrder;
+    }
+
+    protected static ScheduledExecutorService getDefaultScheduler() {
+        return ThreadPoolManager.getScheduledPool(THREADPOOL_NAME);
     }
 
     public synchronized void addRate(Rate rate) {
@@ -41,7 +92,6 @@ abstract class AbstractMultiRateChannelThrottler implements ChannelThrottler {
 
     protected synchronized long callTime(Rate channel) {
         long maxCallTime = 0;
-        long finalCallTime = 0;
         long now = timeProvider.getCurrentTimeInMillis();
         Iterator<Rate> iterator = rates.iterator();
         while (iterator.hasNext()) {
@@ -49,8 +99,15 @@ abstract class AbstractMultiRateChannelThrottler implements ChannelThrottler {
             maxCallTime = Math.max(maxCallTime, someRate.callTime(now));
         }
 
+        long finalCallTime = maxCallTime;
         if (channel != null) {
             finalCallTime = Math.max(maxCallTime, channel.callTime(now));
+        }
+        if (preserveOrder) {
+            finalCallTime = Math.max(finalCallTime, lastCallTime);
+            lastCallTime = finalCallTime;
+        }
+        if (channel != null) {
             channel.addCall(finalCallTime);
         }
 
@@ -67,4 +124,85 @@ abstract class AbstractMultiRateChannelThrottler implements ChannelThrottler {
         long delay = callTime(channels.get(channelKey)) - timeProvider.getCurrentTimeInMillis();
         return delay < 0 ? 0 : delay;
     }
+
+    @Override
+    public CompletableFuture<Void> submit(Runnable task) {
+        return submit(null, task);
+    }
+
+    @Override
+    public CompletableFuture<Void> submit(Object channelKey, Runnable task) {
+        return submit(channelKey, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Schedules a task for execution as soon as the rates of the throttler and the channel allow
+     *
+     * @param channelKey the channel, or null for the global rates only
+     * @param task the task to execute
+     * @return a future completed with the result of the task, or completed exceptionally with a
+     *         {@link RejectedExecutionException} if the channel has too many pending tasks
+     */
+    public <T> CompletableFuture<T> submit(Object channelKey, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        AtomicInteger budget = pending.computeIfAbsent(channelKey == null ? DEFAULT_CHANNEL : channelKey,
+                key -> new AtomicInteger());
+        if (budget.incrementAndGet() > maxPendingPerChannel) {
+            budget.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            logger.warn("The throttler can not take a task for channel '{}' at this point in time", channelKey);
+            future.completeExceptionally(new RejectedExecutionException("Too many pending tasks"));
+            return future;
+        }
+
+        submittedCount.incrementAndGet();
+        long delay = getThrottleDelay(channelKey);
+        if (delay > 0) {
+            delayedCount.incrementAndGet();
+        }
+        ScheduledFuture<?> job = scheduler.schedule(() -> {
+            budget.decrementAndGet();
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(task.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+        future.whenComplete((result, exception) -> {
+            if (future.isCancelled() && job.cancel(false)) {
+                budget.decrementAndGet();
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    @Override
+    public long getDelayedCount() {
+        return delayedCount.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public int getPendingCount() {
+        int count = 0;
+        for (AtomicInteger budget : pending.values()) {
+            count += budget.get();
+        }
+        return count;
+    }
 }
@@ -8,7 +8,7 @@
  */
 package org.openhab.binding.tesla.internal.throttler;
 
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@link ChannelThrottler} defines the interface for to submit tasks to a
@@ -17,7 +17,27 @@ import java.util.concurrent.Future;
  * @author Karel Goderis - Initial contribution
  */
 public interface ChannelThrottler {
-    Future<?> submit(Runnable task);
+    CompletableFuture<Void> submit(Runnable task);
 
-    Future<?> submit(Object channelKey, Runnable task);
+    CompletableFuture<Void> submit(Object channelKey, Runnable task);
+
+    /**
+     * Returns the number of tasks accepted by the throttler
+     */
+    long getSubmittedCount();
+
+    /**
+     * Returns the number of accepted tasks which could not be executed immediately
+     */
+    long getDelayedCount();
+
+    /**
+     * Returns the number of tasks rejected because too many tasks were pending
+     */
+    long getRejectedCount();
+
+    /**
+     * Returns the number of tasks waiting for execution
+     */
+    int getPendingCount();
 }
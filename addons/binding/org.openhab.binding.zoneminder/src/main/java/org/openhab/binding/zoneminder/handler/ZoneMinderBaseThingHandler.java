@@ -31,6 +31,7 @@ import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.zoneminder.ZoneMinderConstants;
 import org.openhab.binding.zoneminder.internal.DataRefreshPriorityEnum;
+import org.openhab.binding.zoneminder.internal.ZoneMinderMonitorSnapshot;
 import org.openhab.binding.zoneminder.internal.config.ZoneMinderThingConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,6 +72,9 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
 
     private DataRefreshPriorityEnum _refreshPriority = DataRefreshPriorityEnum.SCHEDULED;
 
+    /** Time of the last state received over the event channel */
+    private volatile long lastEventTime = 0;
+
     protected boolean isOnline() {
 
         if (zoneMinderSession == null) {
@@ -160,12 +164,33 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
         return ch.getUID();
     }
 
-    protected abstract void onFetchData();
+    protected abstract void onFetchData(ZoneMinderMonitorSnapshot snapshot);
+
+    /**
+     * Marks that the state of the thing was received over the event channel.
+     */
+    protected void onEventReceived() {
+        lastEventTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns true if the state of the thing was received over the event channel within the given time.
+     *
+     * @param maxAge
+     *            Maximum age in milliseconds
+     */
+    public boolean isUpdatedByEvent(long maxAge) {
+        return (System.currentTimeMillis() - lastEventTime) < maxAge;
+    }
 
     /**
      * Method to Refresh Thing Handler.
+     *
+     * @param snapshot
+     *            Monitor data of the current refresh cycle, shared by all things of the bridge
      */
-    public final synchronized void refreshThing(IZoneMinderSession session, DataRefreshPriorityEnum refreshPriority) {
+    public final synchronized void refreshThing(IZoneMinderSession session, DataRefreshPriorityEnum refreshPriority,
+            ZoneMinderMonitorSnapshot snapshot) {
 
         if ((refreshPriority != getRefreshPriority()) && (!isConnected())) {
             return;
@@ -183,7 +208,7 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
                 logger.debug("{}: refreshThing(): Bridge '{}' Found for Thing '{}'!", getLogIdentifier(),
                         getThing().getUID(), this.getThing().getUID());
 
-                onFetchData();
+                onFetchData(snapshot);
             }
         }
 
@@ -42,6 +42,7 @@ import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.zoneminder.ZoneMinderConstants;
 import org.openhab.binding.zoneminder.ZoneMinderProperties;
 import org.openhab.binding.zoneminder.internal.DataRefreshPriorityEnum;
+import org.openhab.binding.zoneminder.internal.ZoneMinderMonitorSnapshot;
 import org.openhab.binding.zoneminder.internal.config.ZoneMinderBridgeServerConfig;
 import org.openhab.binding.zoneminder.internal.discovery.ZoneMinderDiscoveryService;
 import org.osgi.framework.ServiceRegistration;
@@ -88,6 +89,9 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
     private int refreshFrequency = 0;
     private int refreshCycleCount = 0;
 
+    /** Number of REST calls made in the last refresh cycle */
+    private int restCallsLastCycle = 0;
+
     /** Connection status for the bridge. */
     private boolean connected = false;
     private ThingStatus curBridgeStatus = ThingStatus.UNKNOWN;
@@ -181,6 +185,8 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
 
     private Runnable refreshPriorityDataRunnable = () -> {
         try {
+            ZoneMinderMonitorSnapshot snapshot = new ZoneMinderMonitorSnapshot(zoneMinderSession);
+
             // Make sure priority updates is done
             for (Thing thing : getThing().getThings()) {
                 try {
@@ -193,7 +199,8 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
                             if (thingHandler.getRefreshPriority() == DataRefreshPriorityEnum.HIGH_PRIORITY) {
                                 logger.debug("[MONITOR-{}]: RefreshPriority is High Priority",
                                         thingHandler.getZoneMinderId());
-                                thingHandler.refreshThing(zoneMinderSession, DataRefreshPriorityEnum.HIGH_PRIORITY);
+                                thingHandler.refreshThing(zoneMinderSession, DataRefreshPriorityEnum.HIGH_PRIORITY,
+                                        snapshot);
                             }
                         } else {
                             logger.debug(
@@ -212,6 +219,10 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
                             thing.getUID(), ex);
                 }
             }
+
+            if (snapshot.getRestCalls() > 0) {
+                logger.debug("{}: Priority refresh used {} REST calls", getLogIdentifier(), snapshot.getRestCalls());
+            }
         } catch (Exception exception) {
             logger.error("[MONITOR]: monitorRunnable::run(): Exception: ", exception);
         }
@@ -400,6 +411,8 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
 
         List<Channel> channels = getThing().getChannels();
         List<Thing> things = getThing().getThings();
+        ZoneMinderMonitorSnapshot snapshot = new ZoneMinderMonitorSnapshot(session);
+        int skippedMonitors = 0;
 
         IZoneMinderServer zoneMinderServerProxy = ZoneMinderFactory.getServerProxy(session);
         if (zoneMinderServerProxy == null) {
@@ -416,6 +429,7 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
             IZoneMinderHostLoad hostLoad = null;
             try {
                 hostLoad = zoneMinderServerProxy.getHostCpuLoad();
+                snapshot.countRestCall();
                 logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
                         zoneMinderServerProxy.getHttpUrl(), zoneMinderServerProxy.getHttpResponseCode(),
                         zoneMinderServerProxy.getHttpResponseMessage());
@@ -440,6 +454,7 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
                 IZoneMinderDiskUsage diskUsage = null;
                 try {
                     diskUsage = zoneMinderServerProxy.getHostDiskUsage();
+                    snapshot.countRestCall();
                     logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
                             zoneMinderServerProxy.getHttpUrl(), zoneMinderServerProxy.getHttpResponseCode(),
                             zoneMinderServerProxy.getHttpResponseMessage());
@@ -484,7 +499,14 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
                     Thing thingMonitor = thing;
                     ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
 
-                    thingHandler.refreshThing(session, DataRefreshPriorityEnum.SCHEDULED);
+                    // The state of monitors with recent events is already known from the event channel
+                    if (thingHandler.isUpdatedByEvent(refreshFrequency * 1000L)) {
+                        logger.debug("{}: Skipping refresh of monitor {}, state received by event",
+                                getLogIdentifier(), thingHandler.getZoneMinderId());
+                        skippedMonitors++;
+                    } else {
+                        thingHandler.refreshThing(session, DataRefreshPriorityEnum.SCHEDULED, snapshot);
+                    }
                 }
 
             } catch (NullPointerException ex) {
@@ -501,6 +523,16 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
             }
         }
 
+        restCallsLastCycle = snapshot.getRestCalls();
+        logger.debug("{}: Refresh cycle used {} REST calls ({} monitors skipped)", getLogIdentifier(),
+                restCallsLastCycle, skippedMonitors);
+    }
+
+    /**
+     * Returns the number of REST calls made to the ZoneMinder Server in the last refresh cycle.
+     */
+    public int getRestCallsLastCycle() {
+        return restCallsLastCycle;
     }
 
     /**
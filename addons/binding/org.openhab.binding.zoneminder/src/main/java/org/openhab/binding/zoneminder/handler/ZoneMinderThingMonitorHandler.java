@@ -33,6 +33,7 @@ import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.zoneminder.ZoneMinderConstants;
 import org.openhab.binding.zoneminder.ZoneMinderProperties;
 import org.openhab.binding.zoneminder.internal.DataRefreshPriorityEnum;
+import org.openhab.binding.zoneminder.internal.ZoneMinderMonitorSnapshot;
 import org.openhab.binding.zoneminder.internal.config.ZoneMinderThingMonitorConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -336,6 +337,8 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
             Channel channel = this.getThing().getChannel(ZoneMinderConstants.CHANNEL_MONITOR_DETAILED_STATUS);
             Channel chEventCause = this.getThing().getChannel(ZoneMinderConstants.CHANNEL_MONITOR_EVENT_CAUSE);
 
+            onEventReceived();
+
             // Set Current Event to actual event
             if (event.getState()) {
                 startPriorityRefresh();
@@ -722,7 +725,7 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
     }
 
     @Override
-    protected void onFetchData() {
+    protected void onFetchData(ZoneMinderMonitorSnapshot snapshot) {
 
         IZoneMinderSession session = null;
 
@@ -735,83 +738,97 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
             IZoneMinderDaemonStatus analysisDaemon = null;
             IZoneMinderDaemonStatus frameDaemon = null;
 
-            data = monitorProxy.getMonitorData();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
-
-            captureDaemon = monitorProxy.getCaptureDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
-
-            analysisDaemon = monitorProxy.getAnalysisDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
-
-            frameDaemon = monitorProxy.getFrameDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
+            // Monitor data is taken from the monitors list fetched once per cycle by the bridge
+            data = snapshot.getMonitorData(getZoneMinderId());
+            boolean dataOk = (data != null);
+            if (data == null) {
+                data = monitorProxy.getMonitorData();
+                snapshot.countRestCall();
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+                dataOk = (data.getHttpResponseCode() == 200);
+            }
 
-            if ((data.getHttpResponseCode() != 200) || (captureDaemon.getHttpResponseCode() != 200)
-                    || (analysisDaemon.getHttpResponseCode() != 200) || (frameDaemon.getHttpResponseCode() != 200)) {
+            if (!dataOk) {
+                logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
+                        data.getHttpResponseCode(), data.getHttpResponseMessage());
 
-                if (data.getHttpResponseCode() != 200) {
-                    logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
-                            data.getHttpResponseCode(), data.getHttpResponseMessage());
+                channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
+                channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
+                channelEnabled = false;
+                channelEventCause = "";
+            } else if (!isConnected()) {
+                channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
+                channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
+                channelEnabled = false;
+                channelEventCause = "";
+                channelDaemonCapture = false;
+                channelDaemonAnalysis = false;
+                channelDaemonFrame = false;
+            } else {
+                channelFunction = data.getFunction();
+                channelEnabled = data.getEnabled();
 
-                    channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
-                    channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
-                    channelEnabled = false;
-                    channelEventCause = "";
-                }
-                if (captureDaemon.getHttpResponseCode() != 200) {
+                if (channelFunction == ZoneMinderMonitorFunctionEnum.NONE) {
+                    // ZoneMinder does not run any daemons for a monitor without function
                     channelDaemonCapture = false;
-                    logger.warn("{}: HTTP Response CaptureDaemon: Code='{}', Message'{}'", getLogIdentifier(),
-                            captureDaemon.getHttpResponseCode(), captureDaemon.getHttpResponseMessage());
-
-                }
-                if (analysisDaemon.getHttpResponseCode() != 200) {
                     channelDaemonAnalysis = false;
-
-                    logger.warn("{}: HTTP Response AnalysisDaemon: Code='{}', Message='{}'", getLogIdentifier(),
-                            analysisDaemon.getHttpResponseCode(), analysisDaemon.getHttpResponseMessage());
-                }
-                if (frameDaemon.getHttpResponseCode() != 200) {
                     channelDaemonFrame = false;
-                    logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
-                            frameDaemon.getHttpResponseCode(), frameDaemon.getHttpResponseMessage());
-                }
+                } else {
+                    captureDaemon = monitorProxy.getCaptureDaemonStatus();
+                    snapshot.countRestCall();
+                    logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                            monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                            monitorProxy.getHttpResponseMessage());
 
-            } else {
-                if (isConnected()) {
-                    channelMonitorStatus = monitorProxy.getMonitorDetailedStatus();
+                    analysisDaemon = monitorProxy.getAnalysisDaemonStatus();
+                    snapshot.countRestCall();
+                    logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                            monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                            monitorProxy.getHttpResponseMessage());
+
+                    frameDaemon = monitorProxy.getFrameDaemonStatus();
+                    snapshot.countRestCall();
                     logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
                             monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
                             monitorProxy.getHttpResponseMessage());
 
-                    channelFunction = data.getFunction();
-                    channelEnabled = data.getEnabled();
-                    IZoneMinderEventData event = monitorProxy.getLastEvent();
-                    if (event != null) {
-                        channelEventCause = event.getCause();
+                    if (captureDaemon.getHttpResponseCode() != 200) {
+                        channelDaemonCapture = false;
+                        logger.warn("{}: HTTP Response CaptureDaemon: Code='{}', Message'{}'", getLogIdentifier(),
+                                captureDaemon.getHttpResponseCode(), captureDaemon.getHttpResponseMessage());
+                    } else {
+                        channelDaemonCapture = captureDaemon.getStatus();
+                    }
+                    if (analysisDaemon.getHttpResponseCode() != 200) {
+                        channelDaemonAnalysis = false;
+                        logger.warn("{}: HTTP Response AnalysisDaemon: Code='{}', Message='{}'", getLogIdentifier(),
+                                analysisDaemon.getHttpResponseCode(), analysisDaemon.getHttpResponseMessage());
+                    } else {
+                        channelDaemonAnalysis = analysisDaemon.getStatus();
+                    }
+                    if (frameDaemon.getHttpResponseCode() != 200) {
+                        channelDaemonFrame = false;
+                        logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
+                                frameDaemon.getHttpResponseCode(), frameDaemon.getHttpResponseMessage());
                     } else {
-                        channelEventCause = "";
+                        channelDaemonFrame = frameDaemon.getStatus();
                     }
+                }
 
-                    channelDaemonCapture = captureDaemon.getStatus();
-                    channelDaemonAnalysis = analysisDaemon.getStatus();
-                    channelDaemonFrame = frameDaemon.getStatus();
+                channelMonitorStatus = monitorProxy.getMonitorDetailedStatus();
+                snapshot.countRestCall();
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+
+                IZoneMinderEventData event = monitorProxy.getLastEvent();
+                snapshot.countRestCall();
+                if (event != null) {
+                    channelEventCause = event.getCause();
                 } else {
-                    channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
-                    channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
-                    channelEnabled = false;
                     channelEventCause = "";
-                    channelDaemonCapture = false;
-                    channelDaemonAnalysis = false;
-                    channelDaemonFrame = false;
                 }
             }
         } finally {
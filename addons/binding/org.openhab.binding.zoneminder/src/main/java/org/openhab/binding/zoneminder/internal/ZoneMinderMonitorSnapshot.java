@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import name.eskildsen.zoneminder.IZoneMinderMonitorData;
+import name.eskildsen.zoneminder.IZoneMinderServer;
+import name.eskildsen.zoneminder.IZoneMinderSession;
+import name.eskildsen.zoneminder.ZoneMinderFactory;
+
+/**
+ * Data of all monitors of a ZoneMinder Server, fetched with a single call to the monitors list when it is first
+ * needed in a refresh cycle. The snapshot also counts the REST calls made during the cycle.
+ *
+ * @author agent - Initial contribution
+ */
+public class ZoneMinderMonitorSnapshot {
+
+    private final IZoneMinderSession session;
+    private final AtomicInteger restCalls = new AtomicInteger();
+    private Map<String, IZoneMinderMonitorData> monitors = null;
+
+    public ZoneMinderMonitorSnapshot(IZoneMinderSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Returns the data of a monitor, the monitors list is fetched on the first call.
+     *
+     * @param monitorId Id of the monitor in ZoneMinder
+     * @return the monitor data or null if the monitor was not part of the list
+     */
+    public synchronized IZoneMinderMonitorData getMonitorData(String monitorId) {
+        if (monitors == null) {
+            monitors = new HashMap<>();
+            IZoneMinderServer serverProxy = ZoneMinderFactory.getServerProxy(session);
+            if (serverProxy != null) {
+                countRestCall();
+                List<IZoneMinderMonitorData> list = serverProxy.getMonitors();
+                // The entries of the list carry no response code of their own
+                if ((list != null) && (serverProxy.getHttpResponseCode() == 200)) {
+                    for (IZoneMinderMonitorData data : list) {
+                        if ((data != null) && (data.getId() != null)) {
+                            monitors.put(data.getId(), data);
+                        }
+                    }
+                }
+            }
+        }
+        return monitors.get(monitorId);
+    }
+
+    /**
+     * Counts a REST call made to the ZoneMinder Server in this refresh cycle.
+     */
+    public void countRestCall() {
+        restCalls.incrementAndGet();
+    }
+
+    public int getRestCalls() {
+        return restCalls.get();
+    }
+}
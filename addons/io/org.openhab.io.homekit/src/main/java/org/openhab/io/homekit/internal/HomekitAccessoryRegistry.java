@@ -8,14 +8,18 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.storage.Storage;
 import org.openhab.io.homekit.internal.accessories.GroupedAccessory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,49 +31,103 @@ import com.beowulfe.hap.HomekitRoot;
  * Stores the created HomekitAccessories. GroupedAccessories are also held here
  * in a pre-created pending state until all required characteristics are found.
  *
+ * Every change of the accessories published by the bridge makes the iOS clients
+ * resync, so changes are collected and published together once no further change
+ * arrived for {@link #PUBLISH_DELAY_MS}, followed by a single increment of the
+ * configuration number. Accessories created before the bridge is started are added without
+ * any reset; once started, the HAP bridge resets all client connections on every added or
+ * removed accessory, as it offers no way to apply several changes at once.
+ *
  * @author Andy Lintner
  */
 class HomekitAccessoryRegistry {
 
+    private static final long PUBLISH_DELAY_MS = 1000;
+    private static final String CONFIGURATION_INDEX_KEY = "configurationIndex";
+
     private HomekitRoot bridge;
-    private final List<HomekitAccessory> createdAccessories = new LinkedList<>();
-    private final Set<Integer> createdIds = new HashSet<>();
+    private final Map<Integer, HomekitAccessory> createdAccessories = new LinkedHashMap<>();
     private final Map<String, GroupedAccessory> pendingGroupedAccessories = new HashMap<>();
-    private final List<HomekitTaggedItem> pendingCharacteristics = new LinkedList<>();
+    private final Map<String, HomekitTaggedItem> pendingCharacteristics = new HashMap<>();
+    private final Map<String, List<String>> pendingCharacteristicsByGroup = new HashMap<>();
+
+    private final Map<Integer, HomekitAccessory> unpublishedAdditions = new LinkedHashMap<>();
+    private final Map<Integer, HomekitAccessory> unpublishedRemovals = new LinkedHashMap<>();
+    private ScheduledFuture<?> publishJob;
+    private Storage<String> storage;
+    private int configurationIndex = 1;
 
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("homekit");
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryRegistry.class);
 
-    public void remove(HomekitTaggedItem taggedItem) {
-        Iterator<HomekitAccessory> i = createdAccessories.iterator();
-        while (i.hasNext()) {
-            HomekitAccessory accessory = i.next();
-            if (accessory.getId() == taggedItem.getId()) {
-                logger.debug("Removed accessory {}", accessory.getId());
-                bridge.removeAccessory(accessory);
-                i.remove();
+    public synchronized void remove(HomekitTaggedItem taggedItem) {
+        removePendingCharacteristic(taggedItem.getItem().getName());
+        HomekitAccessory accessory = createdAccessories.remove(taggedItem.getId());
+        if (accessory != null) {
+            logger.debug("Removed accessory {}", accessory.getId());
+            if (unpublishedAdditions.remove(accessory.getId()) == null) {
+                unpublishedRemovals.put(accessory.getId(), accessory);
             }
+            schedulePublish();
         }
     }
 
     public synchronized void clear() {
-        while (!createdAccessories.isEmpty()) {
-            bridge.removeAccessory(createdAccessories.remove(0));
+        cancelPublish();
+        if (bridge != null) {
+            List<HomekitAccessory> removals = new ArrayList<>(unpublishedRemovals.values());
+            for (HomekitAccessory accessory : createdAccessories.values()) {
+                if (!unpublishedAdditions.containsKey(accessory.getId())) {
+                    removals.add(accessory);
+                }
+            }
+            applyToBridge(removals, new ArrayList<>());
         }
-        createdIds.clear();
+        createdAccessories.clear();
+        unpublishedAdditions.clear();
+        unpublishedRemovals.clear();
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
+        cancelPublish();
+        unpublishedAdditions.clear();
+        unpublishedRemovals.clear();
         this.bridge = bridge;
-        createdAccessories.forEach(accessory -> bridge.addAccessory(accessory));
+        if (bridge != null) {
+            createdAccessories.values().forEach(accessory -> bridge.addAccessory(accessory));
+            updateConfigurationIndex(false);
+        }
+    }
+
+    /**
+     * Sets the storage used to persist the configuration number across restarts
+     */
+    public synchronized void setStorage(Storage<String> storage) {
+        this.storage = storage;
+        if (storage != null) {
+            String value = storage.get(CONFIGURATION_INDEX_KEY);
+            if (value != null) {
+                try {
+                    configurationIndex = Math.max(1, Integer.parseInt(value));
+                } catch (NumberFormatException e) {
+                    logger.debug("Invalid stored configuration index {}", value);
+                }
+            }
+        }
     }
 
     public synchronized void addRootDevice(HomekitAccessory accessory) {
         if (accessory instanceof GroupedAccessory) {
             GroupedAccessory groupedAccessory = (GroupedAccessory) accessory;
-            pendingGroupedAccessories.put(groupedAccessory.getGroupName(), groupedAccessory);
-            for (HomekitTaggedItem characteristic : pendingCharacteristics) {
-                if (characteristic.getItem().getGroupNames().contains(groupedAccessory.getGroupName())) {
-                    addCharacteristicToGroup(groupedAccessory.getGroupName(), characteristic);
+            String groupName = groupedAccessory.getGroupName();
+            pendingGroupedAccessories.put(groupName, groupedAccessory);
+            List<String> characteristics = pendingCharacteristicsByGroup.get(groupName);
+            if (characteristics != null) {
+                for (String itemName : new ArrayList<>(characteristics)) {
+                    HomekitTaggedItem characteristic = removePendingCharacteristic(itemName);
+                    if (characteristic != null && pendingGroupedAccessories.containsKey(groupName)) {
+                        addCharacteristicToGroup(groupName, characteristic);
+                    }
                 }
             }
         } else {
@@ -85,8 +143,29 @@ class HomekitAccessoryRegistry {
                 return;
             }
         }
-        pendingCharacteristics.add(item);
-        logger.debug("Stored {} until group is ready", item.getItem().getName());
+        String itemName = item.getItem().getName();
+        removePendingCharacteristic(itemName);
+        pendingCharacteristics.put(itemName, item);
+        for (String group : item.getItem().getGroupNames()) {
+            pendingCharacteristicsByGroup.computeIfAbsent(group, g -> new ArrayList<>()).add(itemName);
+        }
+        logger.debug("Stored {} until group is ready", itemName);
+    }
+
+    private HomekitTaggedItem removePendingCharacteristic(String itemName) {
+        HomekitTaggedItem item = pendingCharacteristics.remove(itemName);
+        if (item != null) {
+            for (String group : item.getItem().getGroupNames()) {
+                List<String> characteristics = pendingCharacteristicsByGroup.get(group);
+                if (characteristics != null) {
+                    characteristics.remove(itemName);
+                    if (characteristics.isEmpty()) {
+                        pendingCharacteristicsByGroup.remove(group);
+                    }
+                }
+            }
+        }
+        return item;
     }
 
     private void addCharacteristicToGroup(String group, HomekitTaggedItem item) {
@@ -99,12 +178,72 @@ class HomekitAccessoryRegistry {
     }
 
     private void doAddDevice(HomekitAccessory accessory) {
-        createdAccessories.add(accessory);
-        createdIds.add(accessory.getId());
-        if (bridge != null) {
-            bridge.addAccessory(accessory);
+        HomekitAccessory previous = createdAccessories.put(accessory.getId(), accessory);
+        if (previous != null && unpublishedAdditions.remove(previous.getId()) == null) {
+            unpublishedRemovals.put(previous.getId(), previous);
         }
+        unpublishedAdditions.put(accessory.getId(), accessory);
+        schedulePublish();
         logger.debug("Added accessory {}", accessory.getId());
     }
 
+    private void schedulePublish() {
+        if (bridge == null) {
+            // accessories are published when the bridge is set
+            unpublishedAdditions.clear();
+            unpublishedRemovals.clear();
+            return;
+        }
+        cancelPublish();
+        publishJob = scheduler.schedule(this::publish, PUBLISH_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelPublish() {
+        if (publishJob != null) {
+            publishJob.cancel(false);
+            publishJob = null;
+        }
+    }
+
+    /**
+     * Applies all collected changes to the bridge and bumps the configuration number once
+     */
+    synchronized void publish() {
+        publishJob = null;
+        if (bridge == null || (unpublishedAdditions.isEmpty() && unpublishedRemovals.isEmpty())) {
+            return;
+        }
+        logger.debug("Publishing {} added and {} removed accessories", unpublishedAdditions.size(),
+                unpublishedRemovals.size());
+        applyToBridge(new ArrayList<>(unpublishedRemovals.values()), new ArrayList<>(unpublishedAdditions.values()));
+        unpublishedRemovals.clear();
+        unpublishedAdditions.clear();
+        updateConfigurationIndex(true);
+    }
+
+    /**
+     * Removes and adds the accessories through the bridge
+     */
+    private void applyToBridge(List<HomekitAccessory> removals, List<HomekitAccessory> additions) {
+        removals.forEach(accessory -> bridge.removeAccessory(accessory));
+        additions.forEach(accessory -> bridge.addAccessory(accessory));
+    }
+
+    private void updateConfigurationIndex(boolean increment) {
+        if (increment) {
+            configurationIndex = configurationIndex == Integer.MAX_VALUE ? 1 : configurationIndex + 1;
+            if (storage != null) {
+                storage.put(CONFIGURATION_INDEX_KEY, Integer.toString(configurationIndex));
+            }
+        }
+        try {
+            bridge.setConfigurationIndex(configurationIndex);
+        } catch (IOException e) {
+            logger.warn("Could not update the configuration number: {}", e.getMessage());
+        }
+    }
+
+    public synchronized int getAccessoryCount() {
+        return createdAccessories.size();
+    }
 }
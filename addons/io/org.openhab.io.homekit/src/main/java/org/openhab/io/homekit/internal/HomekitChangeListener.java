@@ -13,6 +13,7 @@ import java.util.Collection;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.ItemRegistry;
 import org.eclipse.smarthome.core.items.ItemRegistryChangeListener;
+import org.eclipse.smarthome.core.storage.Storage;
 import org.openhab.io.homekit.internal.accessories.HomekitAccessoryFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,7 +61,9 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     @Override
-    public void updated(Item oldElement, Item element) {
+    public synchronized void updated(Item oldElement, Item element) {
+        // the registry replaces the item instance, so the accessory has to be re-created to follow the new one; the
+        // accessory registry publishes the removal and addition of the same accessory together
         removed(oldElement);
         added(element);
     }
@@ -73,10 +76,17 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         accessoryRegistry.setBridge(bridge);
     }
 
+    public synchronized void setStorage(Storage<String> storage) {
+        accessoryRegistry.setStorage(storage);
+    }
+
     public synchronized void setItemRegistry(ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
         itemRegistry.addRegistryChangeListener(this);
+        long start = System.currentTimeMillis();
         itemRegistry.getAll().forEach(item -> added(item));
+        logger.debug("Created {} homekit accessories in {}ms", accessoryRegistry.getAccessoryCount(),
+                System.currentTimeMillis() - start);
     }
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
@@ -97,7 +97,9 @@ public class HomekitImpl implements Homekit {
         homekit = new HomekitServer(settings.getNetworkInterface(), settings.getPort());
         bridge = homekit.createBridge(new HomekitAuthInfoImpl(storageService, settings.getPin()), settings.getName(),
                 settings.getManufacturer(), settings.getModel(), settings.getSerialNumber());
-        bridge.start();
+        // add the accessories before starting, so that the bridge does not reset its connections for each of them
+        changeListener.setStorage(storageService.getStorage("homekit"));
         changeListener.setBridge(bridge);
+        bridge.start();
     }
 }
@@ -0,0 +1,353 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang.ArrayUtils;
+import org.eclipse.smarthome.core.items.GenericItem;
+import org.eclipse.smarthome.core.items.Item;
+import org.eclipse.smarthome.core.items.ItemRegistry;
+import org.eclipse.smarthome.core.items.ItemRegistryChangeListener;
+import org.eclipse.smarthome.core.items.StateChangeListener;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.HSBType;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.types.State;
+import org.openhab.io.hueemulation.internal.api.HueDevice;
+import org.openhab.io.hueemulation.internal.api.HueState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Maintains the Hue devices exposed by the emulation. The index follows item registry changes and
+ * item state changes, and keeps the serialized JSON of every light until the light changes, so that
+ * polling clients can be served without rebuilding the device list or blocking each other.
+ *
+ * @author agent - Initial Contribution
+ *
+ */
+public class HueDeviceIndex implements ItemRegistryChangeListener, StateChangeListener {
+    private final Logger logger = LoggerFactory.getLogger(HueDeviceIndex.class);
+
+    private static final String[] SUPPORTED_TAGS = new String[] { "Switchable", "Lighting" };
+
+    private final Gson gson;
+    private final File itemFile;
+    private ItemRegistry itemRegistry;
+
+    // deviceMap maps a Hue numeric id to a Item Name, ordered by that id
+    private final NavigableMap<Integer, String> deviceMap = new ConcurrentSkipListMap<>();
+    private final Map<String, Integer> idsByItemName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> lightJson = new ConcurrentHashMap<>();
+    private volatile String lightsJson;
+
+    // incremented on every invalidation, cached JSON is only stored if nothing changed while it was created
+    private long generation;
+    private final Object cacheLock = new Object();
+
+    public HueDeviceIndex(Gson gson, File itemFile) {
+        this.gson = gson;
+        this.itemFile = itemFile;
+    }
+
+    /**
+     * Loads the persisted id assignments, so that devices keep their ids across restarts
+     */
+    public synchronized void load() throws IOException {
+        if (itemFile.exists()) {
+            JsonReader reader = null;
+            try {
+                reader = new JsonReader(new FileReader(itemFile));
+                Map<Integer, String> tmpMap = gson.fromJson(reader, new TypeToken<Map<Integer, String>>() {
+                }.getType());
+                if (tmpMap != null) {
+                    deviceMap.putAll(tmpMap);
+                    for (Map.Entry<Integer, String> entry : tmpMap.entrySet()) {
+                        idsByItemName.put(entry.getValue(), entry.getKey());
+                    }
+                }
+            } finally {
+                IOUtils.closeQuietly(reader);
+            }
+        }
+    }
+
+    /**
+     * Starts following the given item registry and syncs the index with all its items
+     */
+    public synchronized void start(ItemRegistry itemRegistry) {
+        this.itemRegistry = itemRegistry;
+        itemRegistry.addRegistryChangeListener(this);
+        allItemsChanged(null);
+    }
+
+    public synchronized void stop() {
+        if (itemRegistry != null) {
+            itemRegistry.removeRegistryChangeListener(this);
+            for (String itemName : deviceMap.values()) {
+                unlisten(itemRegistry.get(itemName));
+            }
+            itemRegistry = null;
+        }
+        invalidateAll();
+    }
+
+    /**
+     * Returns the item name of the device with the given id or null if not found
+     */
+    public String getItemName(Integer id) {
+        return deviceMap.get(id);
+    }
+
+    /**
+     * Returns the ids of all devices in ascending order
+     */
+    public Collection<Integer> getIds() {
+        return deviceMap.keySet();
+    }
+
+    /**
+     * Returns the JSON of the light with the given id or null if not found
+     */
+    public String getLightJson(Integer id) {
+        String json = lightJson.get(id);
+        if (json == null) {
+            long stamp = getGeneration();
+            String itemName = deviceMap.get(id);
+            ItemRegistry registry = itemRegistry;
+            Item item = itemName != null && registry != null ? registry.get(itemName) : null;
+            if (item == null) {
+                return null;
+            }
+            json = gson.toJson(itemToDevice(item, id));
+            synchronized (cacheLock) {
+                if (stamp == generation) {
+                    lightJson.put(id, json);
+                }
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Returns the JSON object of all lights, keyed by their id
+     */
+    public String getLightsJson() {
+        String json = lightsJson;
+        if (json == null) {
+            long stamp = getGeneration();
+            StringBuilder builder = new StringBuilder("{");
+            for (Integer id : deviceMap.keySet()) {
+                String light = getLightJson(id);
+                if (light != null) {
+                    if (builder.length() > 1) {
+                        builder.append(',');
+                    }
+                    builder.append('"').append(id).append("\":").append(light);
+                }
+            }
+            json = builder.append('}').toString();
+            synchronized (cacheLock) {
+                if (stamp == generation) {
+                    lightsJson = json;
+                }
+            }
+        }
+        return json;
+    }
+
+    @Override
+    public synchronized void added(Item item) {
+        if (isSupported(item) && addDevice(item)) {
+            persist();
+        }
+    }
+
+    /**
+     * Adds the item to the index
+     *
+     * @return true if a new id has been assigned to the item
+     */
+    private boolean addDevice(Item item) {
+        boolean modified = false;
+        Integer id = idsByItemName.get(item.getName());
+        if (id == null) {
+            // hue devices are assigned a numeric number starting with 1, if a device is
+            // removed that number is not used again. Not sure how high this id can get
+            // not worrying about it here
+            id = deviceMap.isEmpty() ? 1 : deviceMap.lastKey().intValue() + 1;
+            deviceMap.put(id, item.getName());
+            idsByItemName.put(item.getName(), id);
+            modified = true;
+        }
+        listen(item);
+        invalidate(id);
+        return modified;
+    }
+
+    @Override
+    public synchronized void removed(Item item) {
+        unlisten(item);
+        Integer id = idsByItemName.remove(item.getName());
+        if (id != null) {
+            deviceMap.remove(id);
+            invalidate(id);
+            persist();
+        }
+    }
+
+    @Override
+    public synchronized void updated(Item oldItem, Item item) {
+        unlisten(oldItem);
+        if (isSupported(item)) {
+            added(item);
+        } else {
+            removed(item);
+        }
+    }
+
+    @Override
+    public synchronized void allItemsChanged(Collection<String> oldItemNames) {
+        if (itemRegistry == null) {
+            return;
+        }
+        Set<String> taggedItemNames = new HashSet<>();
+        boolean modified = false;
+        for (Item item : itemRegistry.getItems()) {
+            if (isSupported(item)) {
+                taggedItemNames.add(item.getName());
+                modified |= addDevice(item);
+            }
+        }
+        // clean up removed entries
+        for (String itemName : deviceMap.values()) {
+            if (!taggedItemNames.contains(itemName)) {
+                deviceMap.remove(idsByItemName.remove(itemName));
+                modified = true;
+            }
+        }
+        if (modified) {
+            persist();
+        }
+        invalidateAll();
+    }
+
+    @Override
+    public void stateChanged(Item item, State oldState, State newState) {
+        Integer id = idsByItemName.get(item.getName());
+        if (id != null) {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public void stateUpdated(Item item, State state) {
+        // only changes are relevant for the cached JSON
+    }
+
+    private boolean isSupported(Item item) {
+        for (String tag : item.getTags()) {
+            if (ArrayUtils.contains(SUPPORTED_TAGS, tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void listen(Item item) {
+        if (item instanceof GenericItem) {
+            ((GenericItem) item).addStateChangeListener(this);
+        }
+    }
+
+    private void unlisten(Item item) {
+        if (item instanceof GenericItem) {
+            ((GenericItem) item).removeStateChangeListener(this);
+        }
+    }
+
+    private long getGeneration() {
+        synchronized (cacheLock) {
+            return generation;
+        }
+    }
+
+    private void invalidate(Integer id) {
+        synchronized (cacheLock) {
+            generation++;
+            lightJson.remove(id);
+            lightsJson = null;
+        }
+    }
+
+    private void invalidateAll() {
+        synchronized (cacheLock) {
+            generation++;
+            lightJson.clear();
+            lightsJson = null;
+        }
+    }
+
+    /**
+     * persists the id assignments to disk
+     */
+    private void persist() {
+        JsonWriter writer = null;
+        try {
+            itemFile.getParentFile().mkdirs();
+            writer = new JsonWriter(new FileWriter(itemFile));
+            gson.toJson(deviceMap, new TypeToken<Map<Integer, String>>() {
+            }.getType(), writer);
+        } catch (IOException e) {
+            logger.error("Could not persist item cache", e);
+        } finally {
+            IOUtils.closeQuietly(writer);
+        }
+    }
+
+    /**
+     * Converts an Item to a HueDevice
+     */
+    private HueDevice itemToDevice(Item item, Integer key) {
+        State itemState = item.getState();
+        HueState hueState;
+        if (itemState instanceof HSBType) {
+            HSBType color = (HSBType) itemState;
+            hueState = new HueState(color);
+        } else if (itemState instanceof DecimalType) {
+            short bri = (short) ((((DecimalType) itemState).intValue() * 255) / 100);
+            hueState = new HueState(bri);
+        } else if (itemState instanceof OnOffType) {
+            short bri = (short) (((OnOffType) itemState) == OnOffType.ON ? 255 : 0);
+            hueState = new HueState(bri);
+        } else {
+            hueState = new HueState((short) 0);
+        }
+
+        HueDevice d = new HueDevice(hueState, item.getLabel(), key);
+        return d;
+    }
+}
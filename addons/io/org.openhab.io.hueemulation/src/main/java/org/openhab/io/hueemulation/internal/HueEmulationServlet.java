@@ -11,22 +11,15 @@ package org.openhab.io.hueemulation.internal;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.Dictionary;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Hashtable;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
 import java.util.UUID;
 
 import javax.servlet.ServletException;
@@ -35,22 +28,16 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang.ArrayUtils;
 import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.core.events.EventPublisher;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.ItemNotFoundException;
 import org.eclipse.smarthome.core.items.ItemRegistry;
 import org.eclipse.smarthome.core.items.events.ItemEventFactory;
-import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.HSBType;
-import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.types.Command;
-import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.TypeParser;
 import org.openhab.io.hueemulation.internal.api.HueCreateUser;
-import org.openhab.io.hueemulation.internal.api.HueDataStore;
-import org.openhab.io.hueemulation.internal.api.HueDevice;
 import org.openhab.io.hueemulation.internal.api.HueErrorResponse;
 import org.openhab.io.hueemulation.internal.api.HueGroup;
 import org.openhab.io.hueemulation.internal.api.HueState;
@@ -60,9 +47,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
-import com.google.gson.stream.JsonReader;
-import com.google.gson.stream.JsonWriter;
 
 /**
  * Emulates A Hue compatible HTTP API server
@@ -91,7 +75,6 @@ public class HueEmulationServlet extends HttpServlet {
             ConfigConstants.getUserDataFolder() + File.separator + "hueemulation" + File.separator + "udn");
     private static final File ITEM_FILE = new File(
             ConfigConstants.getUserDataFolder() + File.separator + "hueemulation" + File.separator + "items");
-    private static final String[] SUPPORTED_TAGS = new String[] { "Switchable", "Lighting" };
     private Gson gson = new Gson();
     private HttpService httpService;
     private ItemRegistry itemRegistry;
@@ -103,10 +86,12 @@ public class HueEmulationServlet extends HttpServlet {
     private boolean pairingEnabled = false;
     // list of valid Hue API user ids
     private List<String> userNames = new ArrayList<>();
-    // deviceMap maps a Hue numeric id to a Item Name, ordered by that id
-    private TreeMap<Integer, String> deviceMap = new TreeMap<>();
+    // exposed devices and their cached JSON
+    private final HueDeviceIndex deviceIndex = new HueDeviceIndex(gson, ITEM_FILE);
+    private boolean active = false;
 
     protected void activate(Map<String, Object> config) {
+        active = true;
         modified(config);
         try {
             Dictionary<String, String> servletParams = new Hashtable<String, String>();
@@ -123,20 +108,10 @@ public class HueEmulationServlet extends HttpServlet {
                 }
             }
 
-            // load item list from disk
-            if (ITEM_FILE.exists()) {
-                JsonReader reader = null;
-                try {
-                    reader = new JsonReader(new FileReader(ITEM_FILE));
-                    LinkedHashMap<Integer, String> tmpMap = gson.fromJson(reader,
-                            new TypeToken<Map<Integer, String>>() {
-                            }.getType());
-                    if (tmpMap != null) {
-                        deviceMap.putAll(tmpMap);
-                    }
-                } finally {
-                    IOUtils.closeQuietly(reader);
-                }
+            // load item list from disk and follow the item registry
+            deviceIndex.load();
+            if (itemRegistry != null) {
+                deviceIndex.start(itemRegistry);
             }
             logger.info("Started Hue Emulation service at " + PATH);
         } catch (Exception e) {
@@ -176,6 +151,8 @@ public class HueEmulationServlet extends HttpServlet {
     }
 
     protected void deactivate(ComponentContext componentContext) {
+        active = false;
+        deviceIndex.stop();
         try {
             httpService.unregister(PATH);
         } catch (IllegalArgumentException ignored) {
@@ -187,9 +164,13 @@ public class HueEmulationServlet extends HttpServlet {
 
     protected void setItemRegistry(ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
+        if (active) {
+            deviceIndex.start(itemRegistry);
+        }
     }
 
     protected void unsetItemRegistry(ItemRegistry itemRegistry) {
+        deviceIndex.stop();
         this.itemRegistry = null;
     }
 
@@ -320,7 +301,11 @@ public class HueEmulationServlet extends HttpServlet {
         }
         try {
             // will throw exception if not found
-            Item item = itemRegistry.getItem(deviceMap.get(new Integer(id)));
+            String itemName = deviceIndex.getItemName(new Integer(id));
+            if (itemName == null) {
+                throw new ItemNotFoundException(id);
+            }
+            Item item = itemRegistry.getItem(itemName);
             HueState state = gson.fromJson(req.getReader(), HueState.class);
             HSBType hsb = state.toHSBType();
             logger.debug("HuState {}", state);
@@ -365,14 +350,14 @@ public class HueEmulationServlet extends HttpServlet {
      * Hue API call to get the state of a single light
      */
     private void apiLight(String id, HttpServletRequest req, PrintWriter out) throws IOException {
-        HueDevice device = getHueDevices().get(new Integer(id));
+        String device = deviceIndex.getLightJson(new Integer(id));
 
         if (device == null) {
             logger.error("\"Could not find light for id {}. ", id);
             apiServerError(req, out, HueErrorResponse.NOT_AVAILABLE, "Light " + id + " does not exist.");
             return;
         } else {
-            out.write(gson.toJson(device));
+            out.write(device);
         }
     }
 
@@ -380,7 +365,7 @@ public class HueEmulationServlet extends HttpServlet {
      * Hue API call to get a listing of all lights
      */
     public void apiLights(HttpServletRequest req, PrintWriter out) throws IOException {
-        out.write(gson.toJson(getHueDevices()));
+        out.write(deviceIndex.getLightsJson());
     }
 
     /**
@@ -388,7 +373,7 @@ public class HueEmulationServlet extends HttpServlet {
      */
     public void apiGroupZero(HttpServletRequest req, PrintWriter out) throws IOException {
         List<String> lights = new LinkedList<String>();
-        for (Integer key : deviceMap.keySet()) {
+        for (Integer key : deviceIndex.getIds()) {
             lights.add(key.toString());
         }
         HueState action = new HueState();
@@ -400,9 +385,9 @@ public class HueEmulationServlet extends HttpServlet {
      */
     public void apiDataStore(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         PrintWriter out = resp.getWriter();
-        HueDataStore ds = new HueDataStore();
-        ds.lights = getHueDevices();
-        out.write(gson.toJson(ds));
+        out.write("{\"lights\":");
+        out.write(deviceIndex.getLightsJson());
+        out.write("}");
     }
 
     /**
@@ -465,96 +450,6 @@ public class HueEmulationServlet extends HttpServlet {
         }
     }
 
-    /**
-     * Converts an Item to a HueDevice
-     */
-    private HueDevice itemToDevice(Item item, Integer key) {
-        State itemState = item.getState();
-        HueState hueState;
-        if (itemState instanceof HSBType) {
-            HSBType color = (HSBType) itemState;
-            hueState = new HueState(color);
-        } else if (itemState instanceof DecimalType) {
-            short bri = (short) ((((DecimalType) itemState).intValue() * 255) / 100);
-            hueState = new HueState(bri);
-        } else if (itemState instanceof OnOffType) {
-            short bri = (short) (((OnOffType) itemState) == OnOffType.ON ? 255 : 0);
-            hueState = new HueState(bri);
-        } else {
-            hueState = new HueState((short) 0);
-        }
-
-        HueDevice d = new HueDevice(hueState, item.getLabel(), key);
-        return d;
-    }
-
-    /**
-     * Gets and syncs all items tagged for voice.
-     */
-    private synchronized TreeMap<Integer, HueDevice> getHueDevices() {
-        TreeMap<Integer, HueDevice> returnMap = new TreeMap<Integer, HueDevice>();
-        HashMap<String, Item> taggedItems = new HashMap<String, Item>();
-
-        // if we modify our internal map, persist it to disk
-        boolean modified = false;
-
-        // get all tagged items
-        for (Item item : itemRegistry.getItems()) {
-            for (String tag : item.getTags()) {
-                if (ArrayUtils.contains(SUPPORTED_TAGS, tag)) {
-                    taggedItems.put(item.getName(), item);
-                    if (!deviceMap.containsValue(item.getName())) {
-                        // hue devices are assigned a numeric number starting with 1, if a device is
-                        // removed that number is not used again. Not sure how high this id can get
-                        // not worrying about it here
-                        Integer next = deviceMap.size() == 0 ? 1 : new Integer(deviceMap.lastKey().intValue() + 1);
-                        deviceMap.put(next, item.getName());
-                        modified = true;
-                    }
-                    break;
-                }
-            }
-        }
-
-        Set<Integer> keysToRemove = new HashSet<>();
-
-        // clean up removed entries
-        for (Map.Entry<Integer, String> entry : deviceMap.entrySet()) {
-            String itemName = entry.getValue();
-            if (!taggedItems.containsKey(itemName)) {
-                keysToRemove.add(entry.getKey());
-                modified = true;
-            }
-        }
-
-        for (Integer key : keysToRemove) {
-            deviceMap.remove(key);
-        }
-
-        // for each entry, lookup the item and convert it to a hue device
-        for (Integer key : deviceMap.keySet()) {
-            try {
-                returnMap.put(key, itemToDevice(itemRegistry.getItem(deviceMap.get(key)), key));
-            } catch (ItemNotFoundException e) {
-                logger.warn("Could not find item", e);
-            }
-        }
-
-        if (modified) {
-            JsonWriter writer = null;
-            try {
-                writer = new JsonWriter(new FileWriter(ITEM_FILE));
-                gson.toJson(deviceMap, new TypeToken<Map<Integer, String>>() {
-                }.getType(), writer);
-            } catch (IOException e) {
-                logger.error("Could not persist item cache", e);
-            } finally {
-                IOUtils.closeQuietly(writer);
-            }
-        }
-        return returnMap;
-    }
-
     /**
      * Checks if the username exists in our user list
      */
@@ -449,6 +449,7 @@ public class NeeoService implements EventSubscriber, NetworkAddressChangeListene
         final ServiceContext localContext = context;
         if (localContext != null) {
             localContext.getDefinitions().save();
+            localContext.getSearchIndex().dispose();
 
             final HttpService service = localContext.getHttpService();
             for (NeeoBrainServlet servlet : servlets) {
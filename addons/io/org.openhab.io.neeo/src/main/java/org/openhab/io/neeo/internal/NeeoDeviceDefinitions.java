@@ -14,7 +14,10 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -50,6 +53,13 @@ public class NeeoDeviceDefinitions {
     /** Cross reference between a ThingUID and a NeeoDevice */
     private final ConcurrentHashMap<NeeoThingUID, NeeoDevice> uidToDevice = new ConcurrentHashMap<>();
 
+    /**
+     * Cross reference between a lower case item name and the exposed channels (with their device) of that item. The
+     * index is rebuilt whenever a definition changes and replaced as a whole, so lookups never need to lock.
+     */
+    private volatile Map<String, List<Map.Entry<NeeoDevice, NeeoDeviceChannel>>> itemNameToChannels = Collections
+            .emptyMap();
+
     /** The gson used to save/restore device definitions */
     private final Gson gson = NeeoUtil.createNeeoDeviceGsonBuilder().create();
 
@@ -102,6 +112,8 @@ public class NeeoDeviceDefinitions {
                 logger.debug("IOException reading {}: {}", file.toPath(), e.getMessage(), e);
             }
         }
+
+        rebuildIndex();
     }
 
     /**
@@ -144,6 +156,8 @@ public class NeeoDeviceDefinitions {
         Objects.requireNonNull(device, "device cannot be null");
 
         uidToDevice.put(device.getUid(), device);
+        rebuildIndex();
+        context.getSearchIndex().invalidate();
         save();
     }
 
@@ -158,6 +172,8 @@ public class NeeoDeviceDefinitions {
 
         final boolean found = uidToDevice.remove(uid) != null;
         if (found) {
+            rebuildIndex();
+            context.getSearchIndex().invalidate();
             save();
         }
         return found;
@@ -194,17 +210,10 @@ public class NeeoDeviceDefinitions {
         Objects.requireNonNull(keys, "keys cannot be null");
         NeeoUtil.requireNotEmpty(itemName, "itemName must not be empty");
 
-        logger.trace("isBound: {} --- {}", itemName, keys);
-        for (NeeoDevice device : uidToDevice.values()) {
-            final NeeoThingUID uid = new NeeoThingUID(device.getUid());
-            final boolean isBound = keys.isBound(uid);
-
-            logger.trace("isBound(device): {} --- {} --- {} --- {}", uid, itemName, isBound, keys);
-            if (isBound) {
-                if (device.isExposed(itemName)) {
-                    logger.trace("isBound(YES!): {} --- {} --- {} --- {}", uid, itemName, isBound, keys);
-                    return true;
-                }
+        for (Map.Entry<NeeoDevice, NeeoDeviceChannel> entry : getChannels(itemName)) {
+            if (keys.isBound(entry.getKey().getUid())) {
+                logger.trace("isBound(YES!): {} --- {} --- {}", entry.getKey().getUid(), itemName, keys);
+                return true;
             }
         }
 
@@ -235,18 +244,55 @@ public class NeeoDeviceDefinitions {
         Objects.requireNonNull(keys, "keys cannot be null");
 
         final List<Map.Entry<NeeoDevice, NeeoDeviceChannel>> channels = new ArrayList<>();
+        if (itemName != null) {
+            for (Map.Entry<NeeoDevice, NeeoDeviceChannel> entry : getChannels(itemName)) {
+                if (keys.isBound(entry.getKey().getUid())) {
+                    channels.add(entry);
+                }
+            }
+            return channels;
+        }
+
         for (NeeoDevice device : uidToDevice.values()) {
             if (keys.isBound(device.getUid())) {
                 for (NeeoDeviceChannel channel : device.getExposedChannels()) {
-                    if (itemName == null || StringUtils.equalsIgnoreCase(itemName, channel.getItemName())) {
-                        channels.add(new AbstractMap.SimpleImmutableEntry<>(device, channel));
-                    }
+                    channels.add(new AbstractMap.SimpleImmutableEntry<>(device, channel));
                 }
             }
         }
         return channels;
     }
 
+    /**
+     * Gets the exposed channels (with their device) of the given item name from the index
+     *
+     * @param itemName a non-null item name
+     * @return a non-null, possibly empty list
+     */
+    private List<Map.Entry<NeeoDevice, NeeoDeviceChannel>> getChannels(String itemName) {
+        final List<Map.Entry<NeeoDevice, NeeoDeviceChannel>> channels = itemNameToChannels
+                .get(itemName.toLowerCase(Locale.ROOT));
+        return channels == null ? Collections.emptyList() : channels;
+    }
+
+    /**
+     * Rebuilds the {@link #itemNameToChannels} index from the current definitions
+     */
+    private synchronized void rebuildIndex() {
+        final Map<String, List<Map.Entry<NeeoDevice, NeeoDeviceChannel>>> index = new HashMap<>();
+        for (NeeoDevice device : uidToDevice.values()) {
+            for (NeeoDeviceChannel channel : device.getExposedChannels()) {
+                final String itemName = channel.getItemName();
+                if (StringUtils.isNotEmpty(itemName)) {
+                    index.computeIfAbsent(itemName.toLowerCase(Locale.ROOT), k -> new ArrayList<>())
+                            .add(new AbstractMap.SimpleImmutableEntry<>(device, channel));
+                }
+            }
+        }
+        itemNameToChannels = index;
+        logger.debug("Indexed {} bound item names of {} devices", index.size(), uidToDevice.size());
+    }
+
     /**
      * Gets the {@link NeeoDevice} for the given {@link NeeoThingUID}. If no definition has been created yet, the
      * definition
@@ -67,6 +67,9 @@ public class ServiceContext {
     /** The definitions. */
     private final NeeoDeviceDefinitions definitions;
 
+    /** The search index. */
+    private final TokenSearchIndex searchIndex;
+
     /** The network address service. */
     private final NetworkAddressService networkAddressService;
 
@@ -113,6 +116,7 @@ public class ServiceContext {
         this.eventPublisher = eventPublisher;
         this.networkAddressService = networkAddressService;
         this.definitions = new NeeoDeviceDefinitions(this);
+        this.searchIndex = new TokenSearchIndex(this);
     }
 
     /**
@@ -124,6 +128,15 @@ public class ServiceContext {
         return definitions;
     }
 
+    /**
+     * Gets the search index.
+     *
+     * @return the search index
+     */
+    public TokenSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     /**
      * Gets the component context.
      *
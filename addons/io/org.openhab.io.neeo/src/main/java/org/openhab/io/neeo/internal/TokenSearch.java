@@ -9,18 +9,13 @@
 package org.openhab.io.neeo.internal;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.StringUtils;
-import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.smarthome.core.binding.BindingInfo;
-import org.eclipse.smarthome.core.thing.Thing;
-import org.eclipse.smarthome.core.thing.type.ThingType;
 import org.openhab.io.neeo.internal.models.NeeoDevice;
 import org.openhab.io.neeo.internal.models.TokenScore;
 import org.slf4j.Logger;
@@ -28,7 +23,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The class emulates the same search pattern that the NEEO brain uses (https://github.com/neophob/tokensearch.js) on
- * all the exposed things in the registry.
+ * all the exposed things in the registry. The things are looked up in the {@link TokenSearchIndex}.
  *
  * @author Tim Roberts - Initial Contribution
  */
@@ -86,61 +81,31 @@ public class TokenSearch {
     public Result search(String query) {
         NeeoUtil.requireNotEmpty(query, "query cannot be empty");
 
-        final List<TokenScore<NeeoDevice>> results = new ArrayList<>();
-
         final String[] needles = StringUtils.split(query, DELIMITER);
-        int maxScore = -1;
-
-        for (NeeoDevice device : context.getDefinitions().getExposed()) {
-            int score = search(device.getName(), needles);
-            score += search("openhab", needles);
-            // score += searchAlgorithm(thing.getLocation(), needles);
-            score += search(device.getUid().getBindingId(), needles);
-
-            final Thing thing = context.getThingRegistry().get(device.getUid().asThingUID());
-            if (thing != null) {
-                final String location = thing.getLocation();
-                if (location != null && StringUtils.isNotEmpty(location)) {
-                    score += search(location, needles);
-                }
 
-                final Map<@NonNull String, String> properties = thing.getProperties();
-                final String vendor = properties.get(Thing.PROPERTY_VENDOR);
-                if (StringUtils.isNotEmpty(vendor)) {
-                    score += search(vendor, needles);
-                }
-
-                final ThingType tt = context.getThingTypeRegistry().getThingType(thing.getThingTypeUID());
-                if (tt != null) {
-                    score += search(tt.getLabel(), needles);
-
-                    final BindingInfo bi = context.getBindingInfoRegistry().getBindingInfo(tt.getBindingId());
-                    if (bi != null) {
-                        score += search(bi.getName(), needles);
-                    }
+        // score each distinct token once and add the score to every device containing it
+        final TokenSearchIndex.Snapshot snapshot = context.getSearchIndex().getSnapshot();
+        final List<NeeoDevice> devices = snapshot.getDevices();
+        final int[] scores = new int[devices.size()];
+        for (Map.Entry<String, int[]> token : snapshot.getTokens().entrySet()) {
+            final int score = searchAlgorithm(token.getKey(), needles);
+            if (score > 0) {
+                for (int idx : token.getValue()) {
+                    scores[idx] += score;
                 }
             }
+        }
 
-            maxScore = Math.max(maxScore, score);
-
-            results.add(new TokenScore<>(score, device));
+        int maxScore = -1;
+        final List<TokenScore<NeeoDevice>> results = new ArrayList<>(devices.size());
+        for (int i = 0; i < devices.size(); i++) {
+            maxScore = Math.max(maxScore, scores[i]);
+            results.add(new TokenScore<>(scores[i], devices.get(i)));
         }
 
         return new Result(applyThreshold(results, maxScore, threshold), maxScore);
     }
 
-    /**
-     * Search the 'haystack' for the needles. The 'haystack' will be broken up by delimiter and each part will be
-     * compared to the needles array and the resulting score summation returned.
-     *
-     * @param haystack the search term
-     * @param needles the items to search
-     * @return the score of the match
-     */
-    private int search(String haystack, String[] needles) {
-        return Arrays.stream(StringUtils.split(haystack, DELIMITER)).mapToInt(hs -> searchAlgorithm(hs, needles)).sum();
-    }
-
     /**
      * The search algorithm (lifted from tokensearch.js)
      *
@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.neeo.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang.StringUtils;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.binding.BindingInfo;
+import org.eclipse.smarthome.core.common.registry.RegistryChangeListener;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.link.ItemChannelLink;
+import org.eclipse.smarthome.core.thing.type.ThingType;
+import org.openhab.io.neeo.internal.models.NeeoDevice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class maintains the inverted index used by {@link TokenSearch}. Each exposed {@link NeeoDevice} is split into
+ * the tokens of its searchable fields (name, binding id, location, vendor, thing type label and binding name) and
+ * every distinct token refers to the devices containing it. A search then only needs to score each distinct token
+ * once instead of scoring (and looking up the registries for) every device on every query.
+ *
+ * The index is invalidated whenever a thing, an item link or a device definition changes and rebuilt on the next
+ * search, so a burst of registry changes only results in a single rebuild.
+ *
+ * @author agent - Initial Contribution
+ */
+@NonNullByDefault
+public class TokenSearchIndex {
+
+    /** The logger */
+    private final Logger logger = LoggerFactory.getLogger(TokenSearchIndex.class);
+
+    /** The delimiter used to split fields into tokens */
+    private static final char DELIMITER = ' ';
+
+    /** The token every device contains */
+    private static final String OPENHAB = "openhab";
+
+    /** The service context */
+    private final ServiceContext context;
+
+    /** The current index (null if it needs to be rebuilt) */
+    @Nullable
+    private volatile Snapshot snapshot;
+
+    /** Incremented on every invalidation to detect changes while the index is being rebuilt */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** The listener invalidating the index on thing changes */
+    private final RegistryChangeListener<Thing> thingListener = new RegistryChangeListener<Thing>() {
+        @Override
+        public void added(Thing element) {
+            invalidate();
+        }
+
+        @Override
+        public void removed(Thing element) {
+            invalidate();
+        }
+
+        @Override
+        public void updated(Thing oldElement, Thing element) {
+            invalidate();
+        }
+    };
+
+    /** The listener invalidating the index on item link changes (which change the exposed devices) */
+    private final RegistryChangeListener<ItemChannelLink> linkListener = new RegistryChangeListener<ItemChannelLink>() {
+        @Override
+        public void added(ItemChannelLink element) {
+            invalidate();
+        }
+
+        @Override
+        public void removed(ItemChannelLink element) {
+            invalidate();
+        }
+
+        @Override
+        public void updated(ItemChannelLink oldElement, ItemChannelLink element) {
+            invalidate();
+        }
+    };
+
+    /**
+     * Creates the index based on the {@link ServiceContext} and starts listening for registry changes
+     *
+     * @param context the non-null context
+     */
+    TokenSearchIndex(ServiceContext context) {
+        Objects.requireNonNull(context, "context cannot be null");
+
+        this.context = context;
+        context.getThingRegistry().addRegistryChangeListener(thingListener);
+        context.getItemChannelLinkRegistry().addRegistryChangeListener(linkListener);
+    }
+
+    /**
+     * Marks the index as outdated. It will be rebuilt on the next call to {@link #getSnapshot()}
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    /**
+     * Stops listening for registry changes
+     */
+    public void dispose() {
+        context.getThingRegistry().removeRegistryChangeListener(thingListener);
+        context.getItemChannelLinkRegistry().removeRegistryChangeListener(linkListener);
+        snapshot = null;
+    }
+
+    /**
+     * Returns the current index, rebuilding it if it has been invalidated
+     *
+     * @return a non-null {@link Snapshot}
+     */
+    public Snapshot getSnapshot() {
+        final Snapshot localSnapshot = snapshot;
+        return localSnapshot == null ? rebuild() : localSnapshot;
+    }
+
+    /**
+     * Rebuilds the index from the exposed devices
+     *
+     * @return the non-null rebuilt {@link Snapshot}
+     */
+    private synchronized Snapshot rebuild() {
+        final Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        final long start = System.nanoTime();
+        final long startGeneration = generation.get();
+        final List<NeeoDevice> devices = context.getDefinitions().getExposed();
+        final Map<String, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < devices.size(); i++) {
+            for (String token : getTokens(devices.get(i))) {
+                postings.computeIfAbsent(token, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        final Map<String, int[]> tokens = new HashMap<>(postings.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : postings.entrySet()) {
+            tokens.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        // only publish the index if nothing has been invalidated while building it
+        final Snapshot rebuilt = new Snapshot(devices, tokens);
+        if (generation.get() == startGeneration) {
+            snapshot = rebuilt;
+        }
+        logger.debug("Rebuilt search index of {} devices ({} tokens) in {} ms", devices.size(), tokens.size(),
+                (System.nanoTime() - start) / 1000000);
+        return rebuilt;
+    }
+
+    /**
+     * Gets all tokens of the searchable fields of the device. A token occurring several times is returned several
+     * times, so that it's scored for each occurrence.
+     *
+     * @param device the non-null device
+     * @return the non-null, possibly empty list of tokens
+     */
+    private List<String> getTokens(NeeoDevice device) {
+        final List<String> tokens = new ArrayList<>();
+        addTokens(tokens, device.getName());
+        addTokens(tokens, OPENHAB);
+        addTokens(tokens, device.getUid().getBindingId());
+
+        final Thing thing = context.getThingRegistry().get(device.getUid().asThingUID());
+        if (thing != null) {
+            addTokens(tokens, thing.getLocation());
+
+            final Map<@NonNull String, String> properties = thing.getProperties();
+            addTokens(tokens, properties.get(Thing.PROPERTY_VENDOR));
+
+            final ThingType tt = context.getThingTypeRegistry().getThingType(thing.getThingTypeUID());
+            if (tt != null) {
+                addTokens(tokens, tt.getLabel());
+
+                final BindingInfo bi = context.getBindingInfoRegistry().getBindingInfo(tt.getBindingId());
+                if (bi != null) {
+                    addTokens(tokens, bi.getName());
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Splits the field into tokens and adds them to the list
+     *
+     * @param tokens the non-null list to add to
+     * @param field the possibly null, possibly empty field
+     */
+    private static void addTokens(List<String> tokens, @Nullable String field) {
+        if (field != null && StringUtils.isNotEmpty(field)) {
+            Collections.addAll(tokens, StringUtils.split(field, DELIMITER));
+        }
+    }
+
+    /**
+     * An immutable state of the index
+     *
+     * @author agent - Initial Contribution
+     */
+    public static class Snapshot {
+        /** The exposed devices */
+        private final List<NeeoDevice> devices;
+
+        /** The distinct tokens to the index (within {@link #devices}) of each device containing it */
+        private final Map<String, int[]> tokens;
+
+        /**
+         * Constructs the snapshot from the devices and their tokens
+         *
+         * @param devices a non-null, possibly empty list of devices
+         * @param tokens a non-null, possibly empty map of tokens
+         */
+        private Snapshot(List<NeeoDevice> devices, Map<String, int[]> tokens) {
+            this.devices = Collections.unmodifiableList(devices);
+            this.tokens = Collections.unmodifiableMap(tokens);
+        }
+
+        /**
+         * The exposed devices
+         *
+         * @return a non-null, possibly empty list of devices
+         */
+        public List<NeeoDevice> getDevices() {
+            return devices;
+        }
+
+        /**
+         * The distinct tokens to the indexes (within {@link #getDevices()}) of the devices containing the token. An
+         * index is repeated for each occurrence of the token in the device.
+         *
+         * @return a non-null, possibly empty map of tokens
+         */
+        public Map<String, int[]> getTokens() {
+            return tokens;
+        }
+    }
+}
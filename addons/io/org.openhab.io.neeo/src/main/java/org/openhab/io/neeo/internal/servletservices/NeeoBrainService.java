@@ -13,7 +13,10 @@ import java.beans.PropertyChangeListener;
 import java.io.IOException;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -92,6 +95,15 @@ public class NeeoBrainService extends DefaultServletService {
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(NeeoConstants.THREAD_POOL_NAME);
 
+    /** The delay (in milliseconds) state changes are collected for before they are sent to the brain */
+    private static final long NOTIFY_DELAY = 50;
+
+    /** The latest state of each item whose state change has not been sent to the brain yet */
+    private final ConcurrentHashMap<String, State> pendingStates = new ConcurrentHashMap<>();
+
+    /** Whether a task to send the {@link #pendingStates} has been scheduled */
+    private final AtomicBoolean notifyScheduled = new AtomicBoolean(false);
+
     /** The {@link NeeoItemValueConverter} used to convert values with */
     private final NeeoItemValueConverter itemConverter;
 
@@ -446,7 +458,8 @@ public class NeeoBrainService extends DefaultServletService {
     /**
      * Handles the event by notifying the NEEO brain of the new value. If the channel has been linked to the
      * {@link NeeoButtonGroup#POWERONOFF}, then the related recipe will be powered on/off (in addition to sending the
-     * new value).
+     * new value). The notification is sent asynchronously and state changes of the same item that occur before it is
+     * sent are coalesced into the latest state.
      *
      * @see DefaultServletService#handleEvent(Event)
      *
@@ -459,11 +472,32 @@ public class NeeoBrainService extends DefaultServletService {
         final String itemName = ise.getItemName();
 
         logger.trace("handleEvent: {}", event);
-        notifyState(itemName, ise.getItemState());
+        pendingStates.put(itemName, ise.getItemState());
+        if (notifyScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::notifyPendingStates, NOTIFY_DELAY, TimeUnit.MILLISECONDS);
+        }
 
         return true;
     }
 
+    /**
+     * Helper function to send the latest state of all items in {@link #pendingStates} to the brain
+     */
+    private void notifyPendingStates() {
+        // reset first so that a state change arriving while sending schedules the next batch
+        notifyScheduled.set(false);
+
+        int notified = 0;
+        for (String itemName : pendingStates.keySet()) {
+            final State state = pendingStates.remove(itemName);
+            if (state != null) {
+                notifyState(itemName, state);
+                notified++;
+            }
+        }
+        logger.trace("notifyPendingStates: {} item(s)", notified);
+    }
+
     /**
      * Helper function to send the current state of all bound channels
      */
@@ -535,7 +569,7 @@ public class NeeoBrainService extends DefaultServletService {
                     }
                 }
 
-                sendNotification(channel, deviceKey, state);
+                doSendNotification(channel, deviceKey, state);
             }
         }
     }
@@ -553,28 +587,39 @@ public class NeeoBrainService extends DefaultServletService {
         Objects.requireNonNull(state, "state cannot be null");
 
         scheduler.execute(() -> {
-            final String uin = channel.getUniqueItemName();
+            doSendNotification(channel, deviceKey, state);
+        });
+    }
+
+    /**
+     * Helper method to send a notification on the calling thread
+     *
+     * @param channel a non-null channel
+     * @param deviceKey a non-null, non-empty device id
+     * @param state a non-null state
+     */
+    private void doSendNotification(NeeoDeviceChannel channel, String deviceKey, State state) {
+        final String uin = channel.getUniqueItemName();
 
-            final NeeoItemValue niv = itemConverter.convert(channel, state);
+        final NeeoItemValue niv = itemConverter.convert(channel, state);
 
-            // Use sensor notification if we have a >= 0.50 firmware AND it's not a power sensor
-            if (api.getSystemInfo().isFirmwareGreaterOrEqual(NeeoConstants.NEEO_FIRMWARE_0_51_1)
-                    && channel.getType() != NeeoCapabilityType.SENSOR_POWER) {
-                final NeeoSensorNotification notify = new NeeoSensorNotification(deviceKey, uin, niv.getValue());
-                try {
-                    api.notify(gson.toJson(notify));
-                } catch (IOException e) {
-                    logger.debug("Exception occurred while handling event: {}", e.getMessage(), e);
-                }
-            } else {
-                final NeeoNotification notify = new NeeoNotification(deviceKey, uin, niv.getValue());
-                try {
-                    api.notify(gson.toJson(notify));
-                } catch (IOException e) {
-                    logger.debug("Exception occurred while handling event: {}", e.getMessage(), e);
-                }
+        // Use sensor notification if we have a >= 0.50 firmware AND it's not a power sensor
+        if (api.getSystemInfo().isFirmwareGreaterOrEqual(NeeoConstants.NEEO_FIRMWARE_0_51_1)
+                && channel.getType() != NeeoCapabilityType.SENSOR_POWER) {
+            final NeeoSensorNotification notify = new NeeoSensorNotification(deviceKey, uin, niv.getValue());
+            try {
+                api.notify(gson.toJson(notify));
+            } catch (IOException e) {
+                logger.debug("Exception occurred while handling event: {}", e.getMessage(), e);
             }
-        });
+        } else {
+            final NeeoNotification notify = new NeeoNotification(deviceKey, uin, niv.getValue());
+            try {
+                api.notify(gson.toJson(notify));
+            } catch (IOException e) {
+                logger.debug("Exception occurred while handling event: {}", e.getMessage(), e);
+            }
+        }
     }
 
     /**
@@ -585,6 +630,7 @@ public class NeeoBrainService extends DefaultServletService {
     @Override
     public void close() {
         this.api.removePropertyChangeListener(listener);
+        pendingStates.clear();
         request.close();
     }
 }
@@ -138,6 +138,11 @@ public class CloudClient {
     private boolean remoteAccessEnabled;
     private Set<String> exposedItems;
 
+    /*
+     * This variable holds the batcher which collects item updates and sends them to the openHAB Cloud
+     */
+    private ItemUpdateBatcher itemUpdateBatcher;
+
     /**
      * Constructor of CloudClient
      *
@@ -145,10 +150,12 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param updateWindow window in milliseconds in which item updates are collected before being sent
+     * @param maxPendingUpdates maximum number of item updates held back while waiting to be sent
      *
      */
     public CloudClient(String uuid, String secret, String baseURL, String localBaseUrl, boolean remoteAccessEnabled,
-            Set<String> exposedItems) {
+            Set<String> exposedItems, long updateWindow, int maxPendingUpdates) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
@@ -156,6 +163,7 @@ public class CloudClient {
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
         runningRequests = new HashMap<Integer, Request>();
+        itemUpdateBatcher = new ItemUpdateBatcher(this, updateWindow, maxPendingUpdates);
         jettyClient = new HttpClient();
         jettyClient.setMaxConnectionsPerDestination(HTTP_CLIENT_MAX_CONNECTIONS_PER_DEST);
         jettyClient.setConnectTimeout(HTTP_CLIENT_TIMEOUT);
@@ -166,6 +174,7 @@ public class CloudClient {
      */
 
     public void connect() {
+        itemUpdateBatcher.start();
         try {
             socket = IO.socket(baseURL);
             URL parsed = new URL(baseURL);
@@ -249,6 +258,9 @@ public class CloudClient {
                 logger.error("Could not start Jetty client: {}", e.getMessage());
             }
         }
+        // Send the item updates which were held back while being disconnected
+        itemUpdateBatcher.resetSentStates();
+        itemUpdateBatcher.flush();
     }
 
     /**
@@ -499,13 +511,24 @@ public class CloudClient {
     }
 
     /**
-     * Send item update to openHAB Cloud
+     * Queue item update to be sent to openHAB Cloud with the next batch
      *
      * @param itemName the name of the item
      * @param itemState updated item state
      *
      */
-    public void sendItemUpdate(String itemName, String itemState) {
+    public void queueItemUpdate(String itemName, String itemState) {
+        itemUpdateBatcher.queueItemUpdate(itemName, itemState);
+    }
+
+    /**
+     * Send item update to openHAB Cloud
+     *
+     * @param itemName the name of the item
+     * @param itemState updated item state
+     * @return false if the update could not be sent because the connection is down
+     */
+    public boolean sendItemUpdate(String itemName, String itemState) {
         if (isConnected()) {
             logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
             JSONObject itemUpdateMessage = new JSONObject();
@@ -516,8 +539,10 @@ public class CloudClient {
             } catch (JSONException e) {
                 logger.error("{}", e.getMessage());
             }
+            return true;
         } else {
             logger.debug("No connection, Item update is not sent");
+            return false;
         }
     }
 
@@ -533,6 +558,7 @@ public class CloudClient {
      */
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
+        itemUpdateBatcher.stop();
         try {
             jettyClient.stop();
         } catch (Exception e) {
@@ -553,6 +579,10 @@ public class CloudClient {
         this.listener = listener;
     }
 
+    public ItemUpdateBatcher getItemUpdateBatcher() {
+        return itemUpdateBatcher;
+    }
+
     /*
      * An internal class which forwards response headers and data back to the openHAB Cloud
      */
@@ -13,6 +13,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -60,8 +61,12 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_UPDATE_WINDOW = "updateWindow";
+    private static final String CFG_MAX_PENDING_UPDATES = "maxPendingUpdates";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
+    private static final long DEFAULT_UPDATE_WINDOW = 1000;
+    private static final int DEFAULT_MAX_PENDING_UPDATES = 1000;
 
     private Logger logger = LoggerFactory.getLogger(CloudService.class);
 
@@ -73,6 +78,8 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
     private boolean remoteAccessEnabled = true;
     private Set<String> exposedItems = null;
+    private long updateWindow = DEFAULT_UPDATE_WINDOW;
+    private int maxPendingUpdates = DEFAULT_MAX_PENDING_UPDATES;
     private int localPort;
 
     public CloudService() {
@@ -165,6 +172,9 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             cloudBaseUrl = DEFAULT_URL;
         }
 
+        updateWindow = getNumberConfig(config, CFG_UPDATE_WINDOW, DEFAULT_UPDATE_WINDOW).longValue();
+        maxPendingUpdates = getNumberConfig(config, CFG_MAX_PENDING_UPDATES, DEFAULT_MAX_PENDING_UPDATES).intValue();
+
         exposedItems = new HashSet<>();
         Object expCfg = config.get(CFG_EXPOSE);
         if (expCfg instanceof String) {
@@ -192,13 +202,31 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         String localBaseUrl = "http://localhost:" + localPort;
         cloudClient = new CloudClient(InstanceUUID.get(), getSecret(), cloudBaseUrl, localBaseUrl, remoteAccessEnabled,
-                exposedItems);
+                exposedItems, updateWindow, maxPendingUpdates);
         cloudClient.setOpenHABVersion(OpenHAB.getVersion());
         cloudClient.connect();
         cloudClient.setListener(this);
         NotificationAction.cloudService = this;
     }
 
+    /**
+     * Reads a numeric configuration value, falling back to the given default if it is missing or invalid
+     */
+    private Number getNumberConfig(Map<String, ?> config, String key, Number defaultValue) {
+        Object value = config.get(key);
+        if (value instanceof Number) {
+            return (Number) value;
+        } else if (value instanceof String && StringUtils.isNotBlank((String) value)) {
+            try {
+                return new BigDecimal(((String) value).trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for configuration parameter '{}', using default {}", value, key,
+                        defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     @Override
     public String getActionClassName() {
         return NotificationAction.class.getCanonicalName();
@@ -334,7 +362,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     public void receive(Event event) {
         ItemStateEvent ise = (ItemStateEvent) event;
         if (exposedItems != null && exposedItems.contains(ise.getItemName())) {
-            cloudClient.sendItemUpdate(ise.getItemName(), ise.getItemState().toString());
+            cloudClient.queueItemUpdate(ise.getItemName(), ise.getItemState().toString());
         }
     }
 
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class collects item updates for the openHAB Cloud and sends them in batches.
+ * Within one update window only the last state of an item is kept, states equal to the
+ * last state sent are filtered out and pending updates are held back while the
+ * connection is down, up to a maximum number of items. Pending updates are flushed
+ * as soon as the connection is established again.
+ *
+ * @author agent - Initial contribution
+ */
+public class ItemUpdateBatcher {
+
+    private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
+
+    private final Logger logger = LoggerFactory.getLogger(ItemUpdateBatcher.class);
+
+    private final CloudClient cloudClient;
+    private final long updateWindow;
+    private final int maxPendingUpdates;
+
+    /*
+     * Updates waiting to be sent, in the order the items were first updated
+     */
+    private final LinkedHashMap<String, String> pendingUpdates = new LinkedHashMap<>();
+
+    /*
+     * Last state sent to the openHAB Cloud per item, used to filter unchanged states
+     */
+    private final Map<String, String> lastSentStates = new HashMap<>();
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private ScheduledFuture<?> flushJob;
+
+    /**
+     * Constructor of ItemUpdateBatcher
+     *
+     * @param cloudClient the client used to send the item updates
+     * @param updateWindow window in milliseconds in which updates are collected, 0 sends updates immediately
+     * @param maxPendingUpdates maximum number of items held back while waiting to be sent
+     */
+    public ItemUpdateBatcher(CloudClient cloudClient, long updateWindow, int maxPendingUpdates) {
+        this.cloudClient = cloudClient;
+        this.updateWindow = updateWindow;
+        this.maxPendingUpdates = maxPendingUpdates;
+    }
+
+    /**
+     * Starts the periodic flushing of collected updates
+     */
+    public synchronized void start() {
+        if (updateWindow > 0 && flushJob == null) {
+            ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD);
+            flushJob = scheduler.scheduleWithFixedDelay(this::flush, updateWindow, updateWindow,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the periodic flushing and discards all pending updates
+     */
+    public synchronized void stop() {
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            flushJob = null;
+        }
+        droppedCount.addAndGet(pendingUpdates.size());
+        pendingUpdates.clear();
+        logger.debug("Item updates sent: {}, coalesced: {}, dropped: {}", getSentCount(), getCoalescedCount(),
+                getDroppedCount());
+    }
+
+    /**
+     * Queues an item update to be sent to the openHAB Cloud
+     *
+     * @param itemName the name of the item
+     * @param itemState updated item state
+     */
+    public void queueItemUpdate(String itemName, String itemState) {
+        synchronized (this) {
+            String previous = pendingUpdates.get(itemName);
+            if (previous != null) {
+                // a newer state replaces the pending one
+                coalescedCount.incrementAndGet();
+                if (itemState.equals(lastSentStates.get(itemName))) {
+                    pendingUpdates.remove(itemName);
+                } else {
+                    pendingUpdates.put(itemName, itemState);
+                }
+            } else if (itemState.equals(lastSentStates.get(itemName))) {
+                coalescedCount.incrementAndGet();
+            } else {
+                if (pendingUpdates.size() >= maxPendingUpdates) {
+                    Iterator<String> oldest = pendingUpdates.keySet().iterator();
+                    logger.debug("Item update buffer is full, dropping update for item '{}'", oldest.next());
+                    oldest.remove();
+                    droppedCount.incrementAndGet();
+                }
+                pendingUpdates.put(itemName, itemState);
+            }
+        }
+        if (updateWindow <= 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Forgets the states sent so far. The openHAB Cloud may have missed updates emitted while the connection was
+     * dropping, so after a reconnect the next state of every item is sent even if it is unchanged.
+     */
+    public synchronized void resetSentStates() {
+        lastSentStates.clear();
+    }
+
+    /**
+     * Sends all pending updates, if the connection to the openHAB Cloud is established. A state is only recorded as
+     * sent once it has been handed to the connection, updates which could not be sent stay pending unless a newer
+     * state has been queued in the meantime.
+     */
+    public void flush() {
+        Map<String, String> updates;
+        synchronized (this) {
+            if (pendingUpdates.isEmpty() || !cloudClient.isConnected()) {
+                return;
+            }
+            updates = new LinkedHashMap<>(pendingUpdates);
+            pendingUpdates.clear();
+        }
+        Iterator<Map.Entry<String, String>> iterator = updates.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, String> update = iterator.next();
+            if (!cloudClient.sendItemUpdate(update.getKey(), update.getValue())) {
+                break;
+            }
+            synchronized (this) {
+                lastSentStates.put(update.getKey(), update.getValue());
+            }
+            sentCount.incrementAndGet();
+            iterator.remove();
+        }
+        if (!updates.isEmpty()) {
+            requeue(updates);
+        }
+    }
+
+    /**
+     * Puts updates which could not be sent back in front of the pending updates
+     */
+    private synchronized void requeue(Map<String, String> updates) {
+        logger.debug("Connection lost, keeping {} item updates pending", updates.size());
+        Map<String, String> newer = new LinkedHashMap<>(pendingUpdates);
+        pendingUpdates.clear();
+        for (Map.Entry<String, String> update : updates.entrySet()) {
+            if (!newer.containsKey(update.getKey())) {
+                pendingUpdates.put(update.getKey(), update.getValue());
+            }
+        }
+        pendingUpdates.putAll(newer);
+        Iterator<String> oldest = pendingUpdates.keySet().iterator();
+        while (pendingUpdates.size() > maxPendingUpdates) {
+            oldest.next();
+            oldest.remove();
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of item updates sent to the openHAB Cloud
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * Returns the number of item updates which were replaced by a newer state or filtered as unchanged
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Returns the number of item updates which were discarded because the buffer was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
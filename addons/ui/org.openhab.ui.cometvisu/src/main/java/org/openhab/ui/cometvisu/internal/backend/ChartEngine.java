@@ -0,0 +1,287 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.ui.cometvisu.internal.backend;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.core.FetchData;
+import org.rrd4j.core.FetchRequest;
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * reads chart series from rrd files for the {@link ChartResource}. The rrd files are kept open
+ * in a bounded pool of read-only handles and fetched series are cached per
+ * item/consolidation function/resolution/time-bucket, so that several charts showing the same
+ * data or periodically refreshing dashboards do not re-read the rrd files every time.
+ * Handles which have been idle for a while or whose file has been deleted or replaced are
+ * closed periodically.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class ChartEngine {
+    private final Logger logger = LoggerFactory.getLogger(ChartEngine.class);
+
+    // maximum number of rrd files kept open
+    private static final int MAX_OPEN_FILES = 64;
+
+    // rrd handles unused for this time are closed
+    private static final long MAX_IDLE_TIME = 300000;
+
+    // maximum number of cached series
+    private static final int MAX_CACHED_SERIES = 128;
+
+    // minimum and maximum size of a time bucket in seconds, a series is reused within the same bucket
+    private static final long MIN_BUCKET_SIZE = 60;
+    private static final long MAX_BUCKET_SIZE = 300;
+
+    private static final String THREAD_POOL_NAME = "cometvisu";
+
+    private final String rrdFolder;
+
+    private final ScheduledFuture<?> sweepJob;
+
+    private final Map<String, PooledRrdDb> openFiles = new LinkedHashMap<String, PooledRrdDb>(16, 0.75f, true);
+
+    private final Map<String, CachedSeries> cache = new LinkedHashMap<String, CachedSeries>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedSeries> eldest) {
+            return size() > MAX_CACHED_SERIES;
+        }
+    };
+
+    public ChartEngine(String rrdFolder) {
+        this.rrdFolder = rrdFolder;
+        this.sweepJob = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME).scheduleWithFixedDelay(this::sweep,
+                MAX_IDLE_TIME, MAX_IDLE_TIME, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * fetches the series of an item from its rrd file
+     *
+     * @param itemName name of the item
+     * @param consolidationFunction the rrd consolidation function
+     * @param start start time in seconds
+     * @param end end time in seconds
+     * @param resolution requested resolution in seconds
+     * @return the series
+     * @throws FileNotFoundException if there is no rrd file for the item
+     * @throws IOException if the rrd file could not be read
+     */
+    public ChartSeries getSeries(String itemName, ConsolFun consolidationFunction, long start, long end,
+            long resolution) throws IOException {
+        long bucketSize = Math.min(Math.max(resolution, MIN_BUCKET_SIZE), MAX_BUCKET_SIZE);
+        String key = itemName + ":" + consolidationFunction + ":" + resolution + ":" + (start / bucketSize) + ":"
+                + (end / bucketSize);
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            CachedSeries cached = cache.get(key);
+            if (cached != null && cached.expires > now) {
+                logger.trace("using cached series for '{}'", key);
+                return cached.series;
+            }
+        }
+        ChartSeries series = fetch(itemName, consolidationFunction, start, end, resolution);
+        synchronized (cache) {
+            cache.put(key, new CachedSeries(series, now + bucketSize * 1000));
+        }
+        return series;
+    }
+
+    private ChartSeries fetch(String itemName, ConsolFun consolidationFunction, long start, long end,
+            long resolution) throws IOException {
+        PooledRrdDb pooled = acquire(rrdFolder + File.separator + itemName + ".rrd");
+        try {
+            FetchData fetchData;
+            synchronized (pooled.rrdDb) {
+                FetchRequest fetchRequest = pooled.rrdDb.createFetchRequest(consolidationFunction, start, end,
+                        resolution);
+                fetchData = fetchRequest.fetchData();
+            }
+            logger.debug("RRD fetch returned '{}' rows and '{}' columns", fetchData.getRowCount(),
+                    fetchData.getColumnCount());
+
+            long[] timestamps = fetchData.getTimestamps();
+            long[] millis = new long[timestamps.length];
+            for (int row = 0; row < timestamps.length; row++) {
+                millis[row] = timestamps[row] * 1000;
+            }
+            return new ChartSeries(millis, fetchData.getValues());
+        } finally {
+            release(pooled);
+        }
+    }
+
+    private PooledRrdDb acquire(String path) throws IOException {
+        synchronized (openFiles) {
+            PooledRrdDb pooled = openFiles.get(path);
+            if (pooled != null && isStale(path, pooled)) {
+                openFiles.remove(path);
+                evict(pooled);
+                pooled = null;
+            }
+            if (pooled == null) {
+                Object fileKey = getFileKey(path);
+                if (fileKey == null && !new File(path).exists()) {
+                    throw new FileNotFoundException(path);
+                }
+                closeIdle(System.currentTimeMillis());
+                pooled = new PooledRrdDb(new RrdDb(path, true), fileKey);
+                openFiles.put(path, pooled);
+            }
+            pooled.users++;
+            pooled.lastUsed = System.currentTimeMillis();
+            return pooled;
+        }
+    }
+
+    private void release(PooledRrdDb pooled) {
+        synchronized (openFiles) {
+            pooled.users--;
+            if (pooled.users == 0 && pooled.closed) {
+                close(pooled);
+            }
+        }
+    }
+
+    /**
+     * closes handles which have not been used for a while and, if the pool is still full, the least
+     * recently used ones. Must be called while holding the lock on openFiles.
+     */
+    private void closeIdle(long now) {
+        Iterator<PooledRrdDb> it = openFiles.values().iterator();
+        int open = openFiles.size();
+        while (it.hasNext()) {
+            PooledRrdDb pooled = it.next();
+            if (open < MAX_OPEN_FILES && now - pooled.lastUsed < MAX_IDLE_TIME) {
+                break;
+            }
+            it.remove();
+            open--;
+            evict(pooled);
+        }
+    }
+
+    /**
+     * closes handles which have been idle for too long or whose file has been deleted or replaced
+     */
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        synchronized (openFiles) {
+            Iterator<Map.Entry<String, PooledRrdDb>> it = openFiles.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, PooledRrdDb> entry = it.next();
+                PooledRrdDb pooled = entry.getValue();
+                if (now - pooled.lastUsed >= MAX_IDLE_TIME || isStale(entry.getKey(), pooled)) {
+                    logger.trace("closing rrd file '{}'", entry.getKey());
+                    it.remove();
+                    evict(pooled);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if the file of the handle has been deleted or replaced (e.g. by a rotation)
+     */
+    private boolean isStale(String path, PooledRrdDb pooled) {
+        Object fileKey = getFileKey(path);
+        if (fileKey == null) {
+            return !new File(path).exists();
+        }
+        return pooled.fileKey != null && !Objects.equals(fileKey, pooled.fileKey);
+    }
+
+    /**
+     * @return the key identifying the file (e.g. its inode), null if the file does not exist or the
+     *         file system does not provide a key
+     */
+    private Object getFileKey(String path) {
+        try {
+            return Files.readAttributes(Paths.get(path), BasicFileAttributes.class).fileKey();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * closes a handle removed from the pool as soon as it is not used anymore. Must be called while
+     * holding the lock on openFiles.
+     */
+    private void evict(PooledRrdDb pooled) {
+        pooled.closed = true;
+        if (pooled.users == 0) {
+            close(pooled);
+        }
+    }
+
+    private void close(PooledRrdDb pooled) {
+        try {
+            pooled.rrdDb.close();
+        } catch (IOException e) {
+            logger.debug("error closing rrd file '{}': {}", pooled.rrdDb.getPath(), e.getMessage());
+        }
+    }
+
+    /**
+     * closes all open rrd files and clears the cache
+     */
+    public void dispose() {
+        sweepJob.cancel(false);
+        synchronized (openFiles) {
+            for (PooledRrdDb pooled : openFiles.values()) {
+                evict(pooled);
+            }
+            openFiles.clear();
+        }
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static class PooledRrdDb {
+        private final RrdDb rrdDb;
+        private final Object fileKey;
+        private int users;
+        private long lastUsed;
+        private boolean closed;
+
+        PooledRrdDb(RrdDb rrdDb, Object fileKey) {
+            this.rrdDb = rrdDb;
+            this.fileKey = fileKey;
+        }
+    }
+
+    private static class CachedSeries {
+        private final ChartSeries series;
+        private final long expires;
+
+        CachedSeries(ChartSeries series, long expires) {
+            this.series = series;
+            this.expires = expires;
+        }
+    }
+}
@@ -10,18 +10,14 @@ package org.openhab.ui.cometvisu.internal.backend;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeMap;
 
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
@@ -46,16 +42,14 @@ import org.eclipse.smarthome.core.persistence.QueryablePersistenceService;
 import org.eclipse.smarthome.io.rest.RESTResource;
 import org.openhab.ui.cometvisu.internal.Config;
 import org.rrd4j.ConsolFun;
-import org.rrd4j.core.FetchData;
-import org.rrd4j.core.FetchRequest;
-import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.Util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * handles requests for chart series data from the CometVisu client
- * used by the diagram plugin
+ * used by the diagram plugin. The optional width parameter limits the number
+ * of returned points to what the diagram is able to show.
  *
  * @author Tobias Bräutigam
  *
@@ -64,24 +58,15 @@ import org.slf4j.LoggerFactory;
 public class ChartResource implements RESTResource {
     private final Logger logger = LoggerFactory.getLogger(ChartResource.class);
 
-    // pattern RRDTool uses to format doubles in XML files
-    static final String PATTERN = "0.0000000000E00";
-
-    static final DecimalFormat df;
-
     protected static final String RRD_FOLDER = org.eclipse.smarthome.config.core.ConfigConstants.getUserDataFolder()
             + File.separator + "persistence" + File.separator + "rrd4j";
 
-    static {
-        df = (DecimalFormat) NumberFormat.getNumberInstance(Locale.ENGLISH);
-        df.applyPattern(PATTERN);
-        // df.setPositivePrefix("+");
-    }
-
     protected static Map<String, QueryablePersistenceService> persistenceServices = new HashMap<String, QueryablePersistenceService>();
 
     private ItemRegistry itemRegistry;
 
+    private final ChartEngine chartEngine = new ChartEngine(RRD_FOLDER);
+
     @Context
     private UriInfo uriInfo;
 
@@ -107,11 +92,15 @@ public class ChartResource implements RESTResource {
         this.itemRegistry = null;
     }
 
+    protected void deactivate() {
+        chartEngine.dispose();
+    }
+
     @GET
     @Produces({ MediaType.APPLICATION_JSON })
     public Response getChartSeries(@Context HttpHeaders headers, @QueryParam("rrd") String itemName,
             @QueryParam("ds") String consFunction, @QueryParam("start") String start, @QueryParam("end") String end,
-            @QueryParam("res") long resolution) {
+            @QueryParam("res") long resolution, @QueryParam("width") int width) {
         if (logger.isDebugEnabled()) {
             logger.debug("Received GET request at '{}' for rrd '{}'.", uriInfo.getPath(), itemName);
         }
@@ -160,13 +149,14 @@ public class ChartResource implements RESTResource {
             } else {
                 logger.debug("using {} persistence for item {}", persistenceService.getId(), itemName);
             }
-            Object data = null;
+            ChartSeries data = null;
             if (persistenceService.getId().equals("rrd4j")) {
                 data = getRrdSeries(persistenceService, item, consilidationFunction, startTime, endTime, resolution);
             } else {
                 data = getPersistenceSeries(persistenceService, item, startTime, endTime, resolution);
             }
-            return Response.ok(data, responseType).build();
+            // reduce the series to the number of points the chart is able to show
+            return Response.ok(data.downsample(width), responseType).build();
         } catch (ItemNotFoundException e1) {
             logger.error("Item '{}' not found error while requesting series data.", itemName);
 
@@ -174,10 +164,8 @@ public class ChartResource implements RESTResource {
         return Response.serverError().build();
     }
 
-    public Object getPersistenceSeries(QueryablePersistenceService persistenceService, Item item, Date timeBegin,
-            Date timeEnd, long resolution) {
-        Map<Long, ArrayList<String>> data = new HashMap<Long, ArrayList<String>>();
-
+    public ChartSeries getPersistenceSeries(QueryablePersistenceService persistenceService, Item item,
+            Date timeBegin, Date timeEnd, long resolution) {
         // Define the data filter
         FilterCriteria filter = new FilterCriteria();
         filter.setBeginDate(timeBegin);
@@ -191,19 +179,26 @@ public class ChartResource implements RESTResource {
 
         // Iterate through the data
         int dataCounter = 0;
+        int rows = 0;
+        long[] timestamps = new long[64];
+        double[] values = new double[64];
         while (it.hasNext()) {
             dataCounter++;
             HistoricItem historicItem = it.next();
             org.eclipse.smarthome.core.types.State state = historicItem.getState();
             if (state instanceof DecimalType) {
-                ArrayList<String> vals = new ArrayList<String>();
-                vals.add(formatDouble(((DecimalType) state).doubleValue(), "null", true));
-                data.put(historicItem.getTimestamp().getTime(), vals);
+                if (rows == timestamps.length) {
+                    timestamps = Arrays.copyOf(timestamps, rows * 2);
+                    values = Arrays.copyOf(values, rows * 2);
+                }
+                timestamps[rows] = historicItem.getTimestamp().getTime();
+                values[rows] = ((DecimalType) state).doubleValue();
+                rows++;
             }
         }
         logger.debug("'{}' querying item '{}' from '{}' to '{}' => '{}' results", persistenceService.getId(),
                 filter.getItemName(), filter.getBeginDate(), filter.getEndDate(), dataCounter);
-        return convertToRrd(data);
+        return new ChartSeries(Arrays.copyOf(timestamps, rows), new double[][] { Arrays.copyOf(values, rows) });
     }
 
     /**
@@ -217,9 +212,8 @@ public class ChartResource implements RESTResource {
      * @param resolution
      * @return
      */
-    public Object getRrdSeries(QueryablePersistenceService persistenceService, Item item,
+    public ChartSeries getRrdSeries(QueryablePersistenceService persistenceService, Item item,
             ConsolFun consilidationFunction, Date timeBegin, Date timeEnd, long resolution) {
-        Map<Long, ArrayList<String>> data = new TreeMap<Long, ArrayList<String>>();
         try {
             List<String> itemNames = new ArrayList<String>();
 
@@ -231,10 +225,12 @@ public class ChartResource implements RESTResource {
             } else {
                 itemNames.add(item.getName());
             }
+            List<ChartSeries> series = new ArrayList<ChartSeries>(itemNames.size());
             for (String itemName : itemNames) {
-                addRrdData(data, itemName, consilidationFunction, timeBegin, timeEnd, resolution);
+                series.add(chartEngine.getSeries(itemName, consilidationFunction, Util.getTimestamp(timeBegin),
+                        Util.getTimestamp(timeEnd), resolution));
             }
-
+            return ChartSeries.merge(series);
         } catch (FileNotFoundException e) {
             // rrd file does not exist, fallback to generic persistance service
             logger.debug("no rrd file found '{}'", (RRD_FOLDER + File.separator + item.getName() + ".rrd"));
@@ -243,60 +239,5 @@ public class ChartResource implements RESTResource {
             logger.error("{}: fallback to generic persistance service", e.getLocalizedMessage());
             return getPersistenceSeries(persistenceService, item, timeBegin, timeEnd, resolution);
         }
-        return convertToRrd(data);
-    }
-
-    private ArrayList<Object> convertToRrd(Map<Long, ArrayList<String>> data) {
-        // sort data by key
-        Map<Long, ArrayList<String>> treeMap = new TreeMap<Long, ArrayList<String>>(data);
-        ArrayList<Object> rrd = new ArrayList<Object>();
-        for (Long time : treeMap.keySet()) {
-            Object[] entry = new Object[2];
-            entry[0] = time;
-            entry[1] = data.get(time);
-            rrd.add(entry);
-        }
-        return rrd;
-    }
-
-    private Map<Long, ArrayList<String>> addRrdData(Map<Long, ArrayList<String>> data, String itemName,
-            ConsolFun consilidationFunction, Date timeBegin, Date timeEnd, long resolution) throws IOException {
-        RrdDb rrdDb = new RrdDb(RRD_FOLDER + File.separator + itemName + ".rrd");
-        FetchRequest fetchRequest = rrdDb.createFetchRequest(consilidationFunction, Util.getTimestamp(timeBegin),
-                Util.getTimestamp(timeEnd), resolution);
-        FetchData fetchData = fetchRequest.fetchData();
-        // logger.info(fetchData.toString());
-        long[] timestamps = fetchData.getTimestamps();
-        double[][] values = fetchData.getValues();
-
-        logger.debug("RRD fetch returned '{}' rows and '{}' columns", fetchData.getRowCount(),
-                fetchData.getColumnCount());
-
-        for (int row = 0; row < fetchData.getRowCount(); row++) {
-            // change to microseconds
-            long time = timestamps[row] * 1000;
-
-            if (!data.containsKey(time)) {
-                data.put(time, new ArrayList<String>());
-            }
-            ArrayList<String> vals = data.get(time);
-            int indexOffset = vals.size();
-            for (int dsIndex = 0; dsIndex < fetchData.getColumnCount(); dsIndex++) {
-                vals.add(dsIndex + indexOffset, formatDouble(values[dsIndex][row], "null", true));
-            }
-        }
-        rrdDb.close();
-
-        return data;
-    }
-
-    static String formatDouble(double x, String nanString, boolean forceExponents) {
-        if (Double.isNaN(x)) {
-            return nanString;
-        }
-        if (forceExponents) {
-            return df.format(x);
-        }
-        return "" + x;
     }
 }
@@ -0,0 +1,250 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.ui.cometvisu.internal.backend;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * chart series data as primitive arrays: one timestamp per row and one value column
+ * per data source. Missing values are stored as {@link Double#NaN}.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class ChartSeries implements StreamingOutput {
+
+    // pattern RRDTool uses to format doubles in XML files
+    static final String PATTERN = "0.0000000000E00";
+
+    private static final String NAN_STRING = "null";
+
+    private static final ThreadLocal<DecimalFormat> FORMAT = new ThreadLocal<DecimalFormat>() {
+        @Override
+        protected DecimalFormat initialValue() {
+            DecimalFormat df = (DecimalFormat) NumberFormat.getNumberInstance(Locale.ENGLISH);
+            df.applyPattern(PATTERN);
+            return df;
+        }
+    };
+
+    static final ChartSeries EMPTY = new ChartSeries(new long[0], new double[0][]);
+
+    private final long[] timestamps;
+    private final double[][] values;
+
+    /**
+     * @param timestamps row timestamps in milliseconds, sorted ascending
+     * @param values value columns, each with the same length as timestamps
+     */
+    public ChartSeries(long[] timestamps, double[][] values) {
+        this.timestamps = timestamps;
+        this.values = values;
+    }
+
+    public int getRowCount() {
+        return timestamps.length;
+    }
+
+    public int getColumnCount() {
+        return values.length;
+    }
+
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    public double[][] getValues() {
+        return values;
+    }
+
+    /**
+     * merges several series into one, joining the rows by timestamp and appending the
+     * value columns in the order of the given list
+     */
+    public static ChartSeries merge(List<ChartSeries> series) {
+        if (series.isEmpty()) {
+            return EMPTY;
+        }
+        if (series.size() == 1) {
+            return series.get(0);
+        }
+        int total = 0;
+        int columns = 0;
+        for (ChartSeries s : series) {
+            total += s.getRowCount();
+            columns += s.getColumnCount();
+        }
+        long[] all = new long[total];
+        int pos = 0;
+        for (ChartSeries s : series) {
+            System.arraycopy(s.timestamps, 0, all, pos, s.timestamps.length);
+            pos += s.timestamps.length;
+        }
+        Arrays.sort(all);
+        int rows = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[i - 1]) {
+                all[rows++] = all[i];
+            }
+        }
+        long[] timestamps = Arrays.copyOf(all, rows);
+
+        double[][] values = new double[columns][];
+        int column = 0;
+        for (ChartSeries s : series) {
+            for (double[] source : s.values) {
+                double[] target = new double[rows];
+                Arrays.fill(target, Double.NaN);
+                int row = 0;
+                for (int i = 0; i < s.timestamps.length; i++) {
+                    while (timestamps[row] < s.timestamps[i]) {
+                        row++;
+                    }
+                    target[row] = source[i];
+                }
+                values[column++] = target;
+            }
+        }
+        return new ChartSeries(timestamps, values);
+    }
+
+    /**
+     * reduces the series to at most the given number of rows using the
+     * Largest-Triangle-Three-Buckets algorithm, which keeps the visual shape of the
+     * chart. The average over all columns of a row is used to select the rows.
+     *
+     * @param maxRows maximum number of rows, values below 3 disable downsampling
+     * @return the downsampled series or this series if no downsampling is required
+     */
+    public ChartSeries downsample(int maxRows) {
+        int rows = getRowCount();
+        if (maxRows < 3 || rows <= maxRows) {
+            return this;
+        }
+        double[] y = new double[rows];
+        for (int row = 0; row < rows; row++) {
+            y[row] = rowAverage(row);
+        }
+
+        int[] selected = new int[maxRows];
+        int count = 0;
+        selected[count++] = 0;
+
+        double bucketSize = (double) (rows - 2) / (maxRows - 2);
+        int a = 0;
+        for (int bucket = 0; bucket < maxRows - 2; bucket++) {
+            // average point of the next bucket
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, rows);
+            double avgX = 0;
+            double avgY = 0;
+            int avgCount = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                if (!Double.isNaN(y[i])) {
+                    avgX += timestamps[i];
+                    avgY += y[i];
+                    avgCount++;
+                }
+            }
+            if (avgCount > 0) {
+                avgX /= avgCount;
+                avgY /= avgCount;
+            } else {
+                avgX = timestamps[Math.min(nextStart, rows - 1)];
+                avgY = Double.isNaN(y[a]) ? 0 : y[a];
+            }
+
+            // point of the current bucket with the largest triangle area
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double ax = timestamps[a];
+            double ay = Double.isNaN(y[a]) ? avgY : y[a];
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int i = start; i < end; i++) {
+                if (Double.isNaN(y[i])) {
+                    continue;
+                }
+                double area = Math.abs((ax - avgX) * (y[i] - ay) - (ax - timestamps[i]) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+            selected[count++] = maxIndex;
+            a = maxIndex;
+        }
+        selected[count++] = rows - 1;
+
+        long[] sampledTimestamps = new long[count];
+        double[][] sampledValues = new double[values.length][count];
+        for (int i = 0; i < count; i++) {
+            sampledTimestamps[i] = timestamps[selected[i]];
+            for (int column = 0; column < values.length; column++) {
+                sampledValues[column][i] = values[column][selected[i]];
+            }
+        }
+        return new ChartSeries(sampledTimestamps, sampledValues);
+    }
+
+    private double rowAverage(int row) {
+        double sum = 0;
+        int count = 0;
+        for (double[] column : values) {
+            if (!Double.isNaN(column[row])) {
+                sum += column[row];
+                count++;
+            }
+        }
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    /**
+     * writes the series as json array of [[timestamp,[value1,value2,...]],...] with the values
+     * formatted the way RRDTool does
+     */
+    @Override
+    public void write(OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        DecimalFormat df = FORMAT.get();
+        writer.write('[');
+        for (int row = 0; row < timestamps.length; row++) {
+            if (row > 0) {
+                writer.write(',');
+            }
+            writer.write('[');
+            writer.write(Long.toString(timestamps[row]));
+            writer.write(",[");
+            for (int column = 0; column < values.length; column++) {
+                if (column > 0) {
+                    writer.write(',');
+                }
+                double value = values[column][row];
+                writer.write('"');
+                writer.write(Double.isNaN(value) ? NAN_STRING : df.format(value));
+                writer.write('"');
+            }
+            writer.write("]]");
+        }
+        writer.write(']');
+        writer.flush();
+    }
+}
@@ -8,10 +8,7 @@
  */
 package org.openhab.ui.cometvisu.internal.backend;
 
-import java.util.Map;
-
 import org.eclipse.smarthome.core.items.Item;
-import org.eclipse.smarthome.core.types.State;
 
 /**
  * Broadcast state change events of items to listening clients
@@ -20,15 +17,15 @@ import org.eclipse.smarthome.core.types.State;
  */
 public interface EventBroadcaster {
     /**
-     * Broadcasts an event described by the given parameters to all currently
-     * listening clients.
+     * Sends the state of the given item to all clients that have requested it.
      *
      * @param item
-     *            - the item that should be broadcasted
-     * @param eventObject
-     *            - bean that can be converted to a JSON object.
+     *            - the item which has changed
+     * @param typedOnly
+     *            - only notify clients that requested the state as a specific type,
+     *            used for group updates that do not change the group state itself
      */
-    public void broadcastEvent(final Object eventObject);
+    public void notifyStateChange(Item item, boolean typedOnly);
 
     /**
      * listens to state changes of the given item, if it is part of the
@@ -52,14 +49,4 @@ public interface EventBroadcaster {
      * listen for state changes from the requested items
      */
     public void registerItems();
-
-    /**
-     * lists all client item names and the associated type which must be notified
-     * when the item changes
-     *
-     * @param item
-     *            - the item that is listened to
-     * @return
-     */
-    public Map<String, Class<? extends State>> getClientItems(Item item);
 }
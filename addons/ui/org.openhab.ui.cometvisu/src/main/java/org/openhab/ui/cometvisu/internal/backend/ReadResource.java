@@ -15,8 +15,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -35,18 +37,17 @@ import org.eclipse.smarthome.core.items.ItemRegistry;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.io.rest.RESTResource;
 import org.glassfish.jersey.media.sse.EventOutput;
-import org.glassfish.jersey.media.sse.SseBroadcaster;
 import org.glassfish.jersey.media.sse.SseFeature;
 import org.openhab.ui.cometvisu.internal.Config;
 import org.openhab.ui.cometvisu.internal.backend.beans.StateBean;
 import org.openhab.ui.cometvisu.internal.listeners.StateEventListener;
-import org.openhab.ui.cometvisu.internal.util.SseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * handles read request from the CometVisu client every request initializes a
- * SSE communication
+ * SSE communication. Each client only receives the states of the items it has
+ * requested, state changes within a short time window are sent as one event.
  *
  * @author Tobias Bräutigam
  */
@@ -54,16 +55,19 @@ import org.slf4j.LoggerFactory;
 public class ReadResource implements EventBroadcaster, RESTResource {
     private final Logger logger = LoggerFactory.getLogger(ReadResource.class);
 
-    private SseBroadcaster broadcaster = new SseBroadcaster();
+    // time in milliseconds in which state changes are collected before being sent to a client
+    private static final long COALESCE_WINDOW = 100;
 
-    private final ExecutorService executorService;
+    private final SubscriptionIndex subscriptions = new SubscriptionIndex();
+
+    private final ScheduledExecutorService executorService;
 
     private ItemRegistry itemRegistry;
 
     private StateEventListener stateEventListener;
 
-    private List<String> itemNames = new ArrayList<String>();
-    private Map<Item, Map<String, Class<? extends State>>> items = new HashMap<Item, Map<String, Class<? extends State>>>();
+    private final AtomicLong eventsSent = new AtomicLong();
+    private final AtomicLong statesSent = new AtomicLong();
 
     @Context
     private UriInfo uriInfo;
@@ -77,11 +81,19 @@ public class ReadResource implements EventBroadcaster, RESTResource {
     private Collection<ItemFactory> itemFactories = new CopyOnWriteArrayList<ItemFactory>();
 
     public ReadResource() {
-        this.executorService = Executors.newSingleThreadExecutor();
+        this.executorService = Executors.newSingleThreadScheduledExecutor();
         this.stateEventListener = new StateEventListener();
         this.stateEventListener.setEventBroadcaster(this);
     }
 
+    protected void deactivate() {
+        executorService.shutdownNow();
+        for (SseSubscriber subscriber : subscriptions.getSubscribers()) {
+            removeSubscriber(subscriber);
+            subscriber.close();
+        }
+    }
+
     protected void setItemRegistry(ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
     }
@@ -114,15 +126,19 @@ public class ReadResource implements EventBroadcaster, RESTResource {
             @QueryParam("t") long time) throws IOException, InterruptedException {
         final EventOutput eventOutput = new EventOutput();
 
-        this.itemNames = itemNames;
-
-        broadcaster.add(eventOutput);
+        // clean up clients which disconnected without receiving an update since
+        for (SseSubscriber subscriber : subscriptions.getSubscribers()) {
+            if (subscriber.isClosed()) {
+                removeSubscriber(subscriber);
+            }
+        }
 
         // get all requested items and send their states to the client
-        items = new HashMap<Item, Map<String, Class<? extends State>>>();
+        Map<String, Map<String, Class<? extends State>>> items = new HashMap<>();
+        List<Item> requestedItems = new ArrayList<Item>();
+        List<StateBean> states = new ArrayList<StateBean>();
         // send the current states of all items to the client
         if (this.itemRegistry != null) {
-            List<StateBean> states = new ArrayList<StateBean>();
             for (String cvItemName : itemNames) {
                 try {
                     String[] parts = cvItemName.split(":");
@@ -140,10 +156,11 @@ public class ReadResource implements EventBroadcaster, RESTResource {
                         ohItemName = parts[1];
                     }
                     Item item = this.itemRegistry.getItem(ohItemName);
-                    if (!items.containsKey(item)) {
-                        items.put(item, new HashMap<String, Class<? extends State>>());
+                    if (!items.containsKey(item.getName())) {
+                        items.put(item.getName(), new HashMap<String, Class<? extends State>>());
+                        requestedItems.add(item);
                     }
-                    items.get(item).put(cvItemName, stateClass);
+                    items.get(item.getName()).put(cvItemName, stateClass);
                     StateBean itemState = new StateBean();
                     itemState.name = cvItemName;
 
@@ -158,24 +175,42 @@ public class ReadResource implements EventBroadcaster, RESTResource {
                     logger.error("{}", e.getLocalizedMessage());
                 }
             }
-            logger.debug("initially broadcasting {}/{} item states", states.size(), itemNames.size());
-            broadcaster.broadcast(SseUtil.buildEvent(states));
+            logger.debug("initially sending {}/{} item states", states.size(), itemNames.size());
         }
+        SseSubscriber subscriber = new SseSubscriber(eventOutput, items);
+        subscriber.send(states);
+        subscriptions.add(subscriber);
+
         // listen to state changes of the requested items
-        registerItems();
+        for (Item item : requestedItems) {
+            registerItem(item);
+        }
+        logger.debug("client connected, {} clients listening to {} items", getClientCount(),
+                subscriptions.getItemNames().size());
 
         return eventOutput;
     }
 
+    private void removeSubscriber(SseSubscriber subscriber) {
+        subscriptions.remove(subscriber, itemName -> {
+            // no client is interested in this item anymore
+            if (itemRegistry != null) {
+                unregisterItem(itemRegistry.get(itemName));
+            }
+        });
+        logger.debug("client disconnected, {} clients remaining", getClientCount());
+    }
+
     /**
      * listen for state changes from the requested items
      */
     @Override
     public void registerItems() {
-        for (Item item : items.keySet()) {
-            if (item instanceof GenericItem) {
-                ((GenericItem) item).addStateChangeListener(stateEventListener);
-            }
+        if (itemRegistry == null) {
+            return;
+        }
+        for (String itemName : subscriptions.getItemNames()) {
+            registerItem(itemRegistry.get(itemName));
         }
     }
 
@@ -188,50 +223,113 @@ public class ReadResource implements EventBroadcaster, RESTResource {
      */
     @Override
     public void registerItem(Item item) {
-        if (item == null || items.containsKey(item) || !itemNames.contains(item.getName())) {
-            return;
-        }
         if (item instanceof GenericItem) {
-            ((GenericItem) item).addStateChangeListener(stateEventListener);
+            subscriptions.ifSubscribed(item.getName(),
+                    itemName -> ((GenericItem) item).addStateChangeListener(stateEventListener));
         }
     }
 
     /**
-     * listens to state changes of the given item, if it is part of the
-     * requested items
+     * stops listening to state changes of the given item
      *
      * @param item
-     *            - the new item, that should be listened to
+     *            - the item, that should not be listened to anymore
      */
     @Override
     public void unregisterItem(Item item) {
-        if (item == null || items.containsKey(item) || !itemNames.contains(item.getName())) {
-            return;
-        }
         if (item instanceof GenericItem) {
             ((GenericItem) item).removeStateChangeListener(stateEventListener);
-            items.remove(item);
         }
     }
 
     /**
-     * Broadcasts an event described by the given parameters to all currently
-     * listening clients.
+     * Queues the new state of the item for all clients that requested it.
      *
      * @param item
      *            - the item which has changed
-     * @param eventObject
-     *            - bean that can be converted to a JSON object.
+     * @param typedOnly
+     *            - only notify clients that requested a specific state type
      */
     @Override
-    public void broadcastEvent(final Object eventObject) {
-        executorService.execute(() -> {
-            broadcaster.broadcast(SseUtil.buildEvent(eventObject));
-        });
+    public void notifyStateChange(Item item, boolean typedOnly) {
+        // the same CometVisu item name always refers to the same state type, so its state is only computed once
+        Map<String, String> cvStates = new HashMap<String, String>();
+        for (SseSubscriber subscriber : subscriptions.getSubscribers(item.getName())) {
+            for (Map.Entry<String, Class<? extends State>> clientItem : subscriber.getClientItems(item.getName())
+                    .entrySet()) {
+                Class<? extends State> stateClass = clientItem.getValue();
+                if (typedOnly && stateClass == null) {
+                    continue;
+                }
+                String cvItemName = clientItem.getKey();
+                String state = cvStates.get(cvItemName);
+                if (state == null) {
+                    state = stateClass != null ? item.getStateAs(stateClass).toString()
+                            : item.getState().toString();
+                    cvStates.put(cvItemName, state);
+                }
+                if (subscriber.queue(cvItemName, state)) {
+                    scheduleFlush(subscriber);
+                }
+            }
+        }
     }
 
-    @Override
-    public Map<String, Class<? extends State>> getClientItems(Item item) {
-        return items.get(item);
+    private void scheduleFlush(final SseSubscriber subscriber) {
+        try {
+            executorService.schedule(() -> flush(subscriber), COALESCE_WINDOW, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // executor has been shut down
+            logger.debug("could not schedule state update: {}", e.getMessage());
+        }
+    }
+
+    private void flush(SseSubscriber subscriber) {
+        List<StateBean> states = subscriber.drain();
+        if (subscriber.isClosed()) {
+            removeSubscriber(subscriber);
+            return;
+        }
+        try {
+            subscriber.send(states);
+            eventsSent.incrementAndGet();
+            statesSent.addAndGet(states.size());
+        } catch (IOException e) {
+            logger.debug("could not send states to client: {}", e.getMessage());
+            removeSubscriber(subscriber);
+            subscriber.close();
+        }
+    }
+
+    /**
+     * @return the number of connected clients
+     */
+    public int getClientCount() {
+        return subscriptions.getSubscribers().size();
+    }
+
+    /**
+     * @return the number of events sent to clients
+     */
+    public long getEventsSent() {
+        return eventsSent.get();
+    }
+
+    /**
+     * @return the number of item states fanned out to clients
+     */
+    public long getStatesSent() {
+        return statesSent.get();
+    }
+
+    /**
+     * @return the number of item states waiting to be sent to clients
+     */
+    public int getQueueBacklog() {
+        int backlog = 0;
+        for (SseSubscriber subscriber : subscriptions.getSubscribers()) {
+            backlog += subscriber.getBacklog();
+        }
+        return backlog;
     }
 }
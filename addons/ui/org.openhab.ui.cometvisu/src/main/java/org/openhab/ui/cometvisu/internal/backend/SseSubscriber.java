@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.ui.cometvisu.internal.backend;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.smarthome.core.types.State;
+import org.glassfish.jersey.media.sse.EventOutput;
+import org.openhab.ui.cometvisu.internal.backend.beans.StateBean;
+import org.openhab.ui.cometvisu.internal.util.SseUtil;
+
+/**
+ * a connected CometVisu client with the items it has requested and the state
+ * changes waiting to be sent to it
+ *
+ * @author agent - Initial contribution
+ */
+public class SseSubscriber {
+
+    private final EventOutput eventOutput;
+
+    // openHAB item name -> CometVisu item name -> requested state type (or null)
+    private final Map<String, Map<String, Class<? extends State>>> items;
+
+    // CometVisu item name -> state, only the last state of an item is kept
+    private final Map<String, String> pendingStates = new LinkedHashMap<String, String>();
+
+    private boolean flushScheduled;
+
+    public SseSubscriber(EventOutput eventOutput, Map<String, Map<String, Class<? extends State>>> items) {
+        this.eventOutput = eventOutput;
+        this.items = items;
+    }
+
+    /**
+     * @return the names of the openHAB items this client has requested
+     */
+    public Set<String> getItemNames() {
+        return items.keySet();
+    }
+
+    /**
+     * lists all client item names and the associated type which must be notified
+     * when the item changes
+     *
+     * @param itemName
+     *            - the openHAB item name
+     * @return
+     */
+    public Map<String, Class<? extends State>> getClientItems(String itemName) {
+        Map<String, Class<? extends State>> clientItems = items.get(itemName);
+        return clientItems != null ? clientItems : Collections.<String, Class<? extends State>> emptyMap();
+    }
+
+    /**
+     * queues a state to be sent with the next flush, replacing a pending state of
+     * the same item
+     *
+     * @return true if no flush is scheduled yet and the caller has to schedule one
+     */
+    public synchronized boolean queue(String cvItemName, String state) {
+        pendingStates.put(cvItemName, state);
+        if (flushScheduled) {
+            return false;
+        }
+        flushScheduled = true;
+        return true;
+    }
+
+    /**
+     * removes and returns all pending states
+     */
+    public synchronized List<StateBean> drain() {
+        List<StateBean> states = new ArrayList<StateBean>(pendingStates.size());
+        for (Map.Entry<String, String> entry : pendingStates.entrySet()) {
+            StateBean stateBean = new StateBean();
+            stateBean.name = entry.getKey();
+            stateBean.state = entry.getValue();
+            states.add(stateBean);
+        }
+        pendingStates.clear();
+        flushScheduled = false;
+        return states;
+    }
+
+    /**
+     * @return the number of states waiting to be sent
+     */
+    public synchronized int getBacklog() {
+        return pendingStates.size();
+    }
+
+    public boolean isClosed() {
+        return eventOutput.isClosed();
+    }
+
+    /**
+     * sends the given states as one event to the client
+     */
+    public void send(List<StateBean> states) throws IOException {
+        eventOutput.write(SseUtil.buildEvent(states));
+    }
+
+    public void close() {
+        try {
+            eventOutput.close();
+        } catch (IOException e) {
+            // the client has already disconnected
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.ui.cometvisu.internal.backend;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * maps openHAB item names to the connected clients that requested them, so that a
+ * state change is only sent to the clients which are interested in it. Actions on the first
+ * and last subscription of an item are run atomically with the change of its subscribers.
+ *
+ * @author agent - Initial contribution
+ */
+public class SubscriptionIndex {
+
+    private final Map<String, Set<SseSubscriber>> subscribersByItem = new ConcurrentHashMap<>();
+
+    private final Set<SseSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public void add(SseSubscriber subscriber) {
+        subscribers.add(subscriber);
+        for (String itemName : subscriber.getItemNames()) {
+            subscribersByItem.compute(itemName, (name, set) -> {
+                Set<SseSubscriber> result = set != null ? set : ConcurrentHashMap.<SseSubscriber> newKeySet();
+                result.add(subscriber);
+                return result;
+            });
+        }
+    }
+
+    /**
+     * removes the subscriber from the index
+     *
+     * @param onUnsubscribed called with each item name no client is subscribed to anymore, while no
+     *            other client can subscribe to that item
+     */
+    public void remove(SseSubscriber subscriber, Consumer<String> onUnsubscribed) {
+        if (subscribers.remove(subscriber)) {
+            for (String itemName : subscriber.getItemNames()) {
+                subscribersByItem.computeIfPresent(itemName, (name, set) -> {
+                    set.remove(subscriber);
+                    if (set.isEmpty()) {
+                        onUnsubscribed.accept(name);
+                        return null;
+                    }
+                    return set;
+                });
+            }
+        }
+    }
+
+    public Set<SseSubscriber> getSubscribers(String itemName) {
+        Set<SseSubscriber> result = subscribersByItem.get(itemName);
+        return result != null ? result : Collections.<SseSubscriber> emptySet();
+    }
+
+    /**
+     * runs the action if a client is subscribed to the item, while no client can unsubscribe from it
+     *
+     * @return true if a client is subscribed to the item
+     */
+    public boolean ifSubscribed(String itemName, Consumer<String> action) {
+        return subscribersByItem.computeIfPresent(itemName, (name, set) -> {
+            action.accept(name);
+            return set;
+        }) != null;
+    }
+
+    public Set<String> getItemNames() {
+        return subscribersByItem.keySet();
+    }
+
+    public Set<SseSubscriber> getSubscribers() {
+        return subscribers;
+    }
+}